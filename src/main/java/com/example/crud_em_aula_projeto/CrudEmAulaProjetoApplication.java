@@ -2,8 +2,10 @@ package com.example.crud_em_aula_projeto;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CrudEmAulaProjetoApplication {
 
     public static void main(String[] args) {
@@ -10,6 +10,13 @@ public class AuthDTO {
             @NotBlank String password
     ) {}
     public record TokenResponse(
-            String token
+            String token,
+            String refreshToken
+    ) {}
+    public record RefreshRequest(
+            @NotBlank String refreshToken
+    ) {}
+    public record LogoutRequest(
+            String refreshToken
     ) {}
 }
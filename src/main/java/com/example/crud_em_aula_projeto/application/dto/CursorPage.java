@@ -0,0 +1,27 @@
+package com.example.crud_em_aula_projeto.application.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de uma listagem por keyset: os itens e o cursor opaco da próxima página
+ * ({@code null} na última). Não há total, então nenhuma consulta faz {@code COUNT(*)}.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code limit + 1} linhas: a linha
+     * extra só indica que existe continuação e não é devolvida.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = List.copyOf(fetched.subList(0, limit));
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
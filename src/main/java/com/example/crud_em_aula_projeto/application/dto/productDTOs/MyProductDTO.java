@@ -2,6 +2,7 @@ package com.example.crud_em_aula_projeto.application.dto.productDTOs;
 
 import com.example.crud_em_aula_projeto.domain.model.entity.Product;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.projection.CollaboratorProduct;
 
 import java.util.UUID;
 
@@ -25,4 +26,16 @@ public record MyProductDTO(
                 product.getImageUrl()
         );
     }
+
+    public MyProductDTO(CollaboratorProduct product) {
+        this(
+                product.id(),
+                product.title(),
+                product.description(),
+                product.price(),
+                product.quantity(),
+                product.productStatus(),
+                product.imageUrl()
+        );
+    }
 }
@@ -0,0 +1,14 @@
+package com.example.crud_em_aula_projeto.application.dto.productDTOs;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ProductBulkPatchDTO(
+        @NotEmpty @Size(max = ProductBulkPatchDTO.MAX_ITEMS) List<@NotNull @Valid ProductPatchDTO> items
+) {
+    public static final int MAX_ITEMS = 5000;
+}
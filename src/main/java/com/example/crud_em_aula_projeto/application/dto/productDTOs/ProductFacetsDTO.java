@@ -0,0 +1,21 @@
+package com.example.crud_em_aula_projeto.application.dto.productDTOs;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contagens da vitrine para um filtro. {@code total} aplica categorias e faixa de preço;
+ * {@code categories} aplica só a faixa de preço, para mostrar quanto cada categoria teria;
+ * {@code priceHistogram} conta as categorias filtradas em faixas de mesma largura.
+ */
+public record ProductFacetsDTO(
+        long total,
+        Map<ProductCategory, Long> categories,
+        List<PriceBucket> priceHistogram
+) {
+    /** Produtos com preço em [from, to); a última faixa inclui {@code to}. */
+    public record PriceBucket(double from, double to, long count) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.crud_em_aula_projeto.application.dto.productDTOs;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em lote. {@code errors} traz no máximo os primeiros
+ * {@code ProductImportService.MAX_REPORTED_ERRORS} erros; {@code failed} conta todos.
+ * {@code interruption} é nulo quando o arquivo foi lido até o fim; senão diz onde e por que
+ * a leitura parou (o que foi gravado até ali continua gravado).
+ */
+public record ProductImportResultDTO(
+        long imported,
+        long failed,
+        List<RowError> errors,
+        String interruption
+) {
+    /** Linha do arquivo (a partir de 1, contando o cabeçalho no CSV) e o motivo da recusa. */
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.crud_em_aula_projeto.application.dto.productDTOs;
+
+/**
+ * Uma linha lida do arquivo de importação: o produto ou, se a linha nem chegou a ser
+ * convertida (JSON malformado, número inválido...), o erro de leitura.
+ */
+public record ProductImportRow(long line, ProductRequestDTO product, String error) {
+
+    public static ProductImportRow of(long line, ProductRequestDTO product) {
+        return new ProductImportRow(line, product, null);
+    }
+
+    public static ProductImportRow invalid(long line, String error) {
+        return new ProductImportRow(line, null, error);
+    }
+}
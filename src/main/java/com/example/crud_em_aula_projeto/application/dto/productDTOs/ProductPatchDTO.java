@@ -0,0 +1,21 @@
+package com.example.crud_em_aula_projeto.application.dto.productDTOs;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.UUID;
+
+/**
+ * Um item de {@code PATCH /api/products/bulk}: só os campos informados mudam. Sem
+ * {@code productStatus}, o status segue o estoque (quantidade zero deixa o produto
+ * OUT_OF_STOCK, reposição o devolve a AVAILABLE).
+ */
+public record ProductPatchDTO(
+        @NotNull UUID productId,
+        @Positive Double price,
+        @PositiveOrZero Integer quantity,
+        ProductStatus productStatus
+) {
+}
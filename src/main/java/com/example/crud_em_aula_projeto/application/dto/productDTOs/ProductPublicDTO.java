@@ -2,6 +2,7 @@ package com.example.crud_em_aula_projeto.application.dto.productDTOs;
 
 import com.example.crud_em_aula_projeto.domain.model.entity.Product;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.projection.CatalogProduct;
 
 import java.util.UUID;
 
@@ -27,4 +28,17 @@ public record ProductPublicDTO(
                 product.getCollaborator().getName()
         );
     }
+
+    public ProductPublicDTO(CatalogProduct product) {
+        this(
+                product.id(),
+                product.title(),
+                product.description(),
+                product.price(),
+                product.imageUrl(),
+                product.productCategory(),
+                product.collaboratorId(),
+                product.collaboratorName()
+        );
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.crud_em_aula_projeto.application.dto.productDTOs;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductStock;
+
+import java.util.UUID;
+
+/** Preço, estoque e status de um produto: como a atualização em lote os devolve. */
+public record ProductStockDTO(
+        UUID id,
+        UUID collaboratorId,
+        Double price,
+        Integer quantity,
+        ProductStatus productStatus
+) {
+    public ProductStockDTO(ProductStock product) {
+        this(product.id(), product.collaboratorId(), product.price(), product.quantity(), product.productStatus());
+    }
+}
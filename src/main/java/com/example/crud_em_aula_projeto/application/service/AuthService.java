@@ -1,14 +1,24 @@
 package com.example.crud_em_aula_projeto.application.service;
 
 import com.example.crud_em_aula_projeto.application.dto.AuthDTO;
+import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
 import com.example.crud_em_aula_projeto.domain.model.entity.Usuario;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.model.projection.UsuarioCredentials;
 import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.JwtClaims;
 import com.example.crud_em_aula_projeto.infrastructure.security.JwtService;
+import com.example.crud_em_aula_projeto.infrastructure.security.PasswordRehasher;
+import com.example.crud_em_aula_projeto.infrastructure.security.RevokedTokenStore;
+import com.example.crud_em_aula_projeto.infrastructure.security.TokenVersionRegistry;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -16,15 +26,66 @@ public class AuthService {
     private final UsuarioRepository usuarios;
     private final PasswordEncoder encoder;
     private final JwtService jwt;
+    private final TokenVersionRegistry tokenVersions;
+    private final PasswordRehasher rehasher;
+    private final RefreshTokenService refreshTokens;
+    private final RevokedTokenStore revokedTokens;
 
-    public String login(AuthDTO.LoginRequest req) {
-        Usuario usuario = usuarios.findByEmail(req.email())
+    public AuthDTO.TokenResponse login(AuthDTO.LoginRequest req) {
+        // Só a tabela usuarios (id, email, hash, role, active): sem joins da herança
+        UsuarioCredentials credentials = usuarios.findCredentialsByEmail(req.email())
                 .orElseThrow(() ->  new RuntimeException("Usuário não encontrado"));
 
-        if (!encoder.matches(req.password(), usuario.getPasswordHash())) {
+        // Antes do BCrypt: no modo stateless o token emitido aqui é a única barreira ao inativo
+        if (!credentials.isActive()) {
+            throw new BadCredentialsException("Usuário inativo");
+        }
+
+        if (!encoder.matches(req.password(), credentials.passwordHash())) {
             throw new BadCredentialsException("Credenciais inválidas");
         }
 
-        return jwt.generateToken(usuario.getEmail(), usuario.getRole().name());
+        // Hash com custo diferente do calibrado: refaz em segundo plano, sem atrasar a resposta
+        if (encoder.upgradeEncoding(credentials.passwordHash())) {
+            rehasher.rehashLater(credentials.id(), req.password(), credentials.passwordHash());
+        }
+
+        // BCrypt só aqui: a sessão segue pelo refresh token, sem nova verificação de senha
+        String refreshToken = refreshTokens.issue(usuarios.getReferenceById(credentials.id()));
+        return new AuthDTO.TokenResponse(accessToken(credentials.id(), credentials.email(), credentials.role()), refreshToken);
+    }
+
+    public AuthDTO.TokenResponse refresh(AuthDTO.RefreshRequest req) {
+        RefreshTokenService.Rotation rotation = refreshTokens.rotate(req.refreshToken());
+        Usuario usuario = rotation.usuario();
+        return new AuthDTO.TokenResponse(accessToken(usuario.getId(), usuario.getEmail(), usuario.getRole()), rotation.refreshToken());
+    }
+
+    // Revoga o token de acesso apresentado (até o exp dele) e, se enviado, a família do refresh token
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                JwtClaims claims = jwt.parseAndVerify(accessToken);
+                revokedTokens.revoke(claims.tokenId(), claims.expiresAt());
+            } catch (JwtException | IllegalArgumentException e) {
+                // Token inválido ou expirado já não autentica: nada a revogar
+            }
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokens.revoke(refreshToken);
+        }
+    }
+
+    // Encerra todas as sessões: tokens de acesso pela versão do usuário, refresh tokens no banco
+    public void revokeAllSessions(UUID userId) {
+        if (!usuarios.existsById(userId)) {
+            throw new ResourceNotFoundException("Usuário não encontrado com o ID: " + userId);
+        }
+        tokenVersions.bump(userId);
+        refreshTokens.revokeAll(userId);
+    }
+
+    private String accessToken(UUID id, String email, Role role) {
+        return jwt.generateToken(id, email, role.name(), tokenVersions.currentVersion(id));
     }
 }
\ No newline at end of file
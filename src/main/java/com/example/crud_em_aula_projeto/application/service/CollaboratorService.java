@@ -1,14 +1,20 @@
 package com.example.crud_em_aula_projeto.application.service;
 
 
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
 import com.example.crud_em_aula_projeto.application.dto.collaboratorDTOs.CollaboratorRequestDTO;
 import com.example.crud_em_aula_projeto.application.dto.collaboratorDTOs.CollaboratorResponseDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
 import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
 import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
 import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
 import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
 import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.RegisteredEmailIndex;
+import com.example.crud_em_aula_projeto.infrastructure.security.TokenVersionRegistry;
+import com.example.crud_em_aula_projeto.infrastructure.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -23,13 +29,19 @@ public class CollaboratorService {
     private final CollaboratorRepository collaboratorRepository;
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersions;
+    private final UserDetailsCache userDetailsCache;
+    private final RegisteredEmailIndex registeredEmails;
+    private final ApplicationEventPublisher events;
 
     public CollaboratorResponseDTO create(CollaboratorRequestDTO requestDTO) {
-        if (usuarioRepository.findByEmail(requestDTO.email()).isPresent()) {
+        // Checagem rápida; cadastros concorrentes são barrados pela constraint única
+        if (registeredEmails.isRegistered(requestDTO.email())) {
             throw new BusinessRuleException("E-mail já está em uso");
         }
         Collaborator newCollaborator = requestDTO.toEntity(passwordEncoder);
         collaboratorRepository.save(newCollaborator);
+        registeredEmails.add(newCollaborator.getEmail());
         return new CollaboratorResponseDTO(newCollaborator);
     }
 
@@ -39,11 +51,10 @@ public class CollaboratorService {
         return new CollaboratorResponseDTO(collaborator);
     }
 
-    public List<CollaboratorResponseDTO> findAllActive() {
-        return collaboratorRepository.findAllByActiveTrue()
-                .stream()
-                .map(CollaboratorResponseDTO::new)
-                .collect(Collectors.toList());
+    public CursorPage<CollaboratorResponseDTO> findAllActive(String after, int limit) {
+        List<Collaborator> collaborators = collaboratorRepository.findActivePage(PageCursor.afterId(after), PageCursor.fetchLimit(limit));
+        return CursorPage.of(collaborators, limit, collaborator -> PageCursor.of(collaborator.getId()))
+                .map(CollaboratorResponseDTO::new);
     }
 
     public List<CollaboratorResponseDTO> findAllOrderedByActive() {
@@ -70,10 +81,14 @@ public class CollaboratorService {
         Collaborator collaborator = collaboratorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Collaborator not found with id: " + id));
 
-        if (!collaborator.getEmail().equals(requestDTO.email()) && usuarioRepository.findByEmail(requestDTO.email()).isPresent()) {
+        if (!collaborator.getEmail().equals(requestDTO.email()) && registeredEmails.isRegistered(requestDTO.email())) {
             throw new BusinessRuleException("E-mail já está em uso");
         }
 
+        // Email antigo e novo: a entrada em cache pode estar em qualquer um dos dois
+        userDetailsCache.invalidate(collaborator.getEmail());
+        userDetailsCache.invalidate(requestDTO.email());
+        boolean renamed = !collaborator.getName().equals(requestDTO.name());
         collaborator.setName(requestDTO.name());
         collaborator.setEmail(requestDTO.email());
         if (requestDTO.password() != null && !requestDTO.password().isEmpty()) {
@@ -81,6 +96,11 @@ public class CollaboratorService {
         }
 
         collaboratorRepository.save(collaborator);
+        registeredEmails.add(collaborator.getEmail());
+        if (renamed) {
+            // O nome do colaborador aparece na vitrine
+            events.publishEvent(ProductsChangedEvent.ofCollaborator(id));
+        }
         return new CollaboratorResponseDTO(collaborator);
     }
 
@@ -89,12 +109,17 @@ public class CollaboratorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Collaborator not found with id: " + id));
         collaborator.setActive(false);
         collaboratorRepository.save(collaborator);
+        userDetailsCache.invalidate(collaborator.getEmail());
+        // Invalida os tokens já emitidos para o colaborador
+        tokenVersions.bump(id);
     }
 
     public void deleteCollaborator(UUID id) {
         Collaborator collaborator = collaboratorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Collaborator not found with id: " + id));
         collaboratorRepository.delete(collaborator);
+        userDetailsCache.invalidate(collaborator.getEmail());
+        tokenVersions.bump(id);
     }
 
     public void activate(UUID id) {
@@ -102,6 +127,7 @@ public class CollaboratorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Collaborator not found with id: " + id));
         collaborator.setActive(true);
         collaboratorRepository.save(collaborator);
+        userDetailsCache.invalidate(collaborator.getEmail());
     }
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.crud_em_aula_projeto.application.service;
 
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
 import com.example.crud_em_aula_projeto.application.dto.customerDTOs.CustomerRequestDTO;
 import com.example.crud_em_aula_projeto.application.dto.customerDTOs.CustomerResponseDTO;
 import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
@@ -7,6 +8,9 @@ import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundExcepti
 import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
 import com.example.crud_em_aula_projeto.domain.repository.CustomerRepository;
 import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.RegisteredEmailIndex;
+import com.example.crud_em_aula_projeto.infrastructure.security.TokenVersionRegistry;
+import com.example.crud_em_aula_projeto.infrastructure.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -14,7 +18,6 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,13 +25,18 @@ public class CustomerService {
     private final CustomerRepository customerRepository;
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersions;
+    private final UserDetailsCache userDetailsCache;
+    private final RegisteredEmailIndex registeredEmails;
 
     public CustomerResponseDTO createCustomer(CustomerRequestDTO customerRequestDTO) {
-        if (usuarioRepository.findByEmail(customerRequestDTO.email()).isPresent()) {
+        // Checagem rápida; cadastros concorrentes são barrados pela constraint única
+        if (registeredEmails.isRegistered(customerRequestDTO.email())) {
             throw new BusinessRuleException("E-mail já está em uso");
         }
         Customer customer = customerRequestDTO.toEntity(passwordEncoder);
         Customer savedCustomer = customerRepository.save(customer);
+        registeredEmails.add(savedCustomer.getEmail());
         return new CustomerResponseDTO(savedCustomer);
     }
 
@@ -45,6 +53,9 @@ public class CustomerService {
         return customerRepository.findById(id).map(customer -> {
             customer.setActive(false);
             Customer savedCustomer = customerRepository.save(customer);
+            userDetailsCache.invalidate(customer.getEmail());
+            // Invalida os tokens já emitidos para o cliente
+            tokenVersions.bump(id);
             return new CustomerResponseDTO(savedCustomer);
         });
     }
@@ -53,6 +64,7 @@ public class CustomerService {
         return customerRepository.findById(id).map(customer -> {
             customer.setActive(true);
             Customer savedCustomer = customerRepository.save(customer);
+            userDetailsCache.invalidate(customer.getEmail());
             return new CustomerResponseDTO(savedCustomer);
         });
     }
@@ -61,23 +73,28 @@ public class CustomerService {
         Customer customer = customerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o ID: " + id));
         customerRepository.delete(customer);
+        userDetailsCache.invalidate(customer.getEmail());
+        tokenVersions.bump(id);
     }
 
-    public List<CustomerResponseDTO> findAllActive(){
-        return customerRepository.findAllByActiveTrue().stream()
-                .map(CustomerResponseDTO::new)
-                .collect(Collectors.toList());
+    public CursorPage<CustomerResponseDTO> findAllActive(String after, int limit){
+        List<Customer> customers = customerRepository.findActivePage(PageCursor.afterId(after), PageCursor.fetchLimit(limit));
+        return CursorPage.of(customers, limit, customer -> PageCursor.of(customer.getId())).map(CustomerResponseDTO::new);
     }
 
     public Optional<CustomerResponseDTO> updateCustomer(UUID id, CustomerRequestDTO customerRequestDTO){
         return customerRepository.findById(id).map(customer -> {
-            if (!customer.getEmail().equals(customerRequestDTO.email()) && usuarioRepository.findByEmail(customerRequestDTO.email()).isPresent()) {
+            if (!customer.getEmail().equals(customerRequestDTO.email()) && registeredEmails.isRegistered(customerRequestDTO.email())) {
                 throw new BusinessRuleException("E-mail já está em uso");
             }
+            // Email antigo e novo: a entrada em cache pode estar em qualquer um dos dois
+            userDetailsCache.invalidate(customer.getEmail());
+            userDetailsCache.invalidate(customerRequestDTO.email());
             customer.setName(customerRequestDTO.name());
             customer.setEmail(customerRequestDTO.email());
             customer.setPasswordHash(passwordEncoder.encode(customerRequestDTO.password()));
             Customer updatedCustomer = customerRepository.save(customer);
+            registeredEmails.add(updatedCustomer.getEmail());
             return new CustomerResponseDTO(updatedCustomer);
         });
     }
@@ -1,10 +1,11 @@
 package com.example.crud_em_aula_projeto.application.service;
 
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
 import com.example.crud_em_aula_projeto.application.dto.orderDTOs.OrderResponseDTO;
 import com.example.crud_em_aula_projeto.application.dto.orderDTOs.SalesResponseDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
 import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
 import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
-import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
 import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
 import com.example.crud_em_aula_projeto.domain.model.entity.Order;
 import com.example.crud_em_aula_projeto.domain.model.entity.OrderItem;
@@ -13,18 +14,16 @@ import com.example.crud_em_aula_projeto.domain.model.entity.Shopping;
 import com.example.crud_em_aula_projeto.domain.model.entity.ShoppingItem;
 import com.example.crud_em_aula_projeto.domain.model.enuns.OrderStatus;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
-import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
-import com.example.crud_em_aula_projeto.domain.repository.CustomerRepository;
 import com.example.crud_em_aula_projeto.domain.repository.OrderRepository;
 import com.example.crud_em_aula_projeto.domain.repository.ShoppingRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.AuthenticatedUserResolver;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,12 +31,12 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final ShoppingRepository shoppingRepository;
-    private final CustomerRepository customerRepository;
-    private final CollaboratorRepository collaboratorRepository;
+    private final AuthenticatedUserResolver authenticatedUser;
+    private final ApplicationEventPublisher events;
 
     @Transactional
     public OrderResponseDTO createOrderFromShopping() {
-        Customer customer = getAuthenticatedCustomer();
+        Customer customer = authenticatedUser.currentCustomer();
         Shopping shopping = shoppingRepository.findByCustomerId(customer.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Carrinho de compras não encontrado"));
 
@@ -88,21 +87,24 @@ public class OrderService {
 
         // Salva o pedido
         Order savedOrder = orderRepository.save(order);
+        // Estoque/status mudaram: a vitrine recarrega esses produtos após o commit
+        events.publishEvent(ProductsChangedEvent.ofProducts(
+                order.getItems().stream().map(item -> item.getProduct().getId()).toList()));
 
         // Limpa o carrinho após criar o pedido
         shopping.getItems().clear();
         shoppingRepository.save(shopping);
+        shoppingRepository.incrementRevision(shopping.getId());
 
         return new OrderResponseDTO(savedOrder);
     }
 
     @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getMyOrders() {
-        Customer customer = getAuthenticatedCustomer();
-        List<Order> orders = orderRepository.findByCustomerIdOrderByCreatedAtDesc(customer.getId());
-        return orders.stream()
-                .map(OrderResponseDTO::new)
-                .collect(Collectors.toList());
+    public CursorPage<OrderResponseDTO> getMyOrders(String after, int limit) {
+        PageCursor.Position before = PageCursor.before(after);
+        List<Order> orders = orderRepository.findPageByCustomerIdBefore(authenticatedUser.currentCustomerId(),
+                before.at(), before.id(), PageCursor.fetchLimit(limit));
+        return CursorPage.of(orders, limit, OrderService::cursorOf).map(OrderResponseDTO::new);
     }
 
     @Transactional(readOnly = true)
@@ -111,8 +113,7 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com o ID: " + orderId));
 
         // Verifica se o pedido pertence ao cliente autenticado
-        Customer customer = getAuthenticatedCustomer();
-        if (!order.getCustomer().getId().equals(customer.getId())) {
+        if (!order.getCustomer().getId().equals(authenticatedUser.currentCustomerId())) {
             throw new BusinessRuleException("Você não tem permissão para acessar este pedido");
         }
 
@@ -144,8 +145,7 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com o ID: " + orderId));
 
         // Verifica se o pedido pertence ao cliente autenticado
-        Customer customer = getAuthenticatedCustomer();
-        if (!order.getCustomer().getId().equals(customer.getId())) {
+        if (!order.getCustomer().getId().equals(authenticatedUser.currentCustomerId())) {
             throw new BusinessRuleException("Você não tem permissão para cancelar este pedido");
         }
 
@@ -169,30 +169,39 @@ public class OrderService {
 
         order.setStatus(OrderStatus.CANCELLED);
         orderRepository.save(order);
+        events.publishEvent(ProductsChangedEvent.ofProducts(
+                order.getItems().stream().map(item -> item.getProduct().getId()).toList()));
     }
 
     @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getAllOrders() {
-        return orderRepository.findAllOrderByCreatedAtDesc()
-                .stream()
-                .map(OrderResponseDTO::new)
-                .collect(Collectors.toList());
+    public CursorPage<OrderResponseDTO> getAllOrders(String after, int limit) {
+        PageCursor.Position before = PageCursor.before(after);
+        List<Order> orders = orderRepository.findPageBefore(before.at(), before.id(), PageCursor.fetchLimit(limit));
+        return CursorPage.of(orders, limit, OrderService::cursorOf).map(OrderResponseDTO::new);
     }
 
     @Transactional(readOnly = true)
-    public List<SalesResponseDTO> getMySales() {
-        Collaborator collaborator = getAuthenticatedCollaborator();
-        List<Order> orders = orderRepository.findOrdersByCollaboratorId(collaborator.getId());
-        
-        return orders.stream()
-                .map(order -> new SalesResponseDTO(order, collaborator.getId()))
+    public CursorPage<SalesResponseDTO> getMySales(String after, int limit) {
+        UUID collaboratorId = authenticatedUser.currentCollaboratorId();
+        PageCursor.Position before = PageCursor.before(after);
+        List<Order> orders = orderRepository.findPageByCollaboratorIdBefore(collaboratorId, before.at(), before.id(),
+                PageCursor.fetchLimit(limit));
+
+        // O cursor vem da página antes do filtro: uma venda descartada não faz pular as seguintes
+        CursorPage<SalesResponseDTO> page = CursorPage.of(orders, limit, OrderService::cursorOf)
+                .map(order -> new SalesResponseDTO(order, collaboratorId));
+        return new CursorPage<>(page.items().stream()
                 .filter(sale -> !sale.myItems().isEmpty()) // Filtra apenas vendas que têm itens do colaborador
-                .collect(Collectors.toList());
+                .toList(), page.nextCursor());
+    }
+
+    private static String cursorOf(Order order) {
+        return PageCursor.of(order.getCreatedAt(), order.getId());
     }
 
     @Transactional(readOnly = true)
     public SalesResponseDTO getSaleById(UUID orderId) {
-        Collaborator collaborator = getAuthenticatedCollaborator();
+        UUID collaboratorId = authenticatedUser.currentCollaboratorId();
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com o ID: " + orderId));
 
@@ -200,25 +209,13 @@ public class OrderService {
         boolean hasCollaboratorProducts = order.getItems().stream()
                 .anyMatch(item -> item.getProduct() != null 
                         && item.getProduct().getCollaborator() != null
-                        && item.getProduct().getCollaborator().getId().equals(collaborator.getId()));
+                        && item.getProduct().getCollaborator().getId().equals(collaboratorId));
 
         if (!hasCollaboratorProducts) {
             throw new BusinessRuleException("Este pedido não contém produtos seus");
         }
 
-        return new SalesResponseDTO(order, collaborator.getId());
-    }
-
-    private Customer getAuthenticatedCustomer() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return customerRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o e-mail: " + email));
-    }
-
-    private Collaborator getAuthenticatedCollaborator() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return collaboratorRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Colaborador não encontrado com o e-mail: " + email));
+        return new SalesResponseDTO(order, collaboratorId);
     }
 }
 
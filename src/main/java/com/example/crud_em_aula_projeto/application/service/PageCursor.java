@@ -0,0 +1,129 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Cursores opacos das listagens por keyset ({@code ?after=&limit=}).
+ * <p>
+ * O cursor guarda a chave da última linha entregue; a próxima página é um
+ * {@code WHERE chave > :after ORDER BY chave} sobre índice composto, então a página N
+ * custa o mesmo que a primeira. A primeira página usa um sentinela (menor ou maior
+ * chave possível) para que a mesma consulta sirva às duas situações.
+ */
+public final class PageCursor {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    static final UUID MIN_ID = new UUID(0, 0);
+    static final UUID MAX_ID = new UUID(-1, -1);
+    static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    /** Mesma ordem do banco para UUIDs (bytes sem sinal); {@link UUID#compareTo} compara com sinal. */
+    public static final Comparator<UUID> ID_ORDER = Comparator
+            .comparing((UUID id) -> id.getMostSignificantBits(), Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /** Posição nas listagens ordenadas por data decrescente (pedidos). */
+    public record Position(LocalDateTime at, UUID id) {
+    }
+
+    /** Posição nas listagens com ordenação escolhida: valor da ordenação (como texto) e id. */
+    public record KeyPosition(String key, UUID id) {
+    }
+
+    private PageCursor() {
+    }
+
+    public static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessRuleException("O parâmetro 'limit' deve estar entre 1 e " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    /** Uma linha a mais que a página: se ela vier, existe próxima página. */
+    public static Limit fetchLimit(int limit) {
+        return Limit.of(checkLimit(limit) + 1);
+    }
+
+    public static String of(UUID id) {
+        return encode(id.toString());
+    }
+
+    public static String of(LocalDateTime at, UUID id) {
+        return encode(at + "|" + id);
+    }
+
+    public static String of(String key, UUID id) {
+        return encode(key + "|" + id);
+    }
+
+    /** Chave a partir da qual ler; sem cursor, antes de qualquer id. */
+    public static UUID afterId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return MIN_ID;
+        }
+        try {
+            return UUID.fromString(decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    /** Posição a partir da qual ler em ordem decrescente; sem cursor, depois de qualquer data. */
+    public static Position before(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Position(MAX_TIME, MAX_ID);
+        }
+        try {
+            String[] parts = decode(cursor).split("\\|", 2);
+            if (parts.length != 2) {
+                throw invalid();
+            }
+            return new Position(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    /** Posição a partir da qual ler numa ordenação escolhida; sem cursor, null (início). */
+    public static KeyPosition afterKey(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = decode(cursor);
+            int separator = decoded.lastIndexOf('|');
+            if (separator < 0) {
+                throw invalid();
+            }
+            return new KeyPosition(decoded.substring(0, separator), UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static String encode(String key) {
+        return ENCODER.encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        return new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    static BusinessRuleException invalid() {
+        return new BusinessRuleException("Cursor de paginação inválido");
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache limitado de id -> produto público usado por {@code GET /api/products/{id}} e
+ * {@code GET /api/products?ids=}. O Caffeine decide o que fica pela frequência recente
+ * (W-TinyLFU): um varrimento de ids únicos não expulsa os produtos mais vistos.
+ * <p>
+ * Cada {@link ProductsChangedEvent} commitado (escritas do {@link ProductService}, baixa e
+ * devolução de estoque nos pedidos) remove os produtos afetados; o TTL cobre escritas feitas
+ * fora dos serviços. Ids inexistentes ou indisponíveis e leituras dentro de uma transação
+ * não são guardados.
+ */
+@Component
+public class ProductDetailCache {
+
+    private final Cache<UUID, ProductPublicDTO> cache;
+    // Cresce a cada invalidação: uma carga que cruzou uma invalidação não é guardada
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductDetailCache(@Value("${catalog.product-cache.max-size:50000}") long maxSize,
+                              @Value("${catalog.product-cache.ttl-seconds:300}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // cache.gets / cache.evictions / ... com tag cache=product.public
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product.public");
+    }
+
+    /**
+     * Os produtos encontrados entre {@code ids}, indexados por id. Os que faltam na memória
+     * vêm de uma única chamada ao {@code loader} (uma consulta {@code IN}).
+     */
+    public Map<UUID, ProductPublicDTO> getAll(Collection<UUID> ids, Function<Set<UUID>, List<ProductPublicDTO>> loader) {
+        Set<UUID> wanted = new LinkedHashSet<>(ids);
+        // Dentro de uma transação a leitura pode enxergar dados ainda não commitados: não guarda
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return index(loader.apply(wanted));
+        }
+        Map<UUID, ProductPublicDTO> found = new HashMap<>(cache.getAllPresent(wanted));
+        if (found.size() == wanted.size()) {
+            return found;
+        }
+        Set<UUID> missing = new LinkedHashSet<>(wanted);
+        missing.removeAll(found.keySet());
+        long generation = invalidations.get();
+        Map<UUID, ProductPublicDTO> loaded = index(loader.apply(missing));
+        if (invalidations.get() == generation) {
+            cache.putAll(loaded);
+            // Uma invalidação entre a verificação e o putAll remove de novo o que foi guardado
+            if (invalidations.get() != generation) {
+                cache.invalidateAll(loaded.keySet());
+            }
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(event.productIds());
+        if (!event.collaboratorIds().isEmpty()) {
+            // O nome do colaborador faz parte da linha pública
+            cache.asMap().values().removeIf(product -> event.collaboratorIds().contains(product.collaboratorId()));
+        }
+    }
+
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+
+    private static Map<UUID, ProductPublicDTO> index(List<ProductPublicDTO> products) {
+        Map<UUID, ProductPublicDTO> byId = new HashMap<>();
+        products.forEach(product -> byId.put(product.id(), product));
+        return byId;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductFacetsDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contagens por categoria e histograma de preços da vitrine, sem consulta ao banco.
+ * <p>
+ * Guarda uma coluna de preços ordenados por categoria: quantos produtos de uma categoria
+ * caem numa faixa de preço são duas buscas binárias, então qualquer combinação de filtros
+ * custa O(categorias × faixas × log n), sem percorrer os produtos. Acompanha o
+ * {@link PublishedCatalog} como o {@link ProductSearchIndex}. Cada mudança é aplicada por
+ * categoria de uma vez: um preço solto entra ou sai no lugar (um deslocamento do array,
+ * O(n)); um lote vira uma única intercalação da coluna com os preços que entram e saem,
+ * O(n + k log k), em vez de um deslocamento por produto.
+ */
+@Slf4j
+@Service
+public class ProductFacetIndex {
+
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private PriceColumn[] columns; // por ordinal da categoria; null até a primeira carga da vitrine
+
+    @EventListener
+    public void onCatalogChanged(PublishedCatalog.Changed change) {
+        if (change.full() || columns == null) {
+            // Montado fora do lock: as consultas seguem nas colunas anteriores até a troca
+            PriceColumn[] rebuilt = PriceColumn.of(change.added());
+            lock.writeLock().lock();
+            try {
+                columns = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Facetas da vitrine reconstruídas: {} produtos", change.added().size());
+            return;
+        }
+        double[][] removed = pricesByCategory(change.removed());
+        double[][] added = pricesByCategory(change.added());
+        lock.writeLock().lock();
+        try {
+            for (int c = 0; c < columns.length; c++) {
+                columns[c].apply(removed[c], added[c]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static double[][] pricesByCategory(List<ProductPublicDTO> products) {
+        int[] sizes = new int[CATEGORIES.length];
+        for (ProductPublicDTO product : products) {
+            sizes[product.productCategory().ordinal()]++;
+        }
+        double[][] prices = new double[CATEGORIES.length][];
+        for (int c = 0; c < prices.length; c++) {
+            prices[c] = new double[sizes[c]];
+            sizes[c] = 0;
+        }
+        for (ProductPublicDTO product : products) {
+            int c = product.productCategory().ordinal();
+            prices[c][sizes[c]++] = product.price();
+        }
+        for (double[] category : prices) {
+            Arrays.sort(category);
+        }
+        return prices;
+    }
+
+    /**
+     * Contagens para as {@code categories} escolhidas (vazio = todas) e a faixa de preço
+     * [{@code minPrice}, {@code maxPrice}] (null = sem limite). O histograma divide essa
+     * faixa, ou, sem limites, do menor ao maior preço das categorias escolhidas, em
+     * {@code buckets} faixas; vazio enquanto a vitrine não foi carregada.
+     */
+    public Optional<ProductFacetsDTO> facets(Set<ProductCategory> categories, Double minPrice, Double maxPrice, int buckets) {
+        double low = minPrice == null ? Double.NEGATIVE_INFINITY : minPrice;
+        double high = maxPrice == null ? Double.POSITIVE_INFINITY : maxPrice;
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                return Optional.empty();
+            }
+            List<PriceColumn> selected = new ArrayList<>();
+            Map<ProductCategory, Long> counts = new EnumMap<>(ProductCategory.class);
+            long total = 0;
+            for (ProductCategory category : CATEGORIES) {
+                PriceColumn column = columns[category.ordinal()];
+                long count = column.countBetween(low, high);
+                counts.put(category, count);
+                if (categories.isEmpty() || categories.contains(category)) {
+                    selected.add(column);
+                    total += count;
+                }
+            }
+            return Optional.of(new ProductFacetsDTO(total, counts, histogram(selected, minPrice, maxPrice, buckets)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<ProductFacetsDTO.PriceBucket> histogram(List<PriceColumn> selected, Double minPrice, Double maxPrice,
+                                                               int buckets) {
+        double from = minPrice != null ? minPrice : Double.POSITIVE_INFINITY;
+        double to = maxPrice != null ? maxPrice : Double.NEGATIVE_INFINITY;
+        for (PriceColumn column : selected) {
+            if (column.size > 0) {
+                from = minPrice != null ? from : Math.min(from, column.prices[0]);
+                to = maxPrice != null ? to : Math.max(to, column.prices[column.size - 1]);
+            }
+        }
+        if (from > to) {
+            return List.of(); // nenhum produto nas categorias e nenhum limite informado
+        }
+        int count = from == to ? 1 : buckets;
+        List<ProductFacetsDTO.PriceBucket> histogram = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double bucketFrom = between(from, to, i, count);
+            boolean last = i == count - 1;
+            double bucketTo = last ? to : between(from, to, i + 1, count);
+            long inBucket = 0;
+            for (PriceColumn column : selected) {
+                inBucket += last ? column.countBetween(bucketFrom, bucketTo)
+                        : column.countBelow(bucketTo) - column.countBelow(bucketFrom);
+            }
+            histogram.add(new ProductFacetsDTO.PriceBucket(bucketFrom, bucketTo, inBucket));
+        }
+        return histogram;
+    }
+
+    /** Ponto {@code i/count} entre from e to, sem calcular to - from (que estoura com limites enormes). */
+    private static double between(double from, double to, int i, int count) {
+        double t = (double) i / count;
+        return from * (1 - t) + to * t;
+    }
+
+    /** Preços de uma categoria em ordem crescente, com repetições. */
+    private static final class PriceColumn {
+        double[] prices;
+        int size;
+
+        PriceColumn(double[] prices, int size) {
+            this.prices = prices;
+            this.size = size;
+        }
+
+        static PriceColumn[] of(List<ProductPublicDTO> products) {
+            int[] sizes = new int[CATEGORIES.length];
+            for (ProductPublicDTO product : products) {
+                sizes[product.productCategory().ordinal()]++;
+            }
+            PriceColumn[] columns = new PriceColumn[CATEGORIES.length];
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = new PriceColumn(new double[Math.max(16, sizes[c])], 0);
+            }
+            for (ProductPublicDTO product : products) {
+                PriceColumn column = columns[product.productCategory().ordinal()];
+                column.prices[column.size++] = product.price();
+            }
+            for (PriceColumn column : columns) {
+                Arrays.sort(column.prices, 0, column.size);
+            }
+            return columns;
+        }
+
+        /** Aplica de uma vez os preços (ordenados) que saem e entram nesta coluna. */
+        void apply(double[] removed, double[] added) {
+            if (removed.length + added.length <= 1) {
+                for (double price : removed) {
+                    remove(price);
+                }
+                for (double price : added) {
+                    add(price);
+                }
+                return;
+            }
+            double[] merged = new double[Math.max(16, size + added.length)];
+            int out = 0;
+            int r = 0;
+            int a = 0;
+            for (int i = 0; i < size; i++) {
+                double price = prices[i];
+                while (r < removed.length && removed[r] < price) {
+                    r++; // preço que não está na coluna
+                }
+                if (r < removed.length && removed[r] == price) {
+                    r++;
+                    continue;
+                }
+                while (a < added.length && added[a] <= price) {
+                    merged[out++] = added[a++];
+                }
+                merged[out++] = price;
+            }
+            while (a < added.length) {
+                merged[out++] = added[a++];
+            }
+            prices = merged;
+            size = out;
+        }
+
+        void add(double price) {
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+            }
+            int at = countAtMost(price);
+            System.arraycopy(prices, at, prices, at + 1, size - at);
+            prices[at] = price;
+            size++;
+        }
+
+        void remove(double price) {
+            int at = countBelow(price);
+            if (at < size && prices[at] == price) {
+                System.arraycopy(prices, at + 1, prices, at, size - at - 1);
+                size--;
+            }
+        }
+
+        /** Preços em [low, high]. */
+        long countBetween(double low, double high) {
+            return low > high ? 0 : countAtMost(high) - countBelow(low);
+        }
+
+        /** Preços menores que {@code price}: também o primeiro índice >= price. */
+        int countBelow(double price) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (prices[middle] < price) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        int countAtMost(double price) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (prices[middle] <= price) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
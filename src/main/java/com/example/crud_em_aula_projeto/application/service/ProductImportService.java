@@ -0,0 +1,178 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportResultDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportRow;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import com.example.crud_em_aula_projeto.domain.service.ProductDomainService;
+import com.example.crud_em_aula_projeto.infrastructure.security.AuthenticatedUserResolver;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em lote de produtos do colaborador autenticado ({@code POST /api/products/bulk}).
+ * <p>
+ * Cada linha passa pelas mesmas validações do {@code ProductRequestDTO}; o limite de produtos
+ * ativos é consultado uma vez por importação e as vagas restantes vão sendo consumidas pelas
+ * linhas AVAILABLE. As linhas válidas são gravadas em blocos do tamanho do batch JDBC, um bloco
+ * por transação: um erro de banco desfaz só o bloco, que é regravado linha a linha para isolar
+ * a culpada. Linhas recusadas entram no relatório e a leitura continua.
+ * <p>
+ * Os blocos rodam em transações próprias ({@code REQUIRES_NEW}), mesmo se o chamador já
+ * estiver numa: cada bloco confirmado fica gravado. Se a leitura do corpo falhar no meio
+ * (conexão caída, limite de tamanho), o bloco pendente é gravado e o relatório parcial volta
+ * com o motivo da interrupção.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductDomainService productDomainService;
+    private final AuthenticatedUserResolver authenticatedUser;
+    private final Validator validator;
+    private final ApplicationEventPublisher events;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final int chunkSize;
+
+    public ProductImportService(ProductRepository productRepository, ProductDomainService productDomainService,
+                                AuthenticatedUserResolver authenticatedUser, Validator validator,
+                                ApplicationEventPublisher events, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int chunkSize) {
+        this.productRepository = productRepository;
+        this.productDomainService = productDomainService;
+        this.authenticatedUser = authenticatedUser;
+        this.validator = validator;
+        this.events = events;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    public ProductImportResultDTO importProducts(Iterator<ProductImportRow> rows) {
+        Collaborator collaborator = authenticatedUser.currentCollaborator();
+        Report report = new Report(productDomainService.remainingActiveSlots(collaborator));
+        List<ProductImportRow> chunk = new ArrayList<>(chunkSize);
+        String interruption = null;
+        try {
+            while (rows.hasNext()) {
+                ProductImportRow row = rows.next();
+                String error = check(row, report);
+                if (error != null) {
+                    report.reject(row.line(), error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    insert(chunk, collaborator, report);
+                    chunk.clear();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            interruption = e.getMessage();
+            log.warn("Importação do colaborador {} interrompida: {}", collaborator.getId(), interruption);
+        }
+        if (!chunk.isEmpty()) {
+            insert(chunk, collaborator, report);
+        }
+        log.debug("Importação do colaborador {}: {} gravados, {} recusados", collaborator.getId(), report.imported, report.failed);
+        return new ProductImportResultDTO(report.imported, report.failed, List.copyOf(report.errors), interruption);
+    }
+
+    private String check(ProductImportRow row, Report report) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(row.product());
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (row.product().productStatus() == ProductStatus.AVAILABLE) {
+            if (report.activeSlots == 0) {
+                return "Collaborator has reached the limit of " + ProductDomainService.ACTIVE_PRODUCT_LIMIT + " active products.";
+            }
+            report.activeSlots--;
+        }
+        return null;
+    }
+
+    private void insert(List<ProductImportRow> chunk, Collaborator collaborator, Report report) {
+        try {
+            transaction.executeWithoutResult(status -> save(chunk, collaborator));
+            report.imported += chunk.size();
+        } catch (DataAccessException e) {
+            entityManager.clear();
+            // Regrava linha a linha: só a que o banco recusa fica de fora
+            for (ProductImportRow row : chunk) {
+                try {
+                    transaction.executeWithoutResult(status -> save(List.of(row), collaborator));
+                    report.imported++;
+                } catch (DataAccessException rowError) {
+                    entityManager.clear();
+                    report.reject(row.line(), "Não foi possível gravar: "
+                            + NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                    if (row.product().productStatus() == ProductStatus.AVAILABLE) {
+                        report.activeSlots++;
+                    }
+                }
+            }
+        }
+    }
+
+    private void save(List<ProductImportRow> rows, Collaborator collaborator) {
+        List<Product> products = rows.stream().map(row -> row.product().toEntity(collaborator)).toList();
+        productRepository.saveAll(products);
+        // Um batch de INSERTs (hibernate.jdbc.batch_size + order_inserts); o clear impede que o
+        // contexto de persistência cresça com o arquivo
+        entityManager.flush();
+        entityManager.clear();
+        events.publishEvent(ProductsChangedEvent.ofProducts(products.stream().map(Product::getId).toList()));
+    }
+
+    private static final class Report {
+
+        private long activeSlots;
+        private long imported;
+        private long failed;
+        private final List<ProductImportResultDTO.RowError> errors = new ArrayList<>();
+
+        Report(long activeSlots) {
+            this.activeSlots = activeSlots;
+        }
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportResultDTO.RowError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,590 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Filtros (categoria, faixa de preço, colaborador) e ordenações (id, preço, título) da
+ * vitrine sem SQL dinâmico.
+ * <p>
+ * Os produtos ficam em colunas de primitivos (preço, ordinal da categoria, id de dicionário
+ * do colaborador) e cada filtro vira um bitset de long[] intersectado com os demais; o
+ * filtro de colaborador parte da lista de documentos dele, que é curta. Para
+ * ordenar, cada ordenação tem uma permutação pré-ordenada dos documentos: a página é lida
+ * percorrendo a permutação a partir do cursor e testando o bitset. Com poucos resultados,
+ * sai mais barato juntar os bits e ordenar só eles. Acompanha o {@link PublishedCatalog}
+ * como o {@link ProductSearchIndex}: removidos viram lápides, novos entram num rabo fora das
+ * permutações e o segmento é refeito quando rabo ou lápides crescem.
+ */
+@Slf4j
+@Service
+public class ProductQueryIndex {
+
+    static final int MIN_REBUILD = 1024;
+    // A partir daqui os filtros de preço e colaborador varrem blocos do bitset em paralelo
+    static final int PARALLEL_MIN_DOCS = 1 << 18;
+    private static final int CHUNK_WORDS = 1024;
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+
+    public enum SortOrder {
+        ID("id"), PRICE("price"), PRICE_DESC("-price"), TITLE("title"), TITLE_DESC("-title");
+
+        private final String param;
+
+        SortOrder(String param) {
+            this.param = param;
+        }
+
+        public static Optional<SortOrder> fromParam(String param) {
+            return Arrays.stream(values()).filter(order -> order.param.equalsIgnoreCase(param)).findFirst();
+        }
+
+        boolean descending() {
+            return this == PRICE_DESC || this == TITLE_DESC;
+        }
+    }
+
+    /** Categorias vazias = todas; limites e colaborador null = sem filtro. */
+    public record Filter(Set<ProductCategory> categories, Double minPrice, Double maxPrice, UUID collaboratorId) {
+    }
+
+    /** Consulta já conferida: limite dentro da faixa e cursor da mesma ordenação. */
+    public record Query(Filter filter, SortOrder order, String after, int limit) {
+        public Query {
+            PageCursor.checkLimit(limit);
+            Cursor.of(order, PageCursor.afterKey(after));
+        }
+    }
+
+    private final String epoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment; // null até a primeira carga da vitrine
+    private long version;
+
+    @EventListener
+    public void onCatalogChanged(PublishedCatalog.Changed change) {
+        if (change.full() || segment == null) {
+            // Montado fora do lock: as consultas seguem no segmento anterior até a troca
+            Segment rebuilt = Segment.of(change.added());
+            replace(rebuilt, change.version());
+            log.debug("Índice de filtros reconstruído: {} produtos", rebuilt.live);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            change.removed().forEach(segment::remove);
+            change.added().forEach(segment::add);
+            version = change.version();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Só este thread escreve, então ler o segmento sem lock aqui é seguro
+        if (segment.needsRebuild()) {
+            replace(Segment.of(segment.liveDocuments()), change.version());
+        }
+    }
+
+    /** Versão dos dados servidos, para ETag; vazio enquanto a vitrine não foi carregada. */
+    public Optional<String> versionTag() {
+        lock.readLock().lock();
+        try {
+            return segment == null ? Optional.empty() : Optional.of(epoch + "." + version);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Até {@code limit} produtos que passam no filtro, na ordem pedida (empates por id),
+     * depois do cursor {@code after}; vazio enquanto a vitrine não foi carregada.
+     */
+    public Optional<CursorPage<ProductPublicDTO>> query(Filter filter, SortOrder order, String after, int limit) {
+        PageCursor.KeyPosition position = PageCursor.afterKey(after);
+        lock.readLock().lock();
+        try {
+            if (segment == null) {
+                return Optional.empty();
+            }
+            List<ProductPublicDTO> products = segment.query(filter, order, Cursor.of(order, position), limit + 1);
+            return Optional.of(CursorPage.of(products, limit, product -> cursorOf(order, product)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void replace(Segment next, long nextVersion) {
+        lock.writeLock().lock();
+        try {
+            segment = next;
+            version = nextVersion;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String cursorOf(SortOrder order, ProductPublicDTO product) {
+        String value = switch (order) {
+            case ID -> "";
+            case PRICE, PRICE_DESC -> Double.toString(product.price());
+            case TITLE, TITLE_DESC -> titleKey(product.title());
+        };
+        return PageCursor.of(order.param + ":" + value, product.id());
+    }
+
+    private static String titleKey(String title) {
+        return SearchTokenizer.fold(title);
+    }
+
+    /** Último produto entregue, já convertido para a ordenação pedida. */
+    private record Cursor(double price, String title, UUID id) {
+        static Cursor of(SortOrder order, PageCursor.KeyPosition position) {
+            if (position == null) {
+                return null;
+            }
+            String prefix = order.param + ":";
+            if (!position.key().startsWith(prefix)) {
+                throw PageCursor.invalid(); // cursor de outra ordenação
+            }
+            String value = position.key().substring(prefix.length());
+            try {
+                return switch (order) {
+                    case ID -> new Cursor(0, null, position.id());
+                    case PRICE, PRICE_DESC -> new Cursor(Double.parseDouble(value), null, position.id());
+                    case TITLE, TITLE_DESC -> new Cursor(0, value, position.id());
+                };
+            } catch (NumberFormatException e) {
+                throw PageCursor.invalid();
+            }
+        }
+    }
+
+    /**
+     * Colunas dos produtos. Documentos em [0, sorted) estão nas permutações; os de
+     * [sorted, size) formam o rabo, ainda fora delas.
+     */
+    private static final class Segment {
+        ProductPublicDTO[] docs;
+        double[] prices;
+        byte[] categories;
+        int[] collaborators;
+        String[] titleKeys;
+        long[] liveWords;
+        final long[][] categoryWords = new long[CATEGORIES.length][];
+        final Map<UUID, Integer> docById = new HashMap<>();
+        final Map<UUID, Integer> collaboratorIds = new HashMap<>(); // dicionário id -> int
+        int[][] collaboratorDocs = new int[16][]; // documentos de cada colaborador, inclusive lápides
+        int[] collaboratorSizes = new int[16];
+        int size;
+        int live;
+        int sorted;
+        int[] byId = new int[0];
+        int[] byPrice = new int[0];
+        int[] byTitle = new int[0];
+
+        Segment(int capacity) {
+            capacity = Math.max(64, capacity);
+            docs = new ProductPublicDTO[capacity];
+            prices = new double[capacity];
+            categories = new byte[capacity];
+            collaborators = new int[capacity];
+            titleKeys = new String[capacity];
+            liveWords = new long[words(capacity)];
+            for (int c = 0; c < categoryWords.length; c++) {
+                categoryWords[c] = new long[words(capacity)];
+            }
+        }
+
+        static Segment of(List<ProductPublicDTO> products) {
+            // Documentos na ordem de id: a permutação por id é a identidade e, nas outras, a
+            // ordenação estável já desempata por id. A vitrine já vem quase toda nessa ordem.
+            List<ProductPublicDTO> ordered = new ArrayList<>(products);
+            ordered.sort(Comparator.comparing(ProductPublicDTO::id, PageCursor.ID_ORDER));
+            Segment segment = new Segment(ordered.size() + ordered.size() / 8);
+            ordered.forEach(segment::add);
+            segment.sortPermutations();
+            return segment;
+        }
+
+        void add(ProductPublicDTO product) {
+            remove(product); // mesmo id já presente: fica só a versão nova
+            if (size == docs.length) {
+                grow(size * 2);
+            }
+            int doc = size++;
+            docs[doc] = product;
+            prices[doc] = product.price();
+            categories[doc] = (byte) product.productCategory().ordinal();
+            collaborators[doc] = collaboratorIds.computeIfAbsent(product.collaboratorId(), id -> collaboratorIds.size());
+            addToCollaborator(collaborators[doc], doc);
+            titleKeys[doc] = titleKey(product.title());
+            liveWords[doc >>> 6] |= 1L << doc;
+            categoryWords[categories[doc]][doc >>> 6] |= 1L << doc;
+            docById.put(product.id(), doc);
+            live++;
+        }
+
+        void remove(ProductPublicDTO product) {
+            Integer doc = docById.remove(product.id());
+            if (doc != null) {
+                liveWords[doc >>> 6] &= ~(1L << doc);
+                live--;
+            }
+        }
+
+        private void addToCollaborator(int collaborator, int doc) {
+            if (collaborator == collaboratorDocs.length) {
+                collaboratorDocs = Arrays.copyOf(collaboratorDocs, collaborator * 2);
+                collaboratorSizes = Arrays.copyOf(collaboratorSizes, collaborator * 2);
+            }
+            int[] docs = collaboratorDocs[collaborator];
+            if (docs == null) {
+                docs = collaboratorDocs[collaborator] = new int[4];
+            } else if (collaboratorSizes[collaborator] == docs.length) {
+                docs = collaboratorDocs[collaborator] = Arrays.copyOf(docs, docs.length * 2);
+            }
+            docs[collaboratorSizes[collaborator]++] = doc;
+        }
+
+        boolean needsRebuild() {
+            return size - sorted > Math.max(MIN_REBUILD, sorted / 16)
+                    || size - live > Math.max(MIN_REBUILD, live / 4);
+        }
+
+        List<ProductPublicDTO> liveDocuments() {
+            List<ProductPublicDTO> documents = new ArrayList<>(live);
+            for (int doc = 0; doc < size; doc++) {
+                if (isSet(liveWords, doc)) {
+                    documents.add(docs[doc]);
+                }
+            }
+            return documents;
+        }
+
+        List<ProductPublicDTO> query(Filter filter, SortOrder order, Cursor after, int fetch) {
+            long[] matches = matches(filter);
+            long count = 0;
+            for (long word : matches) {
+                count += Long.bitCount(word);
+            }
+            // Percorrer a permutação visita ~fetch * size / count documentos; juntar os bits custa ~count
+            List<Integer> page = count * count <= (long) fetch * size * 4
+                    ? gather(matches, order, after, fetch)
+                    : walk(matches, order, after, fetch);
+            return page.stream().map(doc -> docs[doc]).toList();
+        }
+
+        private long[] matches(Filter filter) {
+            int words = words(size);
+            double low = filter.minPrice() == null ? Double.NEGATIVE_INFINITY : filter.minPrice();
+            double high = filter.maxPrice() == null ? Double.POSITIVE_INFINITY : filter.maxPrice();
+            if (filter.collaboratorId() != null) {
+                // Poucos produtos por colaborador: testa só os dele, sem passar pelos bitsets
+                long[] matches = new long[words];
+                Integer collaborator = collaboratorIds.get(filter.collaboratorId());
+                if (collaborator == null) {
+                    return matches;
+                }
+                int[] docs = collaboratorDocs[collaborator];
+                for (int i = 0; i < collaboratorSizes[collaborator]; i++) {
+                    int doc = docs[i];
+                    if (isSet(liveWords, doc) && prices[doc] >= low && prices[doc] <= high
+                            && (filter.categories().isEmpty() || filter.categories().contains(CATEGORIES[categories[doc]]))) {
+                        matches[doc >>> 6] |= 1L << doc;
+                    }
+                }
+                return matches;
+            }
+            long[] matches = Arrays.copyOf(liveWords, words);
+            if (!filter.categories().isEmpty()) {
+                long[] any = new long[words];
+                for (ProductCategory category : filter.categories()) {
+                    long[] bits = categoryWords[category.ordinal()];
+                    for (int w = 0; w < words; w++) {
+                        any[w] |= bits[w];
+                    }
+                }
+                for (int w = 0; w < words; w++) {
+                    matches[w] &= any[w];
+                }
+            }
+            if (filter.minPrice() != null || filter.maxPrice() != null) {
+                filterPrice(matches, low, high);
+            }
+            return matches;
+        }
+
+        /**
+         * Aplica a faixa de preço pelo caminho mais barato: a faixa é um trecho contíguo da
+         * permutação por preço, então marcar o trecho (ou desmarcar o que fica fora dele)
+         * custa o tamanho do trecho; testar cada candidato custa o número de candidatos.
+         */
+        private void filterPrice(long[] matches, double low, double high) {
+            long candidates = 0;
+            for (long word : matches) {
+                candidates += Long.bitCount(word);
+            }
+            int from = firstPriceAtLeast(low, false);
+            int to = firstPriceAtLeast(high, true);
+            int inside = to - from;
+            int outside = sorted - inside;
+            if (inside <= outside && inside < candidates) {
+                long[] range = new long[matches.length];
+                for (int i = from; i < to; i++) {
+                    range[byPrice[i] >>> 6] |= 1L << byPrice[i];
+                }
+                for (int doc = sorted; doc < size; doc++) {
+                    if (prices[doc] >= low && prices[doc] <= high) {
+                        range[doc >>> 6] |= 1L << doc;
+                    }
+                }
+                for (int w = 0; w < matches.length; w++) {
+                    matches[w] &= range[w];
+                }
+            } else if (outside < candidates) {
+                for (int i = 0; i < from; i++) {
+                    matches[byPrice[i] >>> 6] &= ~(1L << byPrice[i]);
+                }
+                for (int i = to; i < sorted; i++) {
+                    matches[byPrice[i] >>> 6] &= ~(1L << byPrice[i]);
+                }
+                for (int doc = sorted; doc < size; doc++) {
+                    if (prices[doc] < low || prices[doc] > high) {
+                        matches[doc >>> 6] &= ~(1L << doc);
+                    }
+                }
+            } else {
+                scanPrice(matches, low, high);
+            }
+        }
+
+        /** Primeira posição da permutação por preço com preço >= value (ou > value). */
+        private int firstPriceAtLeast(double value, boolean strictlyAbove) {
+            int low = 0;
+            int high = sorted;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                double price = prices[byPrice[middle]];
+                if (strictlyAbove ? price <= value : price < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private void scanPrice(long[] matches, double low, double high) {
+            int words = matches.length;
+            // Cada bloco escreve só as próprias palavras: os blocos não disputam nada entre si
+            IntStream chunks = IntStream.range(0, (words + CHUNK_WORDS - 1) / CHUNK_WORDS);
+            (size >= PARALLEL_MIN_DOCS ? chunks.parallel() : chunks).forEach(chunk -> {
+                for (int w = chunk * CHUNK_WORDS, end = Math.min(words, w + CHUNK_WORDS); w < end; w++) {
+                    long word = matches[w];
+                    long keep = word;
+                    while (word != 0) {
+                        int bit = Long.numberOfTrailingZeros(word);
+                        int doc = (w << 6) + bit;
+                        if (prices[doc] < low || prices[doc] > high) {
+                            keep &= ~(1L << bit);
+                        }
+                        word &= word - 1;
+                    }
+                    matches[w] = keep;
+                }
+            });
+        }
+
+        /** Segue a permutação da ordenação a partir do cursor e junta o rabo, que está fora dela. */
+        private List<Integer> walk(long[] matches, SortOrder order, Cursor after, int fetch) {
+            int[] permutation = permutation(order);
+            boolean descending = order.descending();
+            int position;
+            if (after == null) {
+                position = descending ? sorted - 1 : 0;
+            } else {
+                // Primeiro documento depois do cursor na ordem crescente (ou último antes dele)
+                int low = 0;
+                int high = sorted;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    int comparison = compareToCursor(permutation[middle], order, after);
+                    if (descending ? comparison < 0 : comparison <= 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                position = descending ? low - 1 : low;
+            }
+            List<Integer> page = new ArrayList<>(fetch);
+            for (int i = position; page.size() < fetch && i >= 0 && i < sorted; i += descending ? -1 : 1) {
+                if (isSet(matches, permutation[i])) {
+                    page.add(permutation[i]);
+                }
+            }
+            if (sorted == size) {
+                return page;
+            }
+            List<Integer> tail = top(matches, sorted, order, after, fetch);
+            page.addAll(tail);
+            page.sort(comparator(order));
+            return page.size() > fetch ? page.subList(0, fetch) : page;
+        }
+
+        private List<Integer> gather(long[] matches, SortOrder order, Cursor after, int fetch) {
+            return top(matches, 0, order, after, fetch);
+        }
+
+        /** Os {@code fetch} primeiros documentos marcados a partir de {@code from} e depois do cursor, com um heap limitado. */
+        private List<Integer> top(long[] matches, int from, SortOrder order, Cursor after, int fetch) {
+            Comparator<Integer> comparator = comparator(order);
+            PriorityQueue<Integer> worstFirst = new PriorityQueue<>(comparator.reversed());
+            for (int w = from >>> 6; w < matches.length; w++) {
+                long word = w == from >>> 6 ? matches[w] & (-1L << from) : matches[w];
+                while (word != 0) {
+                    int doc = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    if (after != null) {
+                        int comparison = compareToCursor(doc, order, after);
+                        if (order.descending() ? comparison >= 0 : comparison <= 0) {
+                            continue;
+                        }
+                    }
+                    worstFirst.add(doc);
+                    if (worstFirst.size() > fetch) {
+                        worstFirst.poll();
+                    }
+                }
+            }
+            List<Integer> top = new ArrayList<>(worstFirst);
+            top.sort(comparator);
+            return top;
+        }
+
+        private int[] permutation(SortOrder order) {
+            return switch (order) {
+                case ID -> byId;
+                case PRICE, PRICE_DESC -> byPrice;
+                case TITLE, TITLE_DESC -> byTitle;
+            };
+        }
+
+        private Comparator<Integer> comparator(SortOrder order) {
+            Comparator<Integer> ascending = switch (order) {
+                case ID -> (a, b) -> compareIds(a, b);
+                case PRICE, PRICE_DESC -> (a, b) -> {
+                    int comparison = Double.compare(prices[a], prices[b]);
+                    return comparison != 0 ? comparison : compareIds(a, b);
+                };
+                case TITLE, TITLE_DESC -> (a, b) -> {
+                    int comparison = titleKeys[a].compareTo(titleKeys[b]);
+                    return comparison != 0 ? comparison : compareIds(a, b);
+                };
+            };
+            return order.descending() ? ascending.reversed() : ascending;
+        }
+
+        /** Documento contra o cursor na ordem crescente da ordenação. */
+        private int compareToCursor(int doc, SortOrder order, Cursor after) {
+            int comparison = switch (order) {
+                case ID -> 0;
+                case PRICE, PRICE_DESC -> Double.compare(prices[doc], after.price());
+                case TITLE, TITLE_DESC -> titleKeys[doc].compareTo(after.title());
+            };
+            return comparison != 0 ? comparison : PageCursor.ID_ORDER.compare(docs[doc].id(), after.id());
+        }
+
+        private int compareIds(int a, int b) {
+            return PageCursor.ID_ORDER.compare(docs[a].id(), docs[b].id());
+        }
+
+        private void sortPermutations() {
+            sorted = size;
+            byId = new int[size];
+            for (int doc = 0; doc < size; doc++) {
+                byId[doc] = doc;
+            }
+            // Ordenação estável sobre documentos em ordem de id: o empate por id sai de graça
+            byPrice = sortByPrice();
+            byTitle = stableSort((a, b) -> titleKeys[a].compareTo(titleKeys[b]));
+        }
+
+        /** Ordena pares (posto do preço, documento) empacotados em long: sort de primitivos, sem boxing. */
+        private int[] sortByPrice() {
+            double[] distinct = Arrays.copyOf(prices, size);
+            Arrays.sort(distinct);
+            long[] keys = new long[size];
+            for (int doc = 0; doc < size; doc++) {
+                int low = 0;
+                int high = size;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (Double.compare(distinct[middle], prices[doc]) < 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                keys[doc] = ((long) low << 32) | doc;
+            }
+            Arrays.sort(keys);
+            int[] permutation = new int[size];
+            for (int i = 0; i < size; i++) {
+                permutation[i] = (int) keys[i];
+            }
+            return permutation;
+        }
+
+        private int[] stableSort(Comparator<Integer> primary) {
+            Integer[] boxed = new Integer[size];
+            for (int doc = 0; doc < size; doc++) {
+                boxed[doc] = doc;
+            }
+            Arrays.sort(boxed, primary);
+            int[] permutation = new int[size];
+            for (int i = 0; i < size; i++) {
+                permutation[i] = boxed[i];
+            }
+            return permutation;
+        }
+
+        private void grow(int capacity) {
+            docs = Arrays.copyOf(docs, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            collaborators = Arrays.copyOf(collaborators, capacity);
+            titleKeys = Arrays.copyOf(titleKeys, capacity);
+            liveWords = Arrays.copyOf(liveWords, words(capacity));
+            for (int c = 0; c < categoryWords.length; c++) {
+                categoryWords[c] = Arrays.copyOf(categoryWords[c], words(capacity));
+            }
+        }
+
+        private static boolean isSet(long[] words, int doc) {
+            return (words[doc >>> 6] & (1L << doc)) != 0;
+        }
+
+        private static int words(int bits) {
+            return (bits + 63) >>> 6;
+        }
+    }
+}
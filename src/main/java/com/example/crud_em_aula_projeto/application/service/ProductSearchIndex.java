@@ -0,0 +1,411 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória sobre título e descrição dos produtos da vitrine, com
+ * ranking BM25.
+ * <p>
+ * Acompanha o {@link PublishedCatalog}: cada {@link PublishedCatalog.Changed} aplica as
+ * linhas removidas e adicionadas no thread de atualização da vitrine, o único que escreve.
+ * As listas de postings são arrays de int (doc e frequência) em ordem de doc, percorridas
+ * juntas (document-at-a-time) com um heap dos k melhores e poda por MaxScore. Produtos
+ * removidos viram lápides e o índice é recompactado quando elas passam de um quarto dos
+ * documentos.
+ */
+@Slf4j
+@Service
+public class ProductSearchIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    // Termo no título conta como duas ocorrências
+    static final int TITLE_WEIGHT = 2;
+    static final int MAX_QUERY_TERMS = 10;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment; // null até a primeira carga da vitrine
+
+    public ProductSearchIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("catalog.search.documents", this, index -> index.documentCount())
+                .description("Produtos pesquisáveis no índice em memória")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onCatalogChanged(PublishedCatalog.Changed change) {
+        if (change.full() || segment == null) {
+            // Montado fora do lock: as buscas seguem no índice anterior até a troca
+            Segment rebuilt = Segment.of(change.added());
+            replace(rebuilt);
+            log.debug("Índice de busca reconstruído: {} produtos", rebuilt.liveCount);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            change.removed().forEach(segment::remove);
+            change.added().forEach(segment::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Só este thread escreve, então ler o segmento sem lock aqui é seguro
+        if (segment.needsCompaction()) {
+            replace(Segment.of(segment.liveDocuments()));
+        }
+    }
+
+    /**
+     * Os {@code limit} produtos mais relevantes para {@code query}, do mais para o menos
+     * relevante; vazio enquanto a vitrine não foi carregada.
+     */
+    public Optional<List<ProductPublicDTO>> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+        lock.readLock().lock();
+        try {
+            return segment == null ? Optional.empty() : Optional.of(segment.search(terms, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return segment == null ? 0 : segment.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void replace(Segment next) {
+        lock.writeLock().lock();
+        try {
+            segment = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Lista de postings de um termo: docs crescentes e frequência ponderada de cada um, em
+     * blocos de {@value #BLOCK} com a maior frequência e o menor documento de cada bloco
+     * (limite superior do score do bloco, usado para pular blocos inteiros).
+     */
+    private static final class Postings {
+        static final int BLOCK = 64;
+
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int[] blockMaxFreq = new int[1];
+        int[] blockMinLength = new int[1];
+        int size;
+        int liveDocs; // document frequency sem as lápides
+        int maxFreq;
+        int minLength = Integer.MAX_VALUE;
+
+        void add(int doc, int freq, int length) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            int block = size / BLOCK;
+            if (block == blockMaxFreq.length) {
+                blockMaxFreq = Arrays.copyOf(blockMaxFreq, block * 2);
+                blockMinLength = Arrays.copyOf(blockMinLength, block * 2);
+            }
+            if (size % BLOCK == 0) {
+                blockMaxFreq[block] = freq;
+                blockMinLength[block] = length;
+            } else {
+                blockMaxFreq[block] = Math.max(blockMaxFreq[block], freq);
+                blockMinLength[block] = Math.min(blockMinLength[block], length);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            liveDocs++;
+            maxFreq = Math.max(maxFreq, freq);
+            minLength = Math.min(minLength, length);
+        }
+    }
+
+    /** Posição de uma busca numa lista de postings. */
+    private static final class Cursor {
+        final Postings list;
+        final double idf;
+        final double maxScore;
+        int position;
+
+        Cursor(Postings list, double idf, double averageLength) {
+            this.list = list;
+            this.idf = idf;
+            this.maxScore = bm25(idf, list.maxFreq, list.minLength, averageLength);
+        }
+
+        boolean exhausted() {
+            return position >= list.size;
+        }
+
+        int doc() {
+            return list.docs[position];
+        }
+
+        double score(int length, double averageLength) {
+            return bm25(idf, list.freqs[position], length, averageLength);
+        }
+
+        double blockMaxScore(double averageLength) {
+            int block = position / Postings.BLOCK;
+            return bm25(idf, list.blockMaxFreq[block], list.blockMinLength[block], averageLength);
+        }
+
+        int blockLastDoc() {
+            return list.docs[Math.min(list.size, (position / Postings.BLOCK + 1) * Postings.BLOCK) - 1];
+        }
+
+        /** Avança até o primeiro doc >= target (busca exponencial a partir da posição atual). */
+        void advance(int target) {
+            if (exhausted() || list.docs[position] >= target) {
+                return;
+            }
+            int low = position;
+            int step = 1;
+            while (low + step < list.size && list.docs[low + step] < target) {
+                low += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(list.docs, low + 1, Math.min(low + step + 1, list.size), target);
+            position = found >= 0 ? found : -found - 1;
+        }
+    }
+
+    static double bm25(double idf, int freq, int length, double averageLength) {
+        return idf * freq * (K1 + 1) / (freq + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private static final class Segment {
+        private final List<ProductPublicDTO> documents = new ArrayList<>();
+        private final BitSet live = new BitSet();
+        private final Map<UUID, Integer> docIds = new HashMap<>();
+        private final Map<String, Postings> postings = new HashMap<>();
+        private int[] lengths = new int[1024];
+        private long totalLength;
+        private int liveCount;
+
+        static Segment of(Collection<ProductPublicDTO> products) {
+            Segment segment = new Segment();
+            products.forEach(segment::add);
+            return segment;
+        }
+
+        void add(ProductPublicDTO product) {
+            remove(product);
+            int doc = documents.size();
+            documents.add(product);
+            docIds.put(product.id(), doc);
+            live.set(doc);
+
+            Map<String, Integer> frequencies = termFrequencies(product);
+            int length = 0;
+            for (int frequency : frequencies.values()) {
+                length += frequency;
+            }
+            for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new Postings()).add(doc, term.getValue(), length);
+            }
+            if (doc == lengths.length) {
+                lengths = Arrays.copyOf(lengths, doc * 2);
+            }
+            lengths[doc] = length;
+            totalLength += length;
+            liveCount++;
+        }
+
+        void remove(ProductPublicDTO product) {
+            Integer doc = docIds.remove(product.id());
+            if (doc == null) {
+                return;
+            }
+            // Tokeniza a versão indexada, que pode diferir da recebida
+            for (String term : termFrequencies(documents.get(doc)).keySet()) {
+                postings.get(term).liveDocs--;
+            }
+            live.clear(doc);
+            documents.set(doc, null);
+            totalLength -= lengths[doc];
+            liveCount--;
+        }
+
+        boolean needsCompaction() {
+            int dead = documents.size() - liveCount;
+            return dead > 1024 && dead > liveCount / 4;
+        }
+
+        List<ProductPublicDTO> liveDocuments() {
+            List<ProductPublicDTO> result = new ArrayList<>(liveCount);
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                result.add(documents.get(doc));
+            }
+            return result;
+        }
+
+        /**
+         * Top-k por MaxScore: as listas são ordenadas pelo maior score possível de cada termo
+         * e as que, somadas, não alcançam o k-ésimo score atual deixam de gerar candidatos
+         * (só são consultadas para completar o score). Além disso, blocos cujo limite somado
+         * não alcança esse score são pulados inteiros. O resultado é o mesmo de pontuar todos
+         * os documentos, sem percorrer as listas longas dos termos comuns.
+         */
+        List<ProductPublicDTO> search(List<String> terms, int limit) {
+            if (liveCount == 0 || limit <= 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / liveCount;
+            List<Cursor> found = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list != null && list.liveDocs > 0) {
+                    double idf = Math.log(1 + (liveCount - list.liveDocs + 0.5) / (list.liveDocs + 0.5));
+                    found.add(new Cursor(list, idf, averageLength));
+                }
+            }
+            if (found.isEmpty()) {
+                return List.of();
+            }
+            found.sort(Comparator.comparingDouble(cursor -> cursor.maxScore));
+            Cursor[] cursors = found.toArray(Cursor[]::new);
+            int n = cursors.length;
+            // upTo[i] = soma dos maiores scores possíveis das listas 0..i
+            double[] upTo = new double[n];
+            for (int i = 0; i < n; i++) {
+                upTo[i] = (i == 0 ? 0 : upTo[i - 1]) + cursors[i].maxScore;
+            }
+
+            // Menor score no topo: é ele que sai quando aparece um melhor
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(limit + 1);
+            double threshold = 0;
+            int firstEssential = 0;
+            while (firstEssential < n) {
+                int doc = Integer.MAX_VALUE;
+                for (int i = firstEssential; i < n; i++) {
+                    if (!cursors[i].exhausted()) {
+                        doc = Math.min(doc, cursors[i].doc());
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+                boolean full = top.size() == limit;
+                double nonEssential = firstEssential == 0 ? 0 : upTo[firstEssential - 1];
+
+                if (full) {
+                    // Até o fim do bloco mais curto, nenhum doc passa do limite dos blocos atuais
+                    double blockBound = nonEssential;
+                    int blockEnd = Integer.MAX_VALUE;
+                    for (int i = firstEssential; i < n; i++) {
+                        if (!cursors[i].exhausted()) {
+                            blockBound += cursors[i].blockMaxScore(averageLength);
+                            blockEnd = Math.min(blockEnd, cursors[i].blockLastDoc());
+                        }
+                    }
+                    if (blockBound <= threshold) {
+                        for (int i = firstEssential; i < n; i++) {
+                            cursors[i].advance(blockEnd + 1);
+                        }
+                        continue;
+                    }
+                }
+
+                if (!live.get(doc)) {
+                    for (int i = firstEssential; i < n; i++) {
+                        if (!cursors[i].exhausted() && cursors[i].doc() == doc) {
+                            cursors[i].position++;
+                        }
+                    }
+                    continue;
+                }
+
+                int length = lengths[doc];
+                double score = 0;
+                for (int i = firstEssential; i < n; i++) {
+                    if (!cursors[i].exhausted() && cursors[i].doc() == doc) {
+                        score += cursors[i].score(length, averageLength);
+                        cursors[i].position++;
+                    }
+                }
+                for (int i = firstEssential - 1; i >= 0; i--) {
+                    if (full && score + upTo[i] <= threshold) {
+                        break; // nem com todos os termos restantes chegaria ao topo
+                    }
+                    cursors[i].advance(doc);
+                    if (!cursors[i].exhausted() && cursors[i].doc() == doc) {
+                        score += cursors[i].score(length, averageLength);
+                    }
+                }
+
+                if (!full || score > threshold) {
+                    top.add(new ScoredDoc(doc, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                    if (top.size() == limit) {
+                        threshold = top.peek().score();
+                        while (firstEssential < n && upTo[firstEssential] <= threshold) {
+                            firstEssential++;
+                        }
+                    }
+                }
+            }
+
+            ProductPublicDTO[] ranked = new ProductPublicDTO[top.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = documents.get(top.poll().doc());
+            }
+            return List.of(ranked);
+        }
+
+        private static Map<String, Integer> termFrequencies(ProductPublicDTO product) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : SearchTokenizer.tokenize(product.title())) {
+                frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            }
+            for (String token : SearchTokenizer.tokenize(product.description())) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            return frequencies;
+        }
+    }
+
+    // Empate de score: o documento mais antigo fica na frente
+    private record ScoredDoc(int doc, double score) implements Comparable<ScoredDoc> {
+        @Override
+        public int compareTo(ScoredDoc other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Integer.compare(other.doc, doc);
+        }
+    }
+}
@@ -1,83 +1,272 @@
 package com.example.crud_em_aula_projeto.application.service;
 
 
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.MyProductDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductFacetsDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPatchDTO;
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductStockDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
 import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
+import com.example.crud_em_aula_projeto.domain.exception.ServiceUnavailableException;
 import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
 import com.example.crud_em_aula_projeto.domain.model.entity.Product;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
-import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductStock;
 import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ProductStockRepository.StockChange;
 import com.example.crud_em_aula_projeto.domain.service.ProductDomainService; // Importando o novo Domain Service
+import com.example.crud_em_aula_projeto.infrastructure.security.AuthenticatedUserResolver;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ProductService {
 
+    public static final int MAX_PRICE_BUCKETS = 50;
+    // Produtos por consulta/UPDATE na atualização em lote: cada um vira três WHEN e um item do
+    // IN, e o CASE é avaliado por linha, então blocos grandes pesam mais que as idas ao banco
+    public static final int PATCH_CHUNK_SIZE = 200;
+
     private final ProductRepository productRepository;
-    private final CollaboratorRepository collaboratorRepository;
     private final ProductDomainService productDomainService;
+    private final AuthenticatedUserResolver authenticatedUser;
+    private final PublishedCatalog publishedCatalog;
+    private final ProductSearchIndex searchIndex;
+    private final ProductSuggestionIndex suggestionIndex;
+    private final ProductFacetIndex facetIndex;
+    private final ProductQueryIndex queryIndex;
+    private final ProductDetailCache detailCache;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate readOnly;
 
-    public ProductService(ProductRepository productRepository, CollaboratorRepository collaboratorRepository, ProductDomainService productDomainService) {
+    public ProductService(ProductRepository productRepository, ProductDomainService productDomainService, AuthenticatedUserResolver authenticatedUser,
+                          PublishedCatalog publishedCatalog, ProductSearchIndex searchIndex, ProductSuggestionIndex suggestionIndex,
+                          ProductFacetIndex facetIndex, ProductQueryIndex queryIndex, ProductDetailCache detailCache,
+                          ApplicationEventPublisher events, PlatformTransactionManager transactionManager) {
         this.productRepository = productRepository;
-        this.collaboratorRepository = collaboratorRepository;
         this.productDomainService = productDomainService;
+        this.authenticatedUser = authenticatedUser;
+        this.publishedCatalog = publishedCatalog;
+        this.searchIndex = searchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.facetIndex = facetIndex;
+        this.queryIndex = queryIndex;
+        this.detailCache = detailCache;
+        this.events = events;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
     }
 
-    @Transactional(readOnly = true)
+    /** ETag da vitrine (também vale por categoria): só a versão do snapshot, sem consulta. */
+    public Optional<String> publicCatalogETag() {
+        return publishedCatalog.versionTag().map(tag -> "\"catalog-" + tag + "\"");
+    }
+
+    // Sem @Transactional: a vitrine vem do snapshot em memória; o banco só é consultado
+    // antes da primeira carga ou quando o chamador já está numa transação
     public List<ProductPublicDTO> findAllPublicProducts() {
-        return productRepository.findAllByProductStatus(ProductStatus.AVAILABLE)
-                .stream()
-                .map(ProductPublicDTO::new)
-                .collect(Collectors.toList());
+        return publishedCatalog.allProducts().orElseGet(() ->
+                productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE).stream().map(ProductPublicDTO::new).toList());
+    }
+
+    /**
+     * Versão em streaming de {@link #findAllPublicProducts()}, sem montar uma lista por requisição.
+     * <p>
+     * Com o snapshot carregado o stream percorre a lista já publicada: ela ocupa O(catálogo),
+     * mas uma vez por nó e compartilhada por todas as requisições, que não copiam nada. Antes da
+     * primeira carga lê páginas de {@link PageCursor#MAX_LIMIT} por keyset, cada uma na sua
+     * transação curta; a requisição guarda no máximo uma página e, enquanto o cliente consome,
+     * não segura transação nem conexão. Sem snapshot a leitura não é um retrato único: um
+     * produto alterado no meio pode aparecer ou não, mas nunca duas vezes.
+     */
+    public Stream<ProductPublicDTO> streamPublicProducts() {
+        Optional<List<ProductPublicDTO>> snapshot = publishedCatalog.allProducts();
+        if (snapshot.isPresent()) {
+            return snapshot.get().stream();
+        }
+        return Stream.iterate(publicProductsAfter(PageCursor.afterId(null)), page -> !page.isEmpty(),
+                        page -> page.size() < PageCursor.MAX_LIMIT ? List.of()
+                                : publicProductsAfter(page.get(page.size() - 1).id()))
+                .flatMap(List::stream);
+    }
+
+    private List<ProductPublicDTO> publicProductsAfter(UUID afterId) {
+        return readOnly.execute(status -> productRepository.findPublicPageByProductStatus(ProductStatus.AVAILABLE,
+                afterId, Limit.of(PageCursor.MAX_LIMIT)).stream().map(ProductPublicDTO::new).toList());
+    }
+
+    /** Busca textual na vitrine, ordenada por relevância (BM25), direto do índice em memória. */
+    public List<ProductPublicDTO> searchPublicProducts(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessRuleException("Informe o termo de busca");
+        }
+        return searchIndex.search(query, PageCursor.checkLimit(limit)).orElseThrow(() ->
+                new ServiceUnavailableException("Busca indisponível enquanto a vitrine é carregada", 1));
+    }
+
+    public List<String> suggestProductTitles(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new BusinessRuleException("Informe o início do título");
+        }
+        return suggestionIndex.suggest(prefix, PageCursor.checkLimit(limit)).orElseThrow(() ->
+                new ServiceUnavailableException("Sugestões indisponíveis enquanto a vitrine é carregada", 1));
+    }
+
+    public ProductFacetsDTO findPublicFacets(List<String> categories, Double minPrice, Double maxPrice, int buckets) {
+        checkPriceRange(minPrice, maxPrice);
+        if (buckets < 1 || buckets > MAX_PRICE_BUCKETS) {
+            throw new BusinessRuleException("O número de faixas de preço deve estar entre 1 e " + MAX_PRICE_BUCKETS);
+        }
+        return facetIndex.facets(parseCategories(categories), minPrice, maxPrice, buckets).orElseThrow(() ->
+                new ServiceUnavailableException("Filtros indisponíveis enquanto a vitrine é carregada", 1));
+    }
+
+    /** ETag das listagens filtradas: a versão que o índice de filtros está servindo. */
+    public Optional<String> publicQueryETag() {
+        return queryIndex.versionTag().map(tag -> "\"catalog-" + tag + "\"");
+    }
+
+    /** Vitrine filtrada e ordenada, paginada por keyset, direto do índice em colunas. */
+    public CursorPage<ProductPublicDTO> queryPublicProducts(List<String> categories, Double minPrice, Double maxPrice,
+                                                           UUID collaboratorId, String sort, String after, int limit) {
+        return queryPublicProducts(publicQuery(categories, minPrice, maxPrice, collaboratorId, sort, after, limit));
+    }
+
+    public CursorPage<ProductPublicDTO> queryPublicProducts(ProductQueryIndex.Query query) {
+        return queryIndex.query(query.filter(), query.order(), query.after(), query.limit()).orElseThrow(() ->
+                new ServiceUnavailableException("Filtros indisponíveis enquanto a vitrine é carregada", 1));
+    }
+
+    /** Confere filtros, ordenação, cursor e limite da vitrine filtrada sem tocar no índice. */
+    public ProductQueryIndex.Query publicQuery(List<String> categories, Double minPrice, Double maxPrice,
+                                               UUID collaboratorId, String sort, String after, int limit) {
+        checkPriceRange(minPrice, maxPrice);
+        ProductQueryIndex.SortOrder order = sort == null ? ProductQueryIndex.SortOrder.ID
+                : ProductQueryIndex.SortOrder.fromParam(sort.trim()).orElseThrow(() ->
+                        new BusinessRuleException("Ordenação inválida: " + sort + " (use price, -price, title ou -title)"));
+        ProductQueryIndex.Filter filter = new ProductQueryIndex.Filter(parseCategories(categories), minPrice, maxPrice, collaboratorId);
+        return new ProductQueryIndex.Query(filter, order, after, limit);
+    }
+
+    /** Um produto da vitrine (só AVAILABLE), do cache de detalhe quando possível. */
+    public ProductPublicDTO findPublicProductById(UUID productId) {
+        ProductPublicDTO product = loadPublicProducts(List.of(productId)).get(productId);
+        if (product == null) {
+            throw new ResourceNotFoundException("Product not found with id: " + productId);
+        }
+        return product;
+    }
+
+    /**
+     * Vários produtos da vitrine de uma vez (ex.: carrinho), na ordem pedida e sem repetições.
+     * Ids inexistentes ou indisponíveis ficam de fora.
+     */
+    public List<ProductPublicDTO> findPublicProductsByIds(List<UUID> productIds) {
+        List<UUID> ids = productIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new BusinessRuleException("Informe ao menos um id");
+        }
+        if (ids.size() > PageCursor.MAX_LIMIT) {
+            throw new BusinessRuleException("Informe no máximo " + PageCursor.MAX_LIMIT + " ids");
+        }
+        Map<UUID, ProductPublicDTO> found = loadPublicProducts(ids);
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    private Map<UUID, ProductPublicDTO> loadPublicProducts(List<UUID> ids) {
+        // Faltas do cache numa única consulta IN
+        return detailCache.getAll(ids, missing -> readOnly.execute(status ->
+                productRepository.findPublicByIdInAndProductStatus(missing, ProductStatus.AVAILABLE)
+                        .stream().map(ProductPublicDTO::new).toList()));
+    }
+
+    private static void checkPriceRange(Double minPrice, Double maxPrice) {
+        if (minPrice != null && !Double.isFinite(minPrice) || maxPrice != null && !Double.isFinite(maxPrice)) {
+            throw new BusinessRuleException("Os limites de preço devem ser números finitos");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new BusinessRuleException("O preço mínimo não pode ser maior que o máximo");
+        }
+    }
+
+    private static Set<ProductCategory> parseCategories(List<String> categories) {
+        Set<ProductCategory> selected = EnumSet.noneOf(ProductCategory.class);
+        for (String category : categories == null ? List.<String>of() : categories) {
+            try {
+                selected.add(ProductCategory.valueOf(category.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessRuleException("Categoria inválida: " + category);
+            }
+        }
+        return selected;
     }
 
     @Transactional
     public MyProductDTO createProduct(ProductRequestDTO requestDTO) {
-        Collaborator collaborator = getAuthenticatedCollaborator();
+        Collaborator collaborator = authenticatedUser.currentCollaborator();
 
         productDomainService.validateProductLimit(collaborator);
 
         Product newProduct = requestDTO.toEntity(collaborator);
         Product savedProduct = productRepository.save(newProduct);
+        events.publishEvent(ProductsChangedEvent.ofProduct(savedProduct.getId()));
         return new MyProductDTO(savedProduct);
     }
 
+    /** Página da vitrine em ordem de id: do snapshot quando houver, senão por keyset no banco. */
+    public CursorPage<ProductPublicDTO> findPublicProductsPage(UUID afterId, int limit) {
+        Limit fetch = PageCursor.fetchLimit(limit);
+        List<ProductPublicDTO> products = publishedCatalog.productsAfter(afterId, fetch.max()).orElseGet(() ->
+                productRepository.findPublicPageByProductStatus(ProductStatus.AVAILABLE, afterId, fetch)
+                        .stream().map(ProductPublicDTO::new).toList());
+        return CursorPage.of(products, limit, product -> PageCursor.of(product.id()));
+    }
+
     @Transactional(readOnly = true)
-    public List<MyProductDTO> findProductsByAuthenticatedCollaborator() {
-        Collaborator collaborator = getAuthenticatedCollaborator();
+    public CursorPage<MyProductDTO> findProductsByAuthenticatedCollaborator(String after, int limit) {
+        UUID collaboratorId = authenticatedUser.currentCollaboratorId();
         List<ProductStatus> activeStatuses = List.of(ProductStatus.AVAILABLE, ProductStatus.OUT_OF_STOCK);
-        return productRepository.findAllByCollaboratorIdAndProductStatusIn(collaborator.getId(), activeStatuses)
-                .stream()
-                .map(MyProductDTO::new)
-                .collect(Collectors.toList());
+        List<MyProductDTO> products = productRepository.findMyProductsPageByCollaboratorIdAndProductStatusIn(
+                collaboratorId, activeStatuses, PageCursor.afterId(after), PageCursor.fetchLimit(limit))
+                .stream().map(MyProductDTO::new).toList();
+        return CursorPage.of(products, limit, product -> PageCursor.of(product.id()));
     }
 
-    @Transactional(readOnly = true)
     public List<ProductPublicDTO> findAllPublicProductsByCategory(ProductCategory category) {
-        return productRepository.findAllByProductCategoryAndProductStatus(category, ProductStatus.AVAILABLE)
-                .stream()
-                .map(ProductPublicDTO::new)
-                .collect(Collectors.toList());
+        return publishedCatalog.productsByCategory(category).orElseGet(() ->
+                productRepository.findPublicByProductCategoryAndProductStatus(category, ProductStatus.AVAILABLE)
+                        .stream().map(ProductPublicDTO::new).toList());
     }
 
     @Transactional(readOnly = true)
-    public List<MyProductDTO> findAllInactiveProducts() {
+    public CursorPage<MyProductDTO> findAllInactiveProducts(String after, int limit) {
         List<ProductStatus> inactiveStatuses = List.of(ProductStatus.DISCONTINUED);
-        return productRepository.findAllByProductStatusIn(inactiveStatuses)
-                .stream()
-                .map(MyProductDTO::new)
-                .collect(Collectors.toList());
+        List<MyProductDTO> products = productRepository.findMyProductsPageByProductStatusIn(
+                inactiveStatuses, PageCursor.afterId(after), PageCursor.fetchLimit(limit))
+                .stream().map(MyProductDTO::new).toList();
+        return CursorPage.of(products, limit, product -> PageCursor.of(product.id()));
     }
 
     @Transactional
@@ -96,6 +285,7 @@ public class ProductService {
         existingProduct.setProductCategory(requestDTO.productCategory());
 
         Product updatedProduct = productRepository.save(existingProduct);
+        events.publishEvent(ProductsChangedEvent.ofProduct(productId));
         return new MyProductDTO(updatedProduct);
     }
 
@@ -108,17 +298,92 @@ public class ProductService {
 
         product.setProductStatus(ProductStatus.DISCONTINUED);
         productRepository.save(product);
+        events.publishEvent(ProductsChangedEvent.ofProduct(productId));
+    }
+
+    /**
+     * Preço, estoque e status de vários produtos do colaborador de uma vez, sem carregar as
+     * entidades: o dono e o estado atual vêm de consultas {@code IN} e as mudanças são gravadas
+     * em UPDATEs, ambos por blocos de {@value #PATCH_CHUNK_SIZE} produtos (um só para lotes
+     * menores). A leitura trava as linhas até o commit e o UPDATE só regrava as colunas que o
+     * item mudou, então um checkout concorrente espera em vez de ter o estoque sobrescrito.
+     * O limite de ativos é checado uma vez, pelo saldo de ativações do lote.
+     * Tudo ou nada: um item inválido recusa o lote inteiro.
+     */
+    @Transactional
+    public List<ProductStockDTO> patchMyProducts(List<ProductPatchDTO> patches) {
+        Map<UUID, ProductPatchDTO> patchesById = new LinkedHashMap<>();
+        for (ProductPatchDTO patch : patches) {
+            if (patchesById.putIfAbsent(patch.productId(), patch) != null) {
+                throw new BusinessRuleException("Produto repetido no lote: " + patch.productId());
+            }
+        }
+        List<UUID> ids = new ArrayList<>(patchesById.keySet());
+        Map<UUID, ProductStock> current = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += PATCH_CHUNK_SIZE) {
+            productRepository.findStockByIdIn(ids.subList(from, Math.min(from + PATCH_CHUNK_SIZE, ids.size())))
+                    .forEach(stock -> current.put(stock.id(), stock));
+        }
+        UUID collaboratorId = authenticatedUser.currentCollaboratorId();
+
+        List<ProductStockDTO> result = new ArrayList<>(patchesById.size());
+        List<ProductStock> changed = new ArrayList<>();
+        long activated = 0;
+        for (ProductPatchDTO patch : patchesById.values()) {
+            ProductStock before = current.get(patch.productId());
+            if (before == null) {
+                throw new ResourceNotFoundException("Product not found with id: " + patch.productId());
+            }
+            if (!before.collaboratorId().equals(collaboratorId)) {
+                throw new AccessDeniedException("User does not have permission to modify this product");
+            }
+            ProductStock after = applyPatch(before, patch);
+            result.add(new ProductStockDTO(after));
+            if (!after.equals(before)) {
+                changed.add(after);
+                activated += ProductDomainService.activeDelta(before.productStatus(), after.productStatus());
+            }
+        }
+        if (activated > 0 && productDomainService.remainingActiveSlots(authenticatedUser.currentCollaborator()) < activated) {
+            throw new BusinessRuleException("Collaborator has reached the limit of 10 active products.");
+        }
+
+        List<StockChange> writes = changed.stream().map(after -> changeBetween(current.get(after.id()), after)).toList();
+        for (int from = 0; from < writes.size(); from += PATCH_CHUNK_SIZE) {
+            productRepository.updateStock(writes.subList(from, Math.min(from + PATCH_CHUNK_SIZE, writes.size())));
+        }
+        if (!changed.isEmpty()) {
+            events.publishEvent(ProductsChangedEvent.ofProducts(changed.stream().map(ProductStock::id).toList()));
+        }
+        return result;
+    }
+
+    // Status explícito vale, exceto AVAILABLE sem estoque; sem ele, a nova quantidade alterna
+    // entre AVAILABLE e OUT_OF_STOCK. DISCONTINUED só muda por status explícito.
+    private static ProductStock applyPatch(ProductStock product, ProductPatchDTO patch) {
+        double price = patch.price() != null ? patch.price() : product.price();
+        int quantity = patch.quantity() != null ? patch.quantity() : product.quantity();
+        ProductStatus status = patch.productStatus() != null ? patch.productStatus() : product.productStatus();
+        if (status == ProductStatus.AVAILABLE && quantity == 0) {
+            status = ProductStatus.OUT_OF_STOCK;
+        } else if (status == ProductStatus.OUT_OF_STOCK && quantity > 0
+                && patch.productStatus() == null && patch.quantity() != null) {
+            status = ProductStatus.AVAILABLE;
+        }
+        return new ProductStock(product.id(), product.collaboratorId(), price, quantity, status);
     }
 
-    private Collaborator getAuthenticatedCollaborator() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return collaboratorRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Collaborator not found with email: " + email));
+    // Só o que mudou vai para o UPDATE; as demais colunas ficam como estão no banco
+    private static StockChange changeBetween(ProductStock before, ProductStock after) {
+        return new StockChange(after.id(),
+                Objects.equals(before.price(), after.price()) ? null : after.price(),
+                Objects.equals(before.quantity(), after.quantity()) ? null : after.quantity(),
+                before.productStatus() == after.productStatus() ? null : after.productStatus());
     }
 
     private void checkOwnership(Product product) {
-        Collaborator collaborator = getAuthenticatedCollaborator();
-        if (!product.getCollaborator().getId().equals(collaborator.getId())) {
+        // Compara só os UUIDs: o id do colaborador vem do token, sem consulta extra
+        if (!product.getCollaborator().getId().equals(authenticatedUser.currentCollaboratorId())) {
             throw new AccessDeniedException("User does not have permission to modify this product");
         }
     }
@@ -0,0 +1,409 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.model.enuns.OrderStatus;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductSales;
+import com.example.crud_em_aula_projeto.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Autocompletar sobre os títulos da vitrine: dado o começo digitado, os títulos mais
+ * vendidos que começam com ele.
+ * <p>
+ * Os títulos (sem acento, minúsculos) ficam ordenados num único array de bytes UTF-8 com
+ * offsets, então um prefixo é um intervalo contíguo achado por duas buscas binárias. Uma
+ * árvore de segmentos guarda o título mais vendido de cada intervalo e os k melhores saem
+ * dela em O(k log n), sem percorrer o intervalo. Acompanha o {@link PublishedCatalog} como
+ * o {@link ProductSearchIndex}: produtos com título já conhecido só ajustam contagem e
+ * vendas no lugar; títulos novos vão para um TreeMap, fundido ao array quando cresce.
+ * <p>
+ * A popularidade é o total de unidades vendidas em pedidos não cancelados. Pedidos e
+ * cancelamentos já republicam os produtos na vitrine, então as vendas dos produtos de cada
+ * mudança são relidas do banco junto.
+ */
+@Slf4j
+@Service
+public class ProductSuggestionIndex {
+
+    // Títulos novos acumulados antes de refazer o array ordenado
+    static final int MIN_MERGE = 1024;
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate readOnly;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Só o thread de atualização da vitrine escreve nos campos abaixo
+    private Titles titles; // null até a primeira carga da vitrine
+    private final TreeMap<String, Title> recent = new TreeMap<>();
+    // Só produtos da vitrine que já venderam: o peso a descontar quando saem
+    private final Map<UUID, Long> unitsSoldByProduct = new HashMap<>();
+
+    public ProductSuggestionIndex(OrderRepository orderRepository, PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        Gauge.builder("catalog.suggest.titles", this, index -> index.titleCount())
+                .description("Títulos distintos no autocompletar em memória")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onCatalogChanged(PublishedCatalog.Changed change) {
+        if (change.full() || titles == null) {
+            Map<UUID, Long> unitsSold = unitsSold(null);
+            // Montado fora do lock: as sugestões seguem nos títulos anteriores até a troca
+            Map<String, Title> grouped = new HashMap<>();
+            for (ProductPublicDTO product : change.added()) {
+                grouped.computeIfAbsent(key(product.title()), key -> new Title(product.title()))
+                        .add(unitsSold.getOrDefault(product.id(), 0L));
+            }
+            Titles rebuilt = Titles.of(grouped);
+            unitsSold.keySet().retainAll(change.added().stream().map(ProductPublicDTO::id).collect(Collectors.toSet()));
+            lock.writeLock().lock();
+            try {
+                titles = rebuilt;
+                recent.clear();
+                unitsSoldByProduct.clear();
+                unitsSoldByProduct.putAll(unitsSold);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Autocompletar reconstruído: {} títulos", rebuilt.live);
+            return;
+        }
+        // Consulta antes do lock: se o banco falhar, nada da mudança é aplicado
+        Map<UUID, Long> unitsSold = change.added().isEmpty() ? Map.of()
+                : unitsSold(change.added().stream().map(ProductPublicDTO::id).collect(Collectors.toSet()));
+        lock.writeLock().lock();
+        try {
+            change.removed().forEach(this::remove);
+            change.added().forEach(product -> add(product, unitsSold.getOrDefault(product.id(), 0L)));
+            if (recent.size() > Math.max(MIN_MERGE, titles.size() / 16)) {
+                titles = titles.merge(recent);
+                recent.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Até {@code limit} títulos que começam com {@code prefix} (ignorando acentos e
+     * maiúsculas), do mais para o menos vendido e, no empate, em ordem alfabética; vazio
+     * enquanto a vitrine não foi carregada.
+     */
+    public Optional<List<String>> suggest(String prefix, int limit) {
+        String key = SearchTokenizer.foldPhrase(prefix);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try {
+            if (titles == null) {
+                return Optional.empty();
+            }
+            List<Suggestion> candidates = titles.top(keyBytes, limit);
+            recent.subMap(key, true, key + Character.MAX_VALUE, false)
+                    .forEach((title, entry) -> candidates.add(new Suggestion(title, entry.display, entry.unitsSold)));
+            return Optional.of(candidates.stream()
+                    .sorted(Suggestion.BEST_FIRST)
+                    .limit(limit)
+                    .map(Suggestion::display)
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int titleCount() {
+        lock.readLock().lock();
+        try {
+            return titles == null ? 0 : titles.live + recent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(ProductPublicDTO product, long unitsSold) {
+        String key = key(product.title());
+        int index = titles.find(key.getBytes(StandardCharsets.UTF_8));
+        if (index >= 0) {
+            titles.add(index, product.title(), unitsSold);
+        } else {
+            recent.computeIfAbsent(key, k -> new Title(product.title())).add(unitsSold);
+        }
+        if (unitsSold > 0) {
+            unitsSoldByProduct.put(product.id(), unitsSold);
+        }
+    }
+
+    private void remove(ProductPublicDTO product) {
+        String key = key(product.title());
+        long unitsSold = Optional.ofNullable(unitsSoldByProduct.remove(product.id())).orElse(0L);
+        int index = titles.find(key.getBytes(StandardCharsets.UTF_8));
+        if (index >= 0) {
+            titles.remove(index, unitsSold);
+            return;
+        }
+        Title entry = recent.get(key);
+        if (entry != null && entry.remove(unitsSold) == 0) {
+            recent.remove(key);
+        }
+    }
+
+    private Map<UUID, Long> unitsSold(Set<UUID> productIds) {
+        List<ProductSales> sales = readOnly.execute(status -> productIds == null
+                ? orderRepository.sumUnitsSold(OrderStatus.CANCELLED)
+                : orderRepository.sumUnitsSoldByProductIdIn(OrderStatus.CANCELLED, productIds));
+        Map<UUID, Long> unitsSold = new HashMap<>();
+        for (ProductSales sale : sales) {
+            unitsSold.put(sale.productId(), sale.unitsSold());
+        }
+        return unitsSold;
+    }
+
+    private static String key(String title) {
+        return SearchTokenizer.foldPhrase(title).stripTrailing();
+    }
+
+    private record Suggestion(String key, String display, long unitsSold) {
+        static final Comparator<Suggestion> BEST_FIRST = Comparator.comparingLong(Suggestion::unitsSold).reversed()
+                .thenComparing(Suggestion::key);
+    }
+
+    /** Produtos da vitrine com o mesmo título normalizado. */
+    private static final class Title {
+        String display; // grafia de um dos produtos, mostrada na sugestão
+        int products;
+        long unitsSold;
+
+        Title(String display) {
+            this.display = display;
+        }
+
+        void add(long units) {
+            products++;
+            unitsSold += units;
+        }
+
+        int remove(long units) {
+            unitsSold -= units;
+            return --products;
+        }
+    }
+
+    /**
+     * Títulos em ordem de bytes com contagem de produtos e vendas de cada um. Títulos que
+     * ficam sem produtos continuam no array (com score -1) até a próxima fusão.
+     */
+    private static final class Titles {
+        final byte[] keys;
+        final int[] offsets; // título i ocupa keys[offsets[i], offsets[i + 1])
+        final String[] display;
+        final int[] products;
+        final long[] unitsSold;
+        final int leaves;
+        final int[] best; // árvore de segmentos: índice do melhor título de cada nó, -1 se vazio
+        int live;
+
+        private Titles(byte[] keys, int[] offsets, String[] display, int[] products, long[] unitsSold) {
+            this.keys = keys;
+            this.offsets = offsets;
+            this.display = display;
+            this.products = products;
+            this.unitsSold = unitsSold;
+            int size = display.length;
+            this.leaves = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+            this.best = new int[2 * leaves];
+            Arrays.fill(best, -1);
+            for (int i = 0; i < size; i++) {
+                best[leaves + i] = i;
+                if (products[i] > 0) {
+                    live++;
+                }
+            }
+            for (int node = leaves - 1; node > 0; node--) {
+                best[node] = better(best[2 * node], best[2 * node + 1]);
+            }
+        }
+
+        static Titles of(Map<String, Title> grouped) {
+            List<Map.Entry<byte[], Title>> rows = new ArrayList<>(grouped.size());
+            grouped.forEach((key, title) -> rows.add(Map.entry(key.getBytes(StandardCharsets.UTF_8), title)));
+            rows.sort(Map.Entry.comparingByKey(Arrays::compareUnsigned));
+            int totalBytes = 0;
+            for (Map.Entry<byte[], Title> row : rows) {
+                totalBytes += row.getKey().length;
+            }
+            byte[] keys = new byte[totalBytes];
+            int[] offsets = new int[rows.size() + 1];
+            String[] display = new String[rows.size()];
+            int[] products = new int[rows.size()];
+            long[] unitsSold = new long[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                byte[] key = rows.get(i).getKey();
+                Title title = rows.get(i).getValue();
+                System.arraycopy(key, 0, keys, offsets[i], key.length);
+                offsets[i + 1] = offsets[i] + key.length;
+                display[i] = title.display;
+                products[i] = title.products;
+                unitsSold[i] = title.unitsSold;
+            }
+            return new Titles(keys, offsets, display, products, unitsSold);
+        }
+
+        /** Novo array com os títulos vivos deste e os de {@code recent}. */
+        Titles merge(Map<String, Title> recent) {
+            Map<String, Title> grouped = new HashMap<>(recent);
+            for (int i = 0; i < size(); i++) {
+                if (products[i] > 0) {
+                    Title title = new Title(display[i]);
+                    title.products = products[i];
+                    title.unitsSold = unitsSold[i];
+                    grouped.put(new String(keys, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8), title);
+                }
+            }
+            return of(grouped);
+        }
+
+        int size() {
+            return display.length;
+        }
+
+        int find(byte[] key) {
+            int index = lowerBound(key);
+            return index < size() && compare(index, key) == 0 ? index : -1;
+        }
+
+        void add(int index, String title, long units) {
+            if (products[index]++ == 0) {
+                display[index] = title;
+                live++;
+            }
+            unitsSold[index] += units;
+            update(index);
+        }
+
+        void remove(int index, long units) {
+            if (products[index] == 0) {
+                return;
+            }
+            unitsSold[index] -= units;
+            if (--products[index] == 0) {
+                live--;
+            }
+            update(index);
+        }
+
+        /** Os {@code limit} melhores títulos com o prefixo, em ordem. */
+        List<Suggestion> top(byte[] prefix, int limit) {
+            int from = lowerBound(prefix);
+            int to = from;
+            int high = size();
+            while (to < high) {
+                int middle = (to + high) >>> 1;
+                if (startsWith(middle, prefix)) {
+                    to = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            // Cada intervalo entra com o seu melhor; ao sair, divide-se em volta dele
+            PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> a[2] == better(a[2], b[2]) ? -1 : 1);
+            offer(ranges, from, to);
+            List<Suggestion> top = new ArrayList<>(limit);
+            while (top.size() < limit && !ranges.isEmpty()) {
+                int[] range = ranges.poll();
+                int index = range[2];
+                top.add(new Suggestion(new String(keys, offsets[index], offsets[index + 1] - offsets[index],
+                        StandardCharsets.UTF_8), display[index], unitsSold[index]));
+                offer(ranges, range[0], index);
+                offer(ranges, index + 1, range[1]);
+            }
+            return top;
+        }
+
+        private void offer(PriorityQueue<int[]> ranges, int from, int to) {
+            int index = bestIn(from, to);
+            if (index >= 0) {
+                ranges.add(new int[]{from, to, index});
+            }
+        }
+
+        private int bestIn(int from, int to) {
+            int result = -1;
+            for (int low = from + leaves, high = to + leaves; low < high; low >>= 1, high >>= 1) {
+                if ((low & 1) == 1) {
+                    result = better(result, best[low++]);
+                }
+                if ((high & 1) == 1) {
+                    result = better(result, best[--high]);
+                }
+            }
+            return result;
+        }
+
+        private void update(int index) {
+            for (int node = (index + leaves) >> 1; node > 0; node >>= 1) {
+                best[node] = better(best[2 * node], best[2 * node + 1]);
+            }
+        }
+
+        // Mais vendido primeiro; no empate, o menor na ordem do array. Títulos sem produtos não contam.
+        private int better(int a, int b) {
+            if (a < 0 || products[a] == 0) {
+                return b < 0 || products[b] == 0 ? -1 : b;
+            }
+            if (b < 0 || products[b] == 0) {
+                return a;
+            }
+            if (unitsSold[a] != unitsSold[b]) {
+                return unitsSold[a] > unitsSold[b] ? a : b;
+            }
+            return Math.min(a, b);
+        }
+
+        private int lowerBound(byte[] key) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(middle, key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int compare(int index, byte[] key) {
+            return Arrays.compareUnsigned(keys, offsets[index], offsets[index + 1], key, 0, key.length);
+        }
+
+        private boolean startsWith(int index, byte[] prefix) {
+            return offsets[index + 1] - offsets[index] >= prefix.length
+                    && Arrays.equals(keys, offsets[index], offsets[index] + prefix.length, prefix, 0, prefix.length);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Vitrine pública ({@code GET /api/products}) servida de um snapshot imutável em memória.
+ * <p>
+ * Cada {@link ProductsChangedEvent} commitado marca produtos como pendentes; um único
+ * thread recarrega só esses produtos e publica um novo snapshot com versão maior.
+ * Enquanto a atualização roda, ou se o banco estiver fora, as leituras continuam no
+ * snapshot anterior e os pendentes são tentados de novo. Antes da primeira carga, e
+ * dentro de uma transação do chamador, quem chama consulta o banco.
+ */
+@Slf4j
+@Service
+public class PublishedCatalog {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate readOnly;
+    private final ExecutorService refresher;
+    private final Clock clock;
+    private final Set<UUID> pendingProducts = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> pendingCollaborators = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullRebuildRequested = new AtomicBoolean(true);
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final Counter refreshFailures;
+    // Diferencia versões de antes de um restart (a numeração recomeça em 1)
+    private final String epoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public PublishedCatalog(ProductRepository productRepository, PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry, ApplicationEventPublisher events) {
+        this(productRepository, transactionManager, meterRegistry, events, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "published-catalog-refresher");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemUTC());
+    }
+
+    PublishedCatalog(ProductRepository productRepository, PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry, ApplicationEventPublisher events, ExecutorService refresher, Clock clock) {
+        this.productRepository = productRepository;
+        this.events = events;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.refresher = refresher;
+        this.clock = clock;
+        this.refreshFailures = Counter.builder("catalog.published.refresh.failures")
+                .description("Atualizações da vitrine que falharam (o snapshot anterior continua servido)")
+                .register(meterRegistry);
+        Gauge.builder("catalog.published.age", this, catalog -> catalog.age().map(Duration::toSeconds).orElse(-1L))
+                .description("Idade do snapshot servido na vitrine (-1 = ainda não carregado)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("catalog.published.version", this, catalog -> catalog.snapshot == null ? 0 : catalog.snapshot.version())
+                .register(meterRegistry);
+        Gauge.builder("catalog.published.pending", this, catalog -> catalog.pendingProducts.size() + catalog.pendingCollaborators.size())
+                .description("Produtos/colaboradores alterados ainda não refletidos no snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param version  cresce a cada snapshot publicado
+     * @param builtAt  momento da última leitura bem-sucedida do banco
+     * @param all      ordenada por id ({@link PageCursor#ID_ORDER}), como as páginas do banco
+     */
+    public record Snapshot(long version, Instant builtAt,
+                           Map<ProductCategory, List<ProductPublicDTO>> byCategory,
+                           List<ProductPublicDTO> all) {
+    }
+
+    /**
+     * Publicado no thread de atualização a cada novo snapshot, para quem mantém estruturas
+     * derivadas da vitrine (ex.: {@link ProductSearchIndex}).
+     *
+     * @param full    reconstrução completa: {@code added} é a vitrine inteira e o resto deve ser descartado
+     * @param removed linhas que saíram do snapshot (inclui a versão antiga de produtos alterados)
+     */
+    public record Changed(long version, boolean full, List<ProductPublicDTO> removed, List<ProductPublicDTO> added) {
+    }
+
+    public Optional<List<ProductPublicDTO>> allProducts() {
+        return servable().map(Snapshot::all);
+    }
+
+    public Optional<List<ProductPublicDTO>> productsByCategory(ProductCategory category) {
+        return servable().map(current -> current.byCategory().get(category));
+    }
+
+    /** Até {@code count} produtos com id depois de {@code after}, na mesma ordem da consulta paginada. */
+    public Optional<List<ProductPublicDTO>> productsAfter(UUID after, int count) {
+        return servable().map(current -> {
+            List<ProductPublicDTO> all = current.all();
+            int from = firstAfter(all, after);
+            return all.subList(from, Math.min(all.size(), from + count));
+        });
+    }
+
+    private static int firstAfter(List<ProductPublicDTO> sorted, UUID after) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (PageCursor.ID_ORDER.compare(sorted.get(mid).id(), after) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Identifica o snapshot que seria servido agora; vazio quando a leitura iria ao banco. */
+    public Optional<String> versionTag() {
+        return servable().map(current -> epoch + "." + current.version());
+    }
+
+    public Optional<Snapshot> current() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /** Tempo desde a última atualização bem-sucedida (cresce enquanto o banco estiver fora). */
+    public Optional<Duration> age() {
+        Snapshot current = snapshot;
+        return current == null ? Optional.empty() : Optional.of(Duration.between(current.builtAt(), clock.instant()));
+    }
+
+    private Optional<Snapshot> servable() {
+        // A transação do chamador pode ter escritas ainda não commitadas: ele lê do banco
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        scheduleRefresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        pendingProducts.addAll(event.productIds());
+        pendingCollaborators.addAll(event.collaboratorIds());
+        scheduleRefresh();
+    }
+
+    // Retentativa após falha e reconstrução completa periódica (cobre escritas fora dos serviços)
+    @Scheduled(fixedDelayString = "${catalog.published.retry-delay-ms:5000}")
+    public void retryPending() {
+        if (snapshot == null || !pendingProducts.isEmpty() || !pendingCollaborators.isEmpty()) {
+            scheduleRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.published.full-rebuild-ms:600000}",
+            initialDelayString = "${catalog.published.full-rebuild-ms:600000}")
+    public void requestFullRebuild() {
+        fullRebuildRequested.set(true);
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refresher.execute(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        // Liberado antes de drenar: eventos que chegarem durante a carga agendam outra rodada
+        refreshScheduled.set(false);
+        boolean full = fullRebuildRequested.getAndSet(false) || snapshot == null;
+        Set<UUID> products = drain(pendingProducts);
+        Set<UUID> collaborators = drain(pendingCollaborators);
+        if (!full && products.isEmpty() && collaborators.isEmpty()) {
+            return;
+        }
+        Changed changed;
+        try {
+            Snapshot next;
+            if (full) {
+                next = rebuild();
+                changed = new Changed(next.version(), true, List.of(), next.all());
+            } else {
+                List<ProductPublicDTO> removed = new ArrayList<>();
+                List<ProductPublicDTO> added = new ArrayList<>();
+                next = applyChanges(products, collaborators, removed, added);
+                changed = new Changed(next.version(), false, removed, added);
+            }
+            snapshot = next;
+            log.debug("Vitrine atualizada: versão {}, {} produtos", next.version(), next.all().size());
+        } catch (RuntimeException e) {
+            if (full) {
+                fullRebuildRequested.set(true);
+            }
+            pendingProducts.addAll(products);
+            pendingCollaborators.addAll(collaborators);
+            refreshFailures.increment();
+            log.warn("Falha ao atualizar a vitrine; servindo o snapshot anterior (idade {}): {}",
+                    age().orElse(null), e.getMessage());
+            return;
+        }
+        try {
+            events.publishEvent(changed);
+        } catch (RuntimeException e) {
+            // O snapshot já foi publicado; a próxima reconstrução completa ressincroniza os ouvintes
+            log.warn("Falha ao propagar a versão {} da vitrine: {}", changed.version(), e.getMessage());
+        }
+    }
+
+    private Snapshot rebuild() {
+        Instant startedAt = clock.instant();
+        List<ProductPublicDTO> available = readOnly.execute(status ->
+                productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE).stream().map(ProductPublicDTO::new).toList());
+        return publish(emptyCategories(), available, startedAt);
+    }
+
+    private Snapshot applyChanges(Set<UUID> productIds, Set<UUID> collaboratorIds,
+                                  List<ProductPublicDTO> removed, List<ProductPublicDTO> added) {
+        Instant startedAt = clock.instant();
+        // Só voltam os que continuam disponíveis; os demais alterados saem da vitrine
+        List<ProductPublicDTO> available = readOnly.execute(status -> {
+            List<ProductPublicDTO> loaded = new ArrayList<>();
+            if (!productIds.isEmpty()) {
+                productRepository.findPublicByIdInAndProductStatus(productIds, ProductStatus.AVAILABLE)
+                        .forEach(product -> loaded.add(new ProductPublicDTO(product)));
+            }
+            if (!collaboratorIds.isEmpty()) {
+                productRepository.findPublicByCollaboratorIdInAndProductStatus(collaboratorIds, ProductStatus.AVAILABLE)
+                        .forEach(product -> loaded.add(new ProductPublicDTO(product)));
+            }
+            return loaded;
+        });
+
+        Map<ProductCategory, List<ProductPublicDTO>> categories = emptyCategories();
+        for (ProductPublicDTO product : snapshot.all()) {
+            if (!productIds.contains(product.id()) && !collaboratorIds.contains(product.collaboratorId())) {
+                categories.get(product.productCategory()).add(product);
+            } else {
+                removed.add(product);
+            }
+        }
+        Set<UUID> addedIds = new HashSet<>();
+        for (ProductPublicDTO product : available) {
+            // Um produto pode vir pelas duas consultas
+            if (addedIds.add(product.id())) {
+                added.add(product);
+            }
+        }
+        return publish(categories, added, startedAt);
+    }
+
+    private Snapshot publish(Map<ProductCategory, List<ProductPublicDTO>> categories,
+                             Collection<ProductPublicDTO> additions, Instant builtAt) {
+        additions.forEach(product -> categories.get(product.productCategory()).add(product));
+
+        EnumMap<ProductCategory, List<ProductPublicDTO>> byCategory = new EnumMap<>(ProductCategory.class);
+        List<ProductPublicDTO> all = new ArrayList<>();
+        categories.forEach((category, products) -> {
+            byCategory.put(category, List.copyOf(products));
+            all.addAll(products);
+        });
+        all.sort(Comparator.comparing(ProductPublicDTO::id, PageCursor.ID_ORDER));
+        long version = snapshot == null ? 1 : snapshot.version() + 1;
+        return new Snapshot(version, builtAt, Collections.unmodifiableMap(byCategory), List.copyOf(all));
+    }
+
+    private static Map<ProductCategory, List<ProductPublicDTO>> emptyCategories() {
+        EnumMap<ProductCategory, List<ProductPublicDTO>> categories = new EnumMap<>(ProductCategory.class);
+        for (ProductCategory category : ProductCategory.values()) {
+            categories.put(category, new ArrayList<>());
+        }
+        return categories;
+    }
+
+    private static Set<UUID> drain(Set<UUID> pending) {
+        Set<UUID> drained = new HashSet<>();
+        for (UUID id : pending) {
+            if (pending.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        refresher.shutdown();
+        refresher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
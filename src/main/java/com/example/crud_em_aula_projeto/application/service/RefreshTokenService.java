@@ -0,0 +1,94 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.domain.model.entity.RefreshToken;
+import com.example.crud_em_aula_projeto.domain.model.entity.Usuario;
+import com.example.crud_em_aula_projeto.domain.repository.RefreshTokenRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.TokenDigests;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Refresh tokens rotativos e de uso único. Cada uso devolve um token novo da mesma
+ * família; apresentar de novo um token já usado indica vazamento e revoga a família inteira.
+ */
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokens;
+    private final long expirationSeconds;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokens,
+                               @Value("${security.jwt.refresh-expiration-seconds:1209600}") long expirationSeconds) {
+        this.refreshTokens = refreshTokens;
+        this.expirationSeconds = expirationSeconds;
+    }
+
+    /** Resultado de uma rotação: o dono do token e o novo refresh token (em claro, só para a resposta). */
+    public record Rotation(Usuario usuario, String refreshToken) {}
+
+    @Transactional
+    public String issue(Usuario usuario) {
+        return issue(usuario, UUID.randomUUID());
+    }
+
+    // noRollbackFor: a revogação da família por reuso precisa ser gravada mesmo com o erro
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokens.findByTokenHash(TokenDigests.sha256(rawToken))
+                .orElseThrow(() -> new BadCredentialsException("Refresh token inválido"));
+
+        if (current.isRevoked()) {
+            throw new BadCredentialsException("Refresh token revogado");
+        }
+        if (current.isUsed() || refreshTokens.markUsed(current.getId()) == 0) {
+            refreshTokens.revokeFamily(current.getFamilyId());
+            throw new BadCredentialsException("Refresh token reutilizado; sessão encerrada");
+        }
+        if (current.getExpiresAt().isBefore(Instant.now())) {
+            throw new BadCredentialsException("Refresh token expirado");
+        }
+
+        Usuario usuario = current.getUsuario();
+        if (!Boolean.TRUE.equals(usuario.getActive())) {
+            refreshTokens.revokeFamily(current.getFamilyId());
+            throw new BadCredentialsException("Usuário inativo");
+        }
+        return new Rotation(usuario, issue(usuario, current.getFamilyId()));
+    }
+
+    // Logout: encerra a família do token apresentado (token desconhecido é ignorado)
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokens.findByTokenHash(TokenDigests.sha256(rawToken))
+                .ifPresent(token -> refreshTokens.revokeFamily(token.getFamilyId()));
+    }
+
+    @Transactional
+    public void revokeAll(UUID usuarioId) {
+        refreshTokens.revokeAllByUsuarioId(usuarioId);
+    }
+
+    // Limpeza diária das linhas vencidas para manter a tabela pequena
+    @Scheduled(cron = "${security.jwt.refresh-cleanup-cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokens.deleteExpired(Instant.now());
+    }
+
+    private String issue(Usuario usuario, UUID familyId) {
+        String rawToken = TokenDigests.randomToken();
+        refreshTokens.save(RefreshToken.builder()
+                .tokenHash(TokenDigests.sha256(rawToken))
+                .familyId(familyId)
+                .usuario(usuario)
+                .expiresAt(Instant.now().plusSeconds(expirationSeconds))
+                .build());
+        return rawToken;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Quebra títulos e descrições em termos de busca: minúsculas, sem acento ("Câmera" e
+ * "camera" viram o mesmo termo), só letras e dígitos, sem as palavras mais comuns.
+ */
+final class SearchTokenizer {
+
+    // Aparecem em quase todo produto: só aumentariam as listas sem ajudar no ranking
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "de", "da", "do", "das", "dos", "e", "em", "no", "na",
+            "nos", "nas", "para", "por", "com", "sem", "the", "and", "of", "for", "with");
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = folded.substring(start, i);
+                if (!STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /** Texto dobrado como em {@link #fold} com cada sequência de espaços reduzida a um só e sem espaço inicial. */
+    static String foldPhrase(String text) {
+        String folded = fold(text);
+        StringBuilder phrase = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                phrase.append(c);
+            } else if (!phrase.isEmpty() && phrase.charAt(phrase.length() - 1) != ' ') {
+                phrase.append(' ');
+            }
+        }
+        return phrase.toString();
+    }
+
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+}
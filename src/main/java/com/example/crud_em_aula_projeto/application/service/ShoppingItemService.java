@@ -4,17 +4,15 @@ import com.example.crud_em_aula_projeto.application.dto.shoppingDTOs.ShoppingIte
 import com.example.crud_em_aula_projeto.application.dto.shoppingDTOs.ShoppingItemResponseDTO;
 import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
 import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
-import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
 import com.example.crud_em_aula_projeto.domain.model.entity.Product;
 import com.example.crud_em_aula_projeto.domain.model.entity.Shopping;
 import com.example.crud_em_aula_projeto.domain.model.entity.ShoppingItem;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
-import com.example.crud_em_aula_projeto.domain.repository.CustomerRepository;
 import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
 import com.example.crud_em_aula_projeto.domain.repository.ShoppingItemRepository;
 import com.example.crud_em_aula_projeto.domain.repository.ShoppingRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.AuthenticatedUserResolver;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +28,7 @@ public class ShoppingItemService {
     private final ShoppingItemRepository shoppingItemRepository;
     private final ShoppingRepository shoppingRepository;
     private final ProductRepository productRepository;
-    private final CustomerRepository customerRepository;
+    private final AuthenticatedUserResolver authenticatedUser;
 
     @Transactional(readOnly = true)
     public ShoppingItemResponseDTO getItemById(UUID itemId) {
@@ -59,8 +57,7 @@ public class ShoppingItemService {
 
     @Transactional(readOnly = true)
     public List<ShoppingItemResponseDTO> getItemsByAuthenticatedCustomer() {
-        Customer customer = getAuthenticatedCustomer();
-        Shopping shopping = shoppingRepository.findByCustomerId(customer.getId())
+        Shopping shopping = shoppingRepository.findByCustomerId(authenticatedUser.currentCustomerId())
                 .orElseThrow(() -> new ResourceNotFoundException("Carrinho de compras não encontrado para este cliente"));
         
         return shoppingItemRepository.findByShoppingId(shopping.getId())
@@ -71,8 +68,7 @@ public class ShoppingItemService {
 
     @Transactional
     public ShoppingItemResponseDTO createItem(ShoppingItemRequestDTO requestDTO) {
-        Customer customer = getAuthenticatedCustomer();
-        Shopping shopping = getOrCreateShopping(customer);
+        Shopping shopping = getOrCreateShopping();
         
         Product product = productRepository.findById(requestDTO.productId())
                 .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com o ID: " + requestDTO.productId()));
@@ -103,6 +99,7 @@ public class ShoppingItemService {
         }
 
         ShoppingItem savedItem = shoppingItemRepository.save(item);
+        shoppingRepository.incrementRevision(shopping.getId());
         return new ShoppingItemResponseDTO(savedItem);
     }
 
@@ -120,6 +117,7 @@ public class ShoppingItemService {
 
         item.setQuantity(quantity);
         ShoppingItem updatedItem = shoppingItemRepository.save(item);
+        shoppingRepository.incrementRevision(item.getShopping().getId());
         return new ShoppingItemResponseDTO(updatedItem);
     }
 
@@ -132,6 +130,7 @@ public class ShoppingItemService {
         validateItemOwnership(item);
 
         shoppingItemRepository.delete(item);
+        shoppingRepository.incrementRevision(item.getShopping().getId());
     }
 
     @Transactional
@@ -144,43 +143,37 @@ public class ShoppingItemService {
 
         List<ShoppingItem> items = shoppingItemRepository.findByShoppingId(shoppingId);
         shoppingItemRepository.deleteAll(items);
+        shoppingRepository.incrementRevision(shopping.getId());
     }
 
     @Transactional
     public void deleteAllItemsByAuthenticatedCustomer() {
-        Customer customer = getAuthenticatedCustomer();
-        Shopping shopping = shoppingRepository.findByCustomerId(customer.getId())
+        Shopping shopping = shoppingRepository.findByCustomerId(authenticatedUser.currentCustomerId())
                 .orElseThrow(() -> new ResourceNotFoundException("Carrinho de compras não encontrado"));
 
         List<ShoppingItem> items = shoppingItemRepository.findByShoppingId(shopping.getId());
         shoppingItemRepository.deleteAll(items);
+        shoppingRepository.incrementRevision(shopping.getId());
     }
 
-    private Customer getAuthenticatedCustomer() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return customerRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o e-mail: " + email));
-    }
-
-    private Shopping getOrCreateShopping(Customer customer) {
-        return shoppingRepository.findByCustomerId(customer.getId())
+    private Shopping getOrCreateShopping() {
+        return shoppingRepository.findByCustomerId(authenticatedUser.currentCustomerId())
                 .orElseGet(() -> {
                     Shopping newShopping = new Shopping();
-                    newShopping.setCustomer(customer);
+                    newShopping.setCustomer(authenticatedUser.currentCustomer());
                     return shoppingRepository.save(newShopping);
                 });
     }
 
+    // As verificações de dono comparam só o UUID vindo do token, sem consultar o cliente
     private void validateItemOwnership(ShoppingItem item) {
-        Customer customer = getAuthenticatedCustomer();
-        if (!item.getShopping().getCustomer().getId().equals(customer.getId())) {
+        if (!item.getShopping().getCustomer().getId().equals(authenticatedUser.currentCustomerId())) {
             throw new BusinessRuleException("Você não tem permissão para acessar este item");
         }
     }
 
     private void validateShoppingOwnership(Shopping shopping) {
-        Customer customer = getAuthenticatedCustomer();
-        if (!shopping.getCustomer().getId().equals(customer.getId())) {
+        if (!shopping.getCustomer().getId().equals(authenticatedUser.currentCustomerId())) {
             throw new BusinessRuleException("Você não tem permissão para acessar este carrinho");
         }
     }
@@ -1,32 +1,49 @@
 package com.example.crud_em_aula_projeto.application.service;
 
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
 import com.example.crud_em_aula_projeto.application.dto.shoppingDTOs.ShoppingResponseDTO;
 import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
 import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
 import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
 import com.example.crud_em_aula_projeto.domain.model.entity.Shopping;
-import com.example.crud_em_aula_projeto.domain.repository.CustomerRepository;
 import com.example.crud_em_aula_projeto.domain.repository.ShoppingRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.AuthenticatedUserResolver;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ShoppingService {
 
     private final ShoppingRepository shoppingRepository;
-    private final CustomerRepository customerRepository;
+    private final AuthenticatedUserResolver authenticatedUser;
+    private final PublishedCatalog publishedCatalog;
+
+    /**
+     * ETag do carrinho do cliente autenticado: id e revisão gravados no banco + versão da
+     * vitrine (título e preço dos produtos aparecem nos itens). Vale igual em todos os nós e
+     * após restart; custa uma consulta de uma linha, sem itens. Sem carrinho, sem ETag (404).
+     * <p>
+     * A revisão é lida antes do conteúdo: uma alteração entre as duas leituras deixa o corpo
+     * mais novo que o ETag, e a próxima requisição só recebe outro 200.
+     */
+    public Optional<String> myCartETag() {
+        Optional<String> catalog = publishedCatalog.versionTag();
+        if (catalog.isEmpty()) {
+            return Optional.empty();
+        }
+        return shoppingRepository.findRevisionByCustomerId(authenticatedUser.currentCustomerId())
+                .map(cart -> "\"cart-" + cart.shoppingId() + "." + cart.revision() + "-" + catalog.get() + "\"");
+    }
 
     @Transactional(readOnly = true)
     public ShoppingResponseDTO getShoppingByAuthenticatedCustomer() {
-        Customer customer = getAuthenticatedCustomer();
-        Shopping shopping = shoppingRepository.findByCustomerId(customer.getId())
+        Shopping shopping = shoppingRepository.findByCustomerId(authenticatedUser.currentCustomerId())
                 .orElseThrow(() -> new ResourceNotFoundException("Carrinho de compras não encontrado para este cliente"));
         return new ShoppingResponseDTO(shopping);
     }
@@ -40,7 +57,7 @@ public class ShoppingService {
 
     @Transactional
     public ShoppingResponseDTO createShopping() {
-        Customer customer = getAuthenticatedCustomer();
+        Customer customer = authenticatedUser.currentCustomer();
         
         // Verifica se já existe um carrinho para este cliente
         if (shoppingRepository.findByCustomerId(customer.getId()).isPresent()) {
@@ -55,12 +72,12 @@ public class ShoppingService {
 
     @Transactional
     public void clearShopping() {
-        Customer customer = getAuthenticatedCustomer();
-        Shopping shopping = shoppingRepository.findByCustomerId(customer.getId())
+        Shopping shopping = shoppingRepository.findByCustomerId(authenticatedUser.currentCustomerId())
                 .orElseThrow(() -> new ResourceNotFoundException("Carrinho de compras não encontrado"));
 
         shopping.getItems().clear();
         shoppingRepository.save(shopping);
+        shoppingRepository.incrementRevision(shopping.getId());
     }
 
     @Transactional
@@ -69,8 +86,7 @@ public class ShoppingService {
                 .orElseThrow(() -> new ResourceNotFoundException("Carrinho de compras não encontrado com o ID: " + shoppingId));
 
         // Verifica se o carrinho pertence ao cliente autenticado
-        Customer customer = getAuthenticatedCustomer();
-        if (!shopping.getCustomer().getId().equals(customer.getId())) {
+        if (!shopping.getCustomer().getId().equals(authenticatedUser.currentCustomerId())) {
             throw new BusinessRuleException("Você não tem permissão para deletar este carrinho");
         }
 
@@ -78,17 +94,9 @@ public class ShoppingService {
     }
 
     @Transactional(readOnly = true)
-    public List<ShoppingResponseDTO> getAllShoppings() {
-        return shoppingRepository.findAll()
-                .stream()
-                .map(ShoppingResponseDTO::new)
-                .collect(Collectors.toList());
-    }
-
-    private Customer getAuthenticatedCustomer() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return customerRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o e-mail: " + email));
+    public CursorPage<ShoppingResponseDTO> getAllShoppings(String after, int limit) {
+        List<Shopping> shoppings = shoppingRepository.findByIdGreaterThanOrderById(PageCursor.afterId(after), PageCursor.fetchLimit(limit));
+        return CursorPage.of(shoppings, limit, shopping -> PageCursor.of(shopping.getId())).map(ShoppingResponseDTO::new);
     }
 }
 
@@ -2,20 +2,29 @@ package com.example.crud_em_aula_projeto.controller;
 
 import com.example.crud_em_aula_projeto.application.dto.AuthDTO;
 import com.example.crud_em_aula_projeto.application.service.AuthService;
+import com.example.crud_em_aula_projeto.infrastructure.security.LoginThrottle;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -23,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService auth;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/login")
     @Operation(
@@ -33,7 +43,8 @@ public class AuthController {
                     O token retornado deve ser usado em requisições subsequentes no header:
                     `Authorization: Bearer {token}`
                     
-                    O token expira após 1 hora (3600 segundos).
+                    O token de acesso é curto (`security.jwt.expiration-seconds`). Junto vem um
+                    `refreshToken` de uso único para renovar a sessão em `/auth/refresh` sem enviar a senha.
                     """,
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Credenciais de login",
@@ -60,7 +71,8 @@ public class AuthController {
                                     examples = @ExampleObject(
                                             value = """
                                                     {
-                                                      "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
+                                                      "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
+                                                      "refreshToken": "q3Jb0m6v1cV9WJkqO0k8xw..."
                                                     }
                                                     """
                                     )
@@ -83,11 +95,75 @@ public class AuthController {
                             responseCode = "401",
                             description = "Não autorizado - credenciais incorretas.",
                             content = @Content
+                    ),
+                    @ApiResponse(
+                            responseCode = "429",
+                            description = "Muitas tentativas para este e-mail ou IP. Veja o header Retry-After.",
+                            content = @Content
+                    )
+            }
+    )
+    public ResponseEntity<AuthDTO.TokenResponse> login(@RequestBody @Valid AuthDTO.LoginRequest req, HttpServletRequest request) {
+        // Antes de qualquer consulta ou BCrypt
+        loginThrottle.check(req.email(), request.getRemoteAddr());
+        return ResponseEntity.ok(auth.login(req));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "Renovar Token",
+            description = """
+                    Troca um refresh token por um novo token de acesso e um novo refresh token.
+                    
+                    Cada refresh token vale uma única vez. Reutilizar um token já trocado encerra
+                    a sessão inteira (todos os refresh tokens gerados a partir do mesmo login).
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Novo par de tokens.",
+                            content = @Content(schema = @Schema(implementation = AuthDTO.TokenResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Refresh token inválido, expirado, revogado ou reutilizado.",
+                            content = @Content
                     )
             }
     )
-    public ResponseEntity<AuthDTO.TokenResponse> login(@RequestBody @Valid AuthDTO.LoginRequest req) {
-        String token = auth.login(req);
-        return ResponseEntity.ok(new AuthDTO.TokenResponse(token));
+    public ResponseEntity<AuthDTO.TokenResponse> refresh(@RequestBody @Valid AuthDTO.RefreshRequest req) {
+        return ResponseEntity.ok(auth.refresh(req));
+    }
+
+    @PostMapping("/logout")
+    @Operation(
+            summary = "Encerrar Sessão",
+            description = """
+                    Revoga o token de acesso enviado no header `Authorization` até a expiração dele.
+                    Se o corpo trouxer o `refreshToken`, a sessão inteira (família do refresh token) também é encerrada.
+                    """,
+            responses = @ApiResponse(responseCode = "204", description = "Sessão encerrada.", content = @Content)
+    )
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) AuthDTO.LogoutRequest req) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        auth.logout(accessToken, req != null ? req.refreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/users/{userId}/sessions")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Revogar Todas as Sessões de um Usuário (ADMIN)",
+            description = "Invalida todos os tokens de acesso e refresh tokens já emitidos para o usuário.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Sessões revogadas.", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado - apenas ADMIN.", content = @Content),
+                    @ApiResponse(responseCode = "404", description = "Usuário não encontrado.", content = @Content)
+            }
+    )
+    public ResponseEntity<Void> revokeAllSessions(@PathVariable UUID userId) {
+        auth.revokeAllSessions(userId);
+        return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.example.crud_em_aula_projeto.controller;
 import com.example.crud_em_aula_projeto.application.dto.collaboratorDTOs.CollaboratorRequestDTO;
 import com.example.crud_em_aula_projeto.application.dto.collaboratorDTOs.CollaboratorResponseDTO;
 import com.example.crud_em_aula_projeto.application.service.CollaboratorService;
+import com.example.crud_em_aula_projeto.application.service.PageCursor;
+import com.example.crud_em_aula_projeto.infrastructure.web.CursorPageResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -118,8 +120,12 @@ public class CollaboratorController {
                     @ApiResponse(responseCode = "403", description = "Acesso negado. Apenas administradores podem acessar.", content = @Content)
             }
     )
-    public ResponseEntity<List<CollaboratorResponseDTO>> getAllActiveCollaborators() {
-        return ResponseEntity.ok(collaboratorService.findAllActive());
+    public ResponseEntity<List<CollaboratorResponseDTO>> getAllActiveCollaborators(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PageCursor.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(collaboratorService.findAllActive(after, limit));
     }
 
     @GetMapping("/all")
@@ -3,7 +3,9 @@ package com.example.crud_em_aula_projeto.controller;
 import com.example.crud_em_aula_projeto.application.dto.customerDTOs.CustomerRequestDTO;
 import com.example.crud_em_aula_projeto.application.dto.customerDTOs.CustomerResponseDTO;
 import com.example.crud_em_aula_projeto.application.service.CustomerService;
+import com.example.crud_em_aula_projeto.application.service.PageCursor;
 import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
+import com.example.crud_em_aula_projeto.infrastructure.web.CursorPageResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -118,9 +120,12 @@ public class CustomerController {
                     @ApiResponse(responseCode = "403", description = "Acesso negado. Apenas usuários com role USER podem acessar.", content = @Content)
             }
     )
-    public ResponseEntity<List<CustomerResponseDTO>> getAllActiveCustomers() {
-        List<CustomerResponseDTO> customers = customerService.findAllActive();
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<List<CustomerResponseDTO>> getAllActiveCustomers(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PageCursor.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(customerService.findAllActive(after, limit));
     }
 
     @GetMapping("/{id}")
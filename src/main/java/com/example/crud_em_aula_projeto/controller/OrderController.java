@@ -3,7 +3,9 @@ package com.example.crud_em_aula_projeto.controller;
 import com.example.crud_em_aula_projeto.application.dto.orderDTOs.OrderResponseDTO;
 import com.example.crud_em_aula_projeto.application.dto.orderDTOs.SalesResponseDTO;
 import com.example.crud_em_aula_projeto.application.service.OrderService;
+import com.example.crud_em_aula_projeto.application.service.PageCursor;
 import com.example.crud_em_aula_projeto.domain.model.enuns.OrderStatus;
+import com.example.crud_em_aula_projeto.infrastructure.web.CursorPageResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -130,9 +132,12 @@ public class OrderController {
                     @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content)
             }
     )
-    public ResponseEntity<List<OrderResponseDTO>> getMyOrders() {
-        List<OrderResponseDTO> orders = orderService.getMyOrders();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<OrderResponseDTO>> getMyOrders(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PageCursor.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(orderService.getMyOrders(after, limit));
     }
 
     @GetMapping("/{id}")
@@ -293,9 +298,12 @@ public class OrderController {
                     @ApiResponse(responseCode = "403", description = "Acesso negado. Apenas administradores podem acessar.", content = @Content)
             }
     )
-    public ResponseEntity<List<OrderResponseDTO>> getAllOrders() {
-        List<OrderResponseDTO> orders = orderService.getAllOrders();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<OrderResponseDTO>> getAllOrders(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PageCursor.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(orderService.getAllOrders(after, limit));
     }
 
     // --- ENDPOINTS PARA COLABORADOR (VENDAS) ---
@@ -361,9 +369,12 @@ public class OrderController {
                     @ApiResponse(responseCode = "403", description = "Acesso negado. Apenas colaboradores podem acessar.", content = @Content)
             }
     )
-    public ResponseEntity<List<SalesResponseDTO>> getMySales() {
-        List<SalesResponseDTO> sales = orderService.getMySales();
-        return ResponseEntity.ok(sales);
+    public ResponseEntity<List<SalesResponseDTO>> getMySales(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PageCursor.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(orderService.getMySales(after, limit));
     }
 
     @GetMapping("/sales/{id}")
@@ -1,25 +1,48 @@
 package com.example.crud_em_aula_projeto.controller;
 
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.MyProductDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductBulkPatchDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductFacetsDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportResultDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportRow;
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductStockDTO;
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
+import com.example.crud_em_aula_projeto.application.service.PageCursor;
+import com.example.crud_em_aula_projeto.application.service.ProductImportService;
+import com.example.crud_em_aula_projeto.application.service.ProductQueryIndex;
 import com.example.crud_em_aula_projeto.application.service.ProductService;
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.infrastructure.web.CursorPageResponses;
+import com.example.crud_em_aula_projeto.infrastructure.web.JsonArrayStreamWriter;
+import com.example.crud_em_aula_projeto.infrastructure.web.ProductImportReader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -29,14 +52,31 @@ import java.util.UUID;
 public class ProductController {
 
     private final ProductService productService;
+    private final JsonArrayStreamWriter jsonArrayWriter;
+    private final ProductImportService productImportService;
+    private final ProductImportReader productImportReader;
 
 
     @GetMapping
     @Operation(
             summary = "Listar produtos para a vitrine",
             description = """
-                    Retorna uma lista de todos os produtos com status 'AVAILABLE' (disponíveis para venda).
+                    Retorna os produtos com status 'AVAILABLE' (disponíveis para venda), paginados por id:
+                    sem 'limit' vêm os primeiros 50; o cursor da próxima página vem no header X-Next-Cursor
+                    (ausente na última).
+
+                    Com 'all=true' a vitrine inteira é enviada numa resposta só, em streaming, sem cursor.
+                    Não combina com 'after', 'limit', filtros nem 'sort'.
                     
+                    Com qualquer filtro ('category', 'minPrice', 'maxPrice', 'collaboratorId') ou 'sort'
+                    a lista é sempre paginada e vem de um índice em memória atualizado junto com a vitrine.
+                    'sort' aceita price, -price, title e -title (empates por id); o cursor vale só para a
+                    mesma ordenação.
+
+                    Com 'ids' (até 200, separados por vírgula) retorna só esses produtos, na ordem pedida,
+                    de um cache por id; ids inexistentes ou indisponíveis ficam de fora. Não combina com
+                    os demais parâmetros.
+
                     Este endpoint é público e pode ser acessado por usuários autenticados (USER, COLLABORATOR, ADMIN).
                     Retorna apenas informações públicas dos produtos, sem dados sensíveis.
                     """,
@@ -64,13 +104,77 @@ public class ProductController {
                                     )
                             )
                     ),
+                    @ApiResponse(responseCode = "304", description = "Vitrine inalterada desde o ETag enviado em If-None-Match.", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Filtro, ordenação, cursor ou limite inválido.", content = @Content),
                     @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
-                    @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content)
+                    @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content),
+                    @ApiResponse(responseCode = "503", description = "Índice de filtros ainda sendo carregado (tente após Retry-After).", content = @Content)
             }
     )
-    public ResponseEntity<List<ProductPublicDTO>> getAllPublicProducts() {
-        List<ProductPublicDTO> products = productService.findAllPublicProducts();
-        return ResponseEntity.ok(products);
+    public void getAllPublicProducts(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ", padrão " + PageCursor.DEFAULT_LIMIT + ")")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "true = vitrine inteira em streaming, sem paginação")
+            @RequestParam(defaultValue = "false") boolean all,
+            @Parameter(description = "Categorias (repetível, case-insensitive)", example = "ELECTRONICS")
+            @RequestParam(required = false) List<String> category,
+            @Parameter(description = "Preço mínimo (inclusive)")
+            @RequestParam(required = false) Double minPrice,
+            @Parameter(description = "Preço máximo (inclusive)")
+            @RequestParam(required = false) Double maxPrice,
+            @Parameter(description = "Só produtos deste colaborador")
+            @RequestParam(required = false) UUID collaboratorId,
+            @Parameter(description = "Ordenação: price, -price, title ou -title")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Ids dos produtos, separados por vírgula (até " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(required = false) List<UUID> ids,
+            WebRequest request, HttpServletResponse response) throws IOException {
+        if (ids != null) {
+            if (after != null || limit != null || all || category != null || minPrice != null || maxPrice != null
+                    || collaboratorId != null || sort != null) {
+                throw new BusinessRuleException("O parâmetro 'ids' não pode ser combinado com filtros ou paginação");
+            }
+            List<ProductPublicDTO> products = productService.findPublicProductsByIds(ids);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            jsonArrayWriter.write(products.stream(), response.getOutputStream());
+            return;
+        }
+        boolean filtered = category != null || minPrice != null || maxPrice != null || collaboratorId != null || sort != null;
+        if (all && (filtered || after != null || limit != null)) {
+            throw new BusinessRuleException("O parâmetro 'all' não pode ser combinado com filtros, ordenação ou paginação");
+        }
+        // Validação antes do ETag: pedido inválido é 400 mesmo quando o If-None-Match bate
+        int pageLimit = PageCursor.checkLimit(limit == null ? PageCursor.DEFAULT_LIMIT : limit);
+        ProductQueryIndex.Query query = filtered
+                ? productService.publicQuery(category, minPrice, maxPrice, collaboratorId, sort, after, pageLimit) : null;
+        UUID afterId = PageCursor.afterId(filtered ? null : after);
+        // Listagens filtradas vêm do índice de filtros, que tem a própria versão
+        Optional<String> etag = filtered ? productService.publicQueryETag() : productService.publicCatalogETag();
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return; // 304 já preparado, sem consulta nem mapeamento
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (filtered) {
+            CursorPage<ProductPublicDTO> page = productService.queryPublicProducts(query);
+            if (page.nextCursor() != null) {
+                response.setHeader(CursorPageResponses.NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            jsonArrayWriter.write(page.items().stream(), response.getOutputStream());
+            return;
+        }
+        if (all) {
+            // Escrita direta na resposta, produto a produto: a requisição não monta a lista do catálogo
+            jsonArrayWriter.write(productService.streamPublicProducts(), response.getOutputStream());
+            return;
+        }
+        CursorPage<ProductPublicDTO> page = productService.findPublicProductsPage(afterId, pageLimit);
+        if (page.nextCursor() != null) {
+            response.setHeader(CursorPageResponses.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        jsonArrayWriter.write(page.items().stream(), response.getOutputStream());
     }
 
     @GetMapping("/category/{category}")
@@ -113,20 +217,143 @@ public class ProductController {
                             description = "Categoria inválida fornecida. Use uma das categorias válidas.",
                             content = @Content
                     ),
+                    @ApiResponse(responseCode = "304", description = "Vitrine inalterada desde o ETag enviado em If-None-Match.", content = @Content),
                     @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
                     @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content)
             }
     )
-    public ResponseEntity<List<ProductPublicDTO>> getPublicProductsByCategory(@PathVariable String category) {
+    public ResponseEntity<List<ProductPublicDTO>> getPublicProductsByCategory(@PathVariable String category, WebRequest request) {
         try {
             ProductCategory productCategory = ProductCategory.valueOf(category.toUpperCase());
+            Optional<String> etag = productService.publicCatalogETag();
+            if (etag.isPresent() && request.checkNotModified(etag.get())) {
+                return null;
+            }
             List<ProductPublicDTO> products = productService.findAllPublicProductsByCategory(productCategory);
-            return ResponseEntity.ok(products);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(products);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    @GetMapping("/search")
+    @Operation(
+            summary = "Buscar produtos da vitrine",
+            description = """
+                    Busca textual no título e na descrição dos produtos disponíveis, do mais para o menos relevante.
+                    
+                    Maiúsculas e acentos são ignorados ("camera" encontra "Câmera"). Termos no título pesam
+                    mais que na descrição. A busca é feita num índice em memória atualizado junto com a vitrine.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Produtos encontrados, em ordem de relevância (lista vazia se nenhum).",
+                            content = @Content(schema = @Schema(implementation = ProductPublicDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Termo de busca vazio ou limite inválido.", content = @Content),
+                    @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content),
+                    @ApiResponse(responseCode = "503", description = "Índice ainda sendo carregado (tente após Retry-After).", content = @Content)
+            }
+    )
+    public ResponseEntity<List<ProductPublicDTO>> searchProducts(
+            @Parameter(description = "Termos de busca", example = "camera digital")
+            @RequestParam String q,
+            @Parameter(description = "Máximo de resultados (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productService.searchPublicProducts(q, limit));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(
+            summary = "Sugerir títulos de produtos",
+            description = """
+                    Autocompletar: títulos de produtos disponíveis que começam com o texto digitado, do mais
+                    para o menos vendido (empates em ordem alfabética).
+                    
+                    Maiúsculas e acentos são ignorados ("cam" sugere "Câmera Digital"). As sugestões vêm de um
+                    índice em memória atualizado junto com a vitrine.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Títulos sugeridos (lista vazia se nenhum começa com o prefixo).",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Prefixo vazio ou limite inválido.", content = @Content),
+                    @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content),
+                    @ApiResponse(responseCode = "503", description = "Índice ainda sendo carregado (tente após Retry-After).", content = @Content)
+            }
+    )
+    public ResponseEntity<List<String>> suggestProductTitles(
+            @Parameter(description = "Início do título digitado", example = "cam")
+            @RequestParam String prefix,
+            @Parameter(description = "Máximo de sugestões (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.suggestProductTitles(prefix, limit));
+    }
+
+    @GetMapping("/facets")
+    @Operation(
+            summary = "Contagens para os filtros da vitrine",
+            description = """
+                    Quantidade de produtos disponíveis por categoria e histograma de preços para o filtro atual,
+                    sem baixar a vitrine.
+                    
+                    - **total**: produtos nas categorias escolhidas e dentro da faixa de preço.
+                    - **categories**: produtos de cada categoria dentro da faixa de preço (ignora o filtro de
+                      categoria, para a barra lateral mostrar as alternativas).
+                    - **priceHistogram**: a faixa de preço (ou, sem limites, do menor ao maior preço das
+                      categorias escolhidas) dividida em faixas iguais; a última inclui o preço final.
+                    
+                    Calculado num índice em memória atualizado junto com a vitrine.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Contagens calculadas.",
+                            content = @Content(schema = @Schema(implementation = ProductFacetsDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Categoria inválida, faixa de preço invertida ou não finita (NaN, Infinity) ou número de faixas inválido.", content = @Content),
+                    @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content),
+                    @ApiResponse(responseCode = "503", description = "Índice ainda sendo carregado (tente após Retry-After).", content = @Content)
+            }
+    )
+    public ResponseEntity<ProductFacetsDTO> getPublicFacets(
+            @Parameter(description = "Categorias escolhidas (repetível, case-insensitive); nenhuma = todas", example = "ELECTRONICS")
+            @RequestParam(required = false) List<String> category,
+            @Parameter(description = "Preço mínimo (inclusive)")
+            @RequestParam(required = false) Double minPrice,
+            @Parameter(description = "Preço máximo (inclusive)")
+            @RequestParam(required = false) Double maxPrice,
+            @Parameter(description = "Número de faixas do histograma (1 a " + ProductService.MAX_PRICE_BUCKETS + ")")
+            @RequestParam(defaultValue = "10") int buckets) {
+        return ResponseEntity.ok(productService.findPublicFacets(category, minPrice, maxPrice, buckets));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Detalhe de um produto da vitrine",
+            description = """
+                    Retorna um produto com status 'AVAILABLE' pelo id, servido de um cache em memória
+                    invalidado a cada alteração do produto (inclusive de estoque nos pedidos).
+                    Para vários produtos de uma vez use GET /api/products?ids=.
+                    """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Produto encontrado.",
+                            content = @Content(schema = @Schema(implementation = ProductPublicDTO.class))),
+                    @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content),
+                    @ApiResponse(responseCode = "404", description = "Produto inexistente ou indisponível.", content = @Content)
+            }
+    )
+    public ResponseEntity<ProductPublicDTO> getPublicProduct(@PathVariable UUID id) {
+        return ResponseEntity.ok(productService.findPublicProductById(id));
+    }
+
     // --- ENDPOINTS DE ADMIN ---
 
     @GetMapping("/inactive")
@@ -173,9 +400,12 @@ public class ProductController {
                     @ApiResponse(responseCode = "403", description = "Acesso negado. Apenas administradores podem acessar este endpoint.", content = @Content)
             }
     )
-    public ResponseEntity<List<MyProductDTO>> getInactiveProducts() {
-        List<MyProductDTO> inactiveProducts = productService.findAllInactiveProducts();
-        return ResponseEntity.ok(inactiveProducts);
+    public ResponseEntity<List<MyProductDTO>> getInactiveProducts(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PageCursor.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(productService.findAllInactiveProducts(after, limit));
     }
 
     // --- ENDPOINTS DE COLABORADOR ---
@@ -234,6 +464,55 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
     }
 
+    @PostMapping("/bulk")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "[COLABORADOR] Importar produtos em lote",
+            description = """
+                    Cadastra vários produtos do colaborador autenticado num único envio, lido em streaming:
+                    - application/x-ndjson: um objeto igual ao de POST /api/products por linha;
+                    - text/csv: cabeçalho com title, description, price, quantity, imageUrl, productStatus
+                      e productCategory (em qualquer ordem).
+
+                    Cada linha passa pelas validações do cadastro unitário. O limite de produtos ativos
+                    vale para o lote inteiro: linhas AVAILABLE além das vagas restantes são recusadas.
+                    Linhas inválidas não interrompem a importação; o relatório traz o número da linha e
+                    o motivo (até 1000 erros listados). Linhas com mais de 16384 caracteres e campos com
+                    mais de 255 também são recusados um a um.
+
+                    O corpo tem no máximo 64 MB (products.import.max-bytes). Se a leitura parar no meio
+                    (limite atingido ou conexão caída), os blocos já gravados ficam e o relatório traz o
+                    motivo em 'interruption'.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = {
+                            @Content(mediaType = ProductImportReader.NDJSON_VALUE, examples = @ExampleObject(value = """
+                                    {"title":"Caneca","description":"Cerâmica 300ml","price":39.9,"quantity":100,"imageUrl":"http://example.com/caneca.png","productStatus":"OUT_OF_STOCK","productCategory":"HOME_APPLIANCES"}
+                                    {"title":"Camiseta","description":"Algodão","price":59.9,"quantity":40,"imageUrl":"http://example.com/camiseta.png","productStatus":"AVAILABLE","productCategory":"CLOTHING"}
+                                    """)),
+                            @Content(mediaType = ProductImportReader.CSV_VALUE, examples = @ExampleObject(value = """
+                                    title,description,price,quantity,imageUrl,productStatus,productCategory
+                                    Caneca,"Cerâmica, 300ml",39.9,100,http://example.com/caneca.png,OUT_OF_STOCK,HOME_APPLIANCES
+                                    """))
+                    }
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Importação concluída (veja 'failed' e 'errors').",
+                            content = @Content(schema = @Schema(implementation = ProductImportResultDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Content-Type diferente de NDJSON ou CSV, cabeçalho do CSV incompleto ou Content-Length acima do limite.", content = @Content),
+                    @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado.", content = @Content)
+            }
+    )
+    public ResponseEntity<ProductImportResultDTO> importProducts(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body) throws IOException {
+        Iterator<ProductImportRow> rows = productImportReader.read(body, contentType, contentLength == null ? -1 : contentLength);
+        return ResponseEntity.ok(productImportService.importProducts(rows));
+    }
+
     @PutMapping("/{id}")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
@@ -306,6 +585,50 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
+    @PatchMapping("/bulk")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "[COLABORADOR] Atualizar preço e estoque em lote",
+            description = """
+                    Altera preço, quantidade e/ou status de até 5000 produtos do colaborador autenticado
+                    numa única requisição (promoções, sincronização de estoque). Só os campos informados
+                    em cada item mudam.
+
+                    Sem productStatus, o status acompanha a nova quantidade: zero deixa o produto
+                    OUT_OF_STOCK e uma reposição o devolve a AVAILABLE. Produtos DISCONTINUED só mudam
+                    com status explícito.
+
+                    O lote é aplicado por inteiro ou recusado: qualquer produto inexistente, de outro
+                    colaborador ou que estoure o limite de produtos ativos cancela a operação.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            schema = @Schema(implementation = ProductBulkPatchDTO.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "items": [
+                                        { "productId": "550e8400-e29b-41d4-a716-446655440000", "price": 4499.90 },
+                                        { "productId": "6fa459ea-ee8a-3ca4-894e-db77e160355e", "quantity": 0 },
+                                        { "productId": "16fd2706-8baf-433b-82eb-8c7fada847da", "quantity": 25, "price": 89.90 }
+                                      ]
+                                    }
+                                    """)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estado final de cada produto do lote.",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductStockDTO.class)))),
+                    @ApiResponse(responseCode = "400", description = "Dados inválidos, produto repetido ou limite de produtos ativos atingido.", content = @Content),
+                    @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Acesso negado (algum produto não é do colaborador).", content = @Content),
+                    @ApiResponse(responseCode = "404", description = "Produto não encontrado.", content = @Content)
+            }
+    )
+    public ResponseEntity<List<ProductStockDTO>> patchMyProducts(@RequestBody @Valid ProductBulkPatchDTO request) {
+        return ResponseEntity.ok(productService.patchMyProducts(request.items()));
+    }
+
     @GetMapping("/my-products")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
@@ -356,9 +679,12 @@ public class ProductController {
                     @ApiResponse(responseCode = "403", description = "Acesso negado. Apenas colaboradores e administradores podem acessar.", content = @Content)
             }
     )
-    public ResponseEntity<List<MyProductDTO>> getMyProducts() {
-        List<MyProductDTO> myProducts = productService.findProductsByAuthenticatedCollaborator();
-        return ResponseEntity.ok(myProducts);
+    public ResponseEntity<List<MyProductDTO>> getMyProducts(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PageCursor.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(productService.findProductsByAuthenticatedCollaborator(after, limit));
     }
 
 
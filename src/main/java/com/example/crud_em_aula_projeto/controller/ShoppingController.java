@@ -1,7 +1,9 @@
 package com.example.crud_em_aula_projeto.controller;
 
 import com.example.crud_em_aula_projeto.application.dto.shoppingDTOs.ShoppingResponseDTO;
+import com.example.crud_em_aula_projeto.application.service.PageCursor;
 import com.example.crud_em_aula_projeto.application.service.ShoppingService;
+import com.example.crud_em_aula_projeto.infrastructure.web.CursorPageResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,12 +13,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -73,14 +78,19 @@ public class ShoppingController {
                                     )
                             )
                     ),
+                    @ApiResponse(responseCode = "304", description = "Carrinho inalterado desde o ETag enviado em If-None-Match.", content = @Content),
                     @ApiResponse(responseCode = "401", description = "Não autenticado.", content = @Content),
                     @ApiResponse(responseCode = "403", description = "Acesso negado. Apenas usuários com role USER podem acessar.", content = @Content),
                     @ApiResponse(responseCode = "404", description = "Carrinho de compras não encontrado para este cliente.", content = @Content)
             }
     )
-    public ResponseEntity<ShoppingResponseDTO> getMyShopping() {
+    public ResponseEntity<ShoppingResponseDTO> getMyShopping(WebRequest request) {
+        Optional<String> etag = shoppingService.myCartETag();
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null; // 304 já preparado, sem carregar o carrinho
+        }
         ShoppingResponseDTO shopping = shoppingService.getShoppingByAuthenticatedCustomer();
-        return ResponseEntity.ok(shopping);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(shopping);
     }
 
     @GetMapping("/{id}")
@@ -236,9 +246,12 @@ public class ShoppingController {
                     @ApiResponse(responseCode = "403", description = "Acesso negado. Apenas administradores podem acessar.", content = @Content)
             }
     )
-    public ResponseEntity<List<ShoppingResponseDTO>> getAllShoppings() {
-        List<ShoppingResponseDTO> shoppings = shoppingService.getAllShoppings();
-        return ResponseEntity.ok(shoppings);
+    public ResponseEntity<List<ShoppingResponseDTO>> getAllShoppings(
+            @Parameter(description = "Cursor recebido no header X-Next-Cursor da página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Itens por página (1 a " + PageCursor.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PageCursor.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(shoppingService.getAllShoppings(after, limit));
     }
 }
 
@@ -0,0 +1,25 @@
+package com.example.crud_em_aula_projeto.domain.event;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Produtos cuja versão pública (vitrine) pode ter mudado: dados, status ou estoque,
+ * ou o nome do colaborador dono. Publicado dentro da transação da escrita; os
+ * ouvintes só reagem após o commit.
+ */
+public record ProductsChangedEvent(Set<UUID> productIds, Set<UUID> collaboratorIds) {
+
+    public static ProductsChangedEvent ofProducts(Collection<UUID> productIds) {
+        return new ProductsChangedEvent(Set.copyOf(productIds), Set.of());
+    }
+
+    public static ProductsChangedEvent ofProduct(UUID productId) {
+        return new ProductsChangedEvent(Set.of(productId), Set.of());
+    }
+
+    public static ProductsChangedEvent ofCollaborator(UUID collaboratorId) {
+        return new ProductsChangedEvent(Set.of(), Set.of(collaboratorId));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.crud_em_aula_projeto.domain.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Recurso temporariamente saturado: o cliente deve tentar de novo após 'retryAfterSeconds'
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+  private final long retryAfterSeconds;
+
+  public ServiceUnavailableException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -13,7 +13,11 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "orders")
+// Índices das listagens por keyset (mais recentes primeiro)
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created_id", columnList = "createdAt, id"),
+        @Index(name = "idx_orders_customer_created_id", columnList = "customer_id, createdAt, id")
+})
 public class Order {
 
     @Id
@@ -17,7 +17,12 @@ import java.util.UUID;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "products")
+// Índices das listagens por keyset (ordem de id) e da contagem de ativos por colaborador
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_status_id", columnList = "productStatus, id"),
+        @Index(name = "idx_products_collaborator_id", columnList = "collaborator_id, id"),
+        @Index(name = "idx_products_collaborator_status", columnList = "collaborator_id, productStatus")
+})
 public class Product {
 
     @Id
@@ -3,6 +3,7 @@ package com.example.crud_em_aula_projeto.domain.model.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +26,12 @@ public class Shopping {
     @OneToMany(mappedBy = "shopping", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ShoppingItem> items = new ArrayList<>();
 
+    // Conta as alterações do carrinho (ETag de GET /api/shopping/my-cart). Só muda pelo
+    // ShoppingRepository.incrementRevision: a entidade nunca regrava o valor que carregou
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long revision;
+
     public Double getTotalAmount() {
         return items.stream()
                 .mapToDouble(ShoppingItem::getSubTotal)
@@ -19,9 +19,14 @@ import java.util.UUID;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "usuarios")
+@Table(name = "usuarios", uniqueConstraints = @UniqueConstraint(name = Usuario.EMAIL_CONSTRAINT, columnNames = "email"),
+        indexes = @Index(name = "idx_usuarios_active_id", columnList = "active, id")) // listagens de ativos por keyset
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class Usuario {
+    // Traduzida para "E-mail já está em uso" no GlobalExceptionHandler. Bancos criados com o
+    // antigo @Column(unique = true) guardam um índice único de nome gerado: ver db/usuarios-email-unique.sql
+    public static final String EMAIL_CONSTRAINT = "uk_usuarios_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     protected UUID id;
@@ -32,7 +37,7 @@ public abstract class Usuario {
 
     @Email
     @NotBlank
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     protected String email;
 
     @NotBlank
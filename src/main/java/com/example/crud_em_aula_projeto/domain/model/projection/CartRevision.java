@@ -0,0 +1,10 @@
+package com.example.crud_em_aula_projeto.domain.model.projection;
+
+import java.util.UUID;
+
+/** Id e número de alterações do carrinho de um cliente, sem os itens. */
+public record CartRevision(
+        UUID shoppingId,
+        long revision
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.crud_em_aula_projeto.domain.model.projection;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+
+import java.util.UUID;
+
+/**
+ * Produto como aparece na vitrine: só as colunas exibidas e o nome do colaborador, lidos
+ * numa única consulta, sem entidades gerenciadas.
+ */
+public record CatalogProduct(
+        UUID id,
+        String title,
+        String description,
+        Double price,
+        String imageUrl,
+        ProductCategory productCategory,
+        UUID collaboratorId,
+        String collaboratorName
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.crud_em_aula_projeto.domain.model.projection;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+
+import java.util.UUID;
+
+/** Produto como o colaborador o gerencia: inclui estoque e status, sem o colaborador. */
+public record CollaboratorProduct(
+        UUID id,
+        String title,
+        String description,
+        Double price,
+        Integer quantity,
+        ProductStatus productStatus,
+        String imageUrl
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.crud_em_aula_projeto.domain.model.projection;
+
+import java.util.UUID;
+
+/** Unidades vendidas de um produto em pedidos não cancelados. */
+public record ProductSales(
+        UUID productId,
+        Long unitsSold
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.crud_em_aula_projeto.domain.model.projection;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+
+import java.util.UUID;
+
+/** Dono, preço, estoque e status de um produto: o que a atualização em lote lê e grava. */
+public record ProductStock(
+        UUID id,
+        UUID collaboratorId,
+        Double price,
+        Integer quantity,
+        ProductStatus productStatus
+) {
+}
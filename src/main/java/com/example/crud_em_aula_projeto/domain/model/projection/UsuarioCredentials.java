@@ -0,0 +1,21 @@
+package com.example.crud_em_aula_projeto.domain.model.projection;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+
+import java.util.UUID;
+
+/**
+ * Só o que a autenticação precisa de um usuário. Lido direto da tabela {@code usuarios},
+ * sem os joins com {@code customers}/{@code collaborators} que a entidade polimórfica exige.
+ */
+public record UsuarioCredentials(
+        UUID id,
+        String email,
+        String passwordHash,
+        Role role,
+        Boolean active
+) {
+    public boolean isActive() {
+        return Boolean.TRUE.equals(active);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.crud_em_aula_projeto.domain.repository;
 
 import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +15,10 @@ import java.util.UUID;
 public interface CollaboratorRepository extends JpaRepository<Collaborator, UUID> {
     Optional<Collaborator> findByEmail(String email);
     List<Collaborator> findAllByActiveTrue();
+
+    // Página por keyset sobre o índice (active, id) de usuarios
+    @Query("SELECT c FROM Collaborator c WHERE c.active = true AND c.id > :after ORDER BY c.id")
+    List<Collaborator> findActivePage(@Param("after") UUID after, Limit limit);
     List<Collaborator> findAllByActiveFalse();
     
     @Query("SELECT c FROM Collaborator c ORDER BY c.active DESC, c.name ASC")
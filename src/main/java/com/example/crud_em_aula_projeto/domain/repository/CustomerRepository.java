@@ -1,7 +1,10 @@
 package com.example.crud_em_aula_projeto.domain.repository;
 
 import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,8 @@ import java.util.UUID;
 public interface CustomerRepository extends JpaRepository<Customer, UUID> {
     Optional<Customer> findByEmail(String email);
     List<Customer> findAllByActiveTrue();
+
+    // Página por keyset sobre o índice (active, id) de usuarios
+    @Query("SELECT c FROM Customer c WHERE c.active = true AND c.id > :after ORDER BY c.id")
+    List<Customer> findActivePage(@Param("after") UUID after, Limit limit);
 }
@@ -2,10 +2,15 @@ package com.example.crud_em_aula_projeto.domain.repository;
 
 import com.example.crud_em_aula_projeto.domain.model.entity.Order;
 import com.example.crud_em_aula_projeto.domain.model.enuns.OrderStatus;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductSales;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,5 +28,28 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     
     @Query("SELECT DISTINCT o FROM Order o JOIN o.items oi JOIN oi.product p WHERE p.collaborator.id = :collaboratorId ORDER BY o.createdAt DESC")
     List<Order> findOrdersByCollaboratorId(UUID collaboratorId);
-}
 
+    // Páginas por keyset em (createdAt DESC, id DESC): índices (created_at, id) e (customer_id, created_at, id)
+    String BEFORE_POSITION = "(o.createdAt < :at OR (o.createdAt = :at AND o.id < :id)) ";
+    String NEWEST_FIRST = "ORDER BY o.createdAt DESC, o.id DESC";
+
+    @Query("SELECT o FROM Order o WHERE " + BEFORE_POSITION + NEWEST_FIRST)
+    List<Order> findPageBefore(@Param("at") LocalDateTime at, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT o FROM Order o WHERE o.customer.id = :customerId AND " + BEFORE_POSITION + NEWEST_FIRST)
+    List<Order> findPageByCustomerIdBefore(@Param("customerId") UUID customerId, @Param("at") LocalDateTime at, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT DISTINCT o FROM Order o JOIN o.items oi JOIN oi.product p WHERE p.collaborator.id = :collaboratorId AND "
+            + BEFORE_POSITION + NEWEST_FIRST)
+    List<Order> findPageByCollaboratorIdBefore(@Param("collaboratorId") UUID collaboratorId, @Param("at") LocalDateTime at, @Param("id") UUID id, Limit limit);
+
+    // Popularidade dos produtos no autocompletar da vitrine
+    String UNITS_SOLD = "SELECT new com.example.crud_em_aula_projeto.domain.model.projection.ProductSales("
+            + "oi.product.id, SUM(oi.quantity)) FROM OrderItem oi WHERE oi.order.status <> :cancelled ";
+
+    @Query(UNITS_SOLD + "GROUP BY oi.product.id")
+    List<ProductSales> sumUnitsSold(@Param("cancelled") OrderStatus cancelled);
+
+    @Query(UNITS_SOLD + "AND oi.product.id IN :productIds GROUP BY oi.product.id")
+    List<ProductSales> sumUnitsSoldByProductIdIn(@Param("cancelled") OrderStatus cancelled, @Param("productIds") Collection<UUID> productIds);
+}
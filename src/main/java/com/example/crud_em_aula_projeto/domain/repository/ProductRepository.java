@@ -3,31 +3,77 @@ package com.example.crud_em_aula_projeto.domain.repository;
 import com.example.crud_em_aula_projeto.domain.model.entity.Product;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.projection.CatalogProduct;
+import com.example.crud_em_aula_projeto.domain.model.projection.CollaboratorProduct;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductStock;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, ProductStockRepository {
 
 
     List<Product> findAllByCollaboratorId(UUID collaboratorId);
 
-    @Query("SELECT p FROM Product p JOIN FETCH p.collaborator WHERE p.productStatus = :status")
-    List<Product> findAllByProductStatus(@Param("status") ProductStatus status);
+    // Limite de produtos ativos: só o COUNT, pelo índice (collaborator_id, productStatus)
+    long countByCollaboratorIdAndProductStatus(UUID collaboratorId, ProductStatus productStatus);
+
+    // Projeções de leitura: só as colunas exibidas, sem entidades gerenciadas
+    // (nem snapshot de dirty checking) e sem carregar o colaborador inteiro
+    String CATALOG_PRODUCT = "SELECT new com.example.crud_em_aula_projeto.domain.model.projection.CatalogProduct("
+            + "p.id, p.title, p.description, p.price, p.imageUrl, p.productCategory, c.id, c.name) "
+            + "FROM Product p JOIN p.collaborator c ";
+
+    String COLLABORATOR_PRODUCT = "SELECT new com.example.crud_em_aula_projeto.domain.model.projection.CollaboratorProduct("
+            + "p.id, p.title, p.description, p.price, p.quantity, p.productStatus, p.imageUrl) "
+            + "FROM Product p ";
+
+    @Query(CATALOG_PRODUCT + "WHERE p.productStatus = :status")
+    List<CatalogProduct> findPublicByProductStatus(@Param("status") ProductStatus status);
+
+    @Query(CATALOG_PRODUCT + "WHERE p.productCategory = :category AND p.productStatus = :status")
+    List<CatalogProduct> findPublicByProductCategoryAndProductStatus(@Param("category") ProductCategory category, @Param("status") ProductStatus status);
+
+    @Query(COLLABORATOR_PRODUCT + "WHERE p.productStatus IN :statuses")
+    List<CollaboratorProduct> findMyProductsByProductStatusIn(@Param("statuses") List<ProductStatus> statuses);
+
+    @Query(COLLABORATOR_PRODUCT + "WHERE p.collaborator.id = :collaboratorId AND p.productStatus IN :statuses")
+    List<CollaboratorProduct> findMyProductsByCollaboratorIdAndProductStatusIn(@Param("collaboratorId") UUID collaboratorId, @Param("statuses") List<ProductStatus> statuses);
+
+    // Páginas por keyset (ordem de id): índices (product_status, id) e (collaborator_id, id) em Product
+    @Query(CATALOG_PRODUCT + "WHERE p.productStatus = :status AND p.id > :after ORDER BY p.id")
+    List<CatalogProduct> findPublicPageByProductStatus(@Param("status") ProductStatus status, @Param("after") UUID after, Limit limit);
+
+    @Query(COLLABORATOR_PRODUCT + "WHERE p.productStatus IN :statuses AND p.id > :after ORDER BY p.id")
+    List<CollaboratorProduct> findMyProductsPageByProductStatusIn(@Param("statuses") List<ProductStatus> statuses, @Param("after") UUID after, Limit limit);
+
+    @Query(COLLABORATOR_PRODUCT + "WHERE p.collaborator.id = :collaboratorId AND p.productStatus IN :statuses AND p.id > :after ORDER BY p.id")
+    List<CollaboratorProduct> findMyProductsPageByCollaboratorIdAndProductStatusIn(@Param("collaboratorId") UUID collaboratorId, @Param("statuses") List<ProductStatus> statuses,
+                                                                           @Param("after") UUID after, Limit limit);
 
-    @Query("SELECT p FROM Product p JOIN FETCH p.collaborator WHERE p.productCategory = :category AND p.productStatus = :status")
-    List<Product> findAllByProductCategoryAndProductStatus(@Param("category") ProductCategory category, @Param("status") ProductStatus status);
+    // Atualização incremental da vitrine (PublishedCatalog)
+    @Query(CATALOG_PRODUCT + "WHERE p.id IN :ids AND p.productStatus = :status")
+    List<CatalogProduct> findPublicByIdInAndProductStatus(@Param("ids") Collection<UUID> ids, @Param("status") ProductStatus status);
 
-    @Query("SELECT p FROM Product p JOIN FETCH p.collaborator WHERE p.productStatus IN :statuses")
-    List<Product> findAllByProductStatusIn(@Param("statuses") List<ProductStatus> statuses);
+    @Query(CATALOG_PRODUCT + "WHERE c.id IN :collaboratorIds AND p.productStatus = :status")
+    List<CatalogProduct> findPublicByCollaboratorIdInAndProductStatus(@Param("collaboratorIds") Collection<UUID> collaboratorIds, @Param("status") ProductStatus status);
 
-    @Query("SELECT p FROM Product p JOIN FETCH p.collaborator WHERE p.collaborator.id = :collaboratorId AND p.productStatus IN :statuses")
-    List<Product> findAllByCollaboratorIdAndProductStatusIn(@Param("collaboratorId") UUID collaboratorId, @Param("statuses") List<ProductStatus> statuses);
+    // Atualização em lote: dono e estado atual de todos os itens numa só consulta, com as linhas
+    // travadas até o commit para que nenhum checkout mude o estoque entre a leitura e o UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.example.crud_em_aula_projeto.domain.model.projection.ProductStock("
+            + "p.id, p.collaborator.id, p.price, p.quantity, p.productStatus) FROM Product p WHERE p.id IN :ids")
+    List<ProductStock> findStockByIdIn(@Param("ids") Collection<UUID> ids);
 
 }
 
@@ -0,0 +1,28 @@
+package com.example.crud_em_aula_projeto.domain.repository;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/** Fragmento do {@link ProductRepository} para gravar preço, estoque e status em massa. */
+public interface ProductStockRepository {
+
+    /**
+     * Grava só as colunas que cada produto alterou num único
+     * {@code UPDATE ... SET coluna = CASE id WHEN ... ELSE coluna END WHERE id IN (...)}, sem
+     * carregar as entidades: um reajuste de preço não regrava a quantidade lida antes. Como um
+     * {@code @Modifying(flushAutomatically = true, clearAutomatically = true)}, descarrega o
+     * contexto de persistência antes e o limpa depois.
+     */
+    int updateStock(Collection<StockChange> changes);
+
+    /** Novos valores de um produto; {@code null} deixa a coluna como está no banco. */
+    record StockChange(
+            UUID id,
+            Double price,
+            Integer quantity,
+            ProductStatus productStatus
+    ) {
+    }
+}
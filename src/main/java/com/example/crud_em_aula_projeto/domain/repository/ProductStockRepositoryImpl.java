@@ -0,0 +1,60 @@
+package com.example.crud_em_aula_projeto.domain.repository;
+
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private final EntityManager entityManager;
+
+    ProductStockRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int updateStock(Collection<StockChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Product> update = cb.createCriteriaUpdate(Product.class);
+        Root<Product> product = update.from(Product.class);
+        Path<UUID> id = product.get("id");
+
+        set(cb, update, id, product.get("price"), changes, StockChange::price);
+        set(cb, update, id, product.get("quantity"), changes, StockChange::quantity);
+        set(cb, update, id, product.<ProductStatus>get("productStatus"), changes, StockChange::productStatus);
+        update.where(id.in(changes.stream().map(StockChange::id).toList()));
+
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    // Só entram no CASE os produtos que mudaram a coluna; sem nenhum, a coluna fica fora do SET
+    private static <T> void set(CriteriaBuilder cb, CriteriaUpdate<Product> update, Path<UUID> id, Path<T> column,
+                                Collection<StockChange> changes, Function<StockChange, T> value) {
+        CriteriaBuilder.SimpleCase<UUID, T> byId = cb.selectCase(id);
+        boolean any = false;
+        for (StockChange change : changes) {
+            T newValue = value.apply(change);
+            if (newValue != null) {
+                byId.when(change.id(), newValue);
+                any = true;
+            }
+        }
+        if (any) {
+            update.set(column, byId.otherwise(column));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.crud_em_aula_projeto.domain.repository;
+
+import com.example.crud_em_aula_projeto.domain.model.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.usuario WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // Marca como usado só se ainda não foi: 0 linhas = outro pedido usou o mesmo token antes
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.used = true WHERE t.id = :id AND t.used = false")
+    int markUsed(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.usuario.id = :usuarioId")
+    int revokeAllByUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
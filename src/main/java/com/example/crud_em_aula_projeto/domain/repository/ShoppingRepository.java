@@ -1,14 +1,34 @@
 package com.example.crud_em_aula_projeto.domain.repository;
 
 import com.example.crud_em_aula_projeto.domain.model.entity.Shopping;
+import com.example.crud_em_aula_projeto.domain.model.projection.CartRevision;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ShoppingRepository extends JpaRepository<Shopping, UUID> {
     Optional<Shopping> findByCustomerId(UUID customerId);
+
+    // ETag do carrinho: uma linha pelo índice único de customer_id, sem itens
+    @Query("SELECT new com.example.crud_em_aula_projeto.domain.model.projection.CartRevision(s.id, s.revision) "
+            + "FROM Shopping s WHERE s.customer.id = :customerId")
+    Optional<CartRevision> findRevisionByCustomerId(@Param("customerId") UUID customerId);
+
+    // Incremento no banco: trava a linha até o commit, então alterações concorrentes não
+    // repetem número, em qualquer nó
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Shopping s SET s.revision = s.revision + 1 WHERE s.id = :id")
+    int incrementRevision(@Param("id") UUID id);
+
+    // Página por keyset sobre a chave primária
+    List<Shopping> findByIdGreaterThanOrderById(UUID after, Limit limit);
 }
 
@@ -1,13 +1,41 @@
 package com.example.crud_em_aula_projeto.domain.repository;
 
 import com.example.crud_em_aula_projeto.domain.model.entity.Usuario;
+import com.example.crud_em_aula_projeto.domain.model.projection.UsuarioCredentials;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
     Optional<Usuario> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    // Carga do índice de e-mails na subida (precisa de transação aberta enquanto o stream é lido)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM Usuario u")
+    Stream<String> streamAllEmails();
+
+    // Projeção para login/autenticação: só a tabela usuarios, pelo índice único de email
+    @Query("SELECT new com.example.crud_em_aula_projeto.domain.model.projection.UsuarioCredentials(" +
+            "u.id, u.email, u.passwordHash, u.role, u.active) FROM Usuario u WHERE u.email = :email")
+    Optional<UsuarioCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    // Só troca o hash se ele ainda for o lido no login (não sobrescreve uma troca de senha concorrente)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Usuario u SET u.passwordHash = :newHash WHERE u.id = :id AND u.passwordHash = :currentHash")
+    int updatePasswordHashIfUnchanged(@Param("id") UUID id, @Param("currentHash") String currentHash, @Param("newHash") String newHash);
 }
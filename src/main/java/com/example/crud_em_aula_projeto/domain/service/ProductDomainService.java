@@ -6,9 +6,20 @@ import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
 import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
+/**
+ * Regra de no máximo {@value #ACTIVE_PRODUCT_LIMIT} produtos AVAILABLE por colaborador.
+ * <p>
+ * A contagem é um {@code COUNT} pelo índice (colaborador, status), refeito a cada validação
+ * dentro da transação de quem grava: o custo não cresce com o histórico do colaborador e
+ * não há contador em memória para ficar defasado entre nós.
+ */
 @Component
 public class ProductDomainService {
 
+    public static final int ACTIVE_PRODUCT_LIMIT = 10;
+
     private final ProductRepository productRepository;
 
     public ProductDomainService(ProductRepository productRepository) {
@@ -16,14 +27,25 @@ public class ProductDomainService {
     }
 
     public void validateProductLimit(Collaborator collaborator) {
-        long count = productRepository.findAllByCollaboratorId(collaborator.getId())
-                .stream()
-                .filter(p -> p.getProductStatus() == ProductStatus.AVAILABLE)
-                .count();
-
-        if (count >= 10) {
+        if (countActive(collaborator.getId()) >= ACTIVE_PRODUCT_LIMIT) {
             throw new BusinessRuleException("Collaborator has reached the limit of 10 active products.");
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Quantos produtos AVAILABLE o colaborador ainda pode ter: a importação e a atualização
+     * em lote consultam uma vez e consomem as vagas item a item.
+     */
+    public long remainingActiveSlots(Collaborator collaborator) {
+        return Math.max(0, ACTIVE_PRODUCT_LIMIT - countActive(collaborator.getId()));
+    }
+
+    /** Quanto uma troca de status muda a contagem de ativos ({@code from} nulo na criação). */
+    public static int activeDelta(ProductStatus from, ProductStatus to) {
+        return (to == ProductStatus.AVAILABLE ? 1 : 0) - (from == ProductStatus.AVAILABLE ? 1 : 0);
+    }
+
+    private long countActive(UUID collaboratorId) {
+        return productRepository.countByCollaboratorIdAndProductStatus(collaboratorId, ProductStatus.AVAILABLE);
+    }
+}
@@ -16,7 +16,7 @@ public class WebConfig {
                         .allowedOriginPatterns("http://localhost:3000", "http://localhost:3001", "http://127.0.0.1:3000", "http://127.0.0.1:3001")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                         .allowedHeaders("*")
-                        .exposedHeaders("Authorization", "Content-Type")
+                        .exposedHeaders("Authorization", "Content-Type", "ETag", "X-Next-Cursor")
                         .allowCredentials(true)
                         .maxAge(3600);
             }
@@ -0,0 +1,32 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal autenticado. Carrega o id e a role do usuário além do e-mail,
+ * de modo que {@code Authentication.getName()} continua devolvendo o e-mail.
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final UUID id;
+    private final Role role;
+
+    public AuthenticatedUser(UUID id, String email, String passwordHash, Role role, boolean active) {
+        super(email, passwordHash, active, true, true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        this.id = id;
+        this.role = role;
+    }
+
+    // Principal montado só a partir dos claims assinados (modo stateless), sem senha
+    public static AuthenticatedUser fromClaims(JwtClaims claims) {
+        return new AuthenticatedUser(claims.userId(), claims.email(), "", Role.valueOf(claims.role()), true);
+    }
+}
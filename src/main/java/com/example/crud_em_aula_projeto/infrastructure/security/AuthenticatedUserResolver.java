@@ -0,0 +1,106 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.domain.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Resolve o usuário autenticado a partir do principal do token.
+ * O id vem do {@link AuthenticatedUser} (sem consulta); a entidade é uma referência
+ * memoizada por requisição, então comparações de dono podem usar só o UUID.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserResolver {
+
+    private static final String CUSTOMER_ATTRIBUTE = AuthenticatedUserResolver.class.getName() + ".customer";
+    private static final String COLLABORATOR_ATTRIBUTE = AuthenticatedUserResolver.class.getName() + ".collaborator";
+
+    private final CustomerRepository customerRepository;
+    private final CollaboratorRepository collaboratorRepository;
+
+    public UUID currentCustomerId() {
+        AuthenticatedUser user = principal();
+        if (user == null) {
+            return currentCustomer().getId();
+        }
+        if (user.getRole() != Role.USER) {
+            throw new ResourceNotFoundException("Cliente não encontrado com o e-mail: " + user.getUsername());
+        }
+        return user.getId();
+    }
+
+    public Customer currentCustomer() {
+        return memoized(CUSTOMER_ATTRIBUTE, () -> {
+            AuthenticatedUser user = principal();
+            if (user != null) {
+                return customerRepository.getReferenceById(currentCustomerId());
+            }
+            String email = currentEmail();
+            return customerRepository.findByEmail(email)
+                    .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o e-mail: " + email));
+        });
+    }
+
+    public UUID currentCollaboratorId() {
+        AuthenticatedUser user = principal();
+        if (user == null) {
+            return currentCollaborator().getId();
+        }
+        if (user.getRole() == Role.USER) {
+            throw new ResourceNotFoundException("Colaborador não encontrado com o e-mail: " + user.getUsername());
+        }
+        return user.getId();
+    }
+
+    public Collaborator currentCollaborator() {
+        return memoized(COLLABORATOR_ATTRIBUTE, () -> {
+            AuthenticatedUser user = principal();
+            if (user != null) {
+                return collaboratorRepository.getReferenceById(currentCollaboratorId());
+            }
+            String email = currentEmail();
+            return collaboratorRepository.findByEmail(email)
+                    .orElseThrow(() -> new ResourceNotFoundException("Colaborador não encontrado com o e-mail: " + email));
+        });
+    }
+
+    private AuthenticatedUser principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        return null;
+    }
+
+    private String currentEmail() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    // Guarda o valor nos atributos da requisição atual; fora de uma requisição apenas calcula
+    @SuppressWarnings("unchecked")
+    private <T> T memoized(String attribute, Supplier<T> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+        T value = (T) attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (value == null) {
+            value = loader.get();
+            attributes.setAttribute(attribute, value, RequestAttributes.SCOPE_REQUEST);
+        }
+        return value;
+    }
+}
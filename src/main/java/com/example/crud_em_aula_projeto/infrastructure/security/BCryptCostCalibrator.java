@@ -0,0 +1,69 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Escolhe o custo do BCrypt na subida da aplicação: o maior custo (entre min e max)
+ * cujo hash fica dentro da latência alvo neste hardware. Com 'cost' fixo (> 0) a
+ * calibração é pulada.
+ */
+@Slf4j
+@Component
+public class BCryptCostCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private final int strength;
+
+    public BCryptCostCalibrator(@Value("${security.password-hashing.bcrypt.cost:0}") int fixedCost,
+                                @Value("${security.password-hashing.bcrypt.target-latency-ms:250}") long targetLatencyMs,
+                                @Value("${security.password-hashing.bcrypt.min-cost:10}") int minCost,
+                                @Value("${security.password-hashing.bcrypt.max-cost:14}") int maxCost,
+                                MeterRegistry meterRegistry) {
+        if (fixedCost > 0) {
+            this.strength = fixedCost;
+        } else {
+            this.strength = calibrate(Duration.ofMillis(targetLatencyMs), minCost, maxCost);
+            log.info("Custo do BCrypt calibrado em {} (alvo de {} ms por hash)", strength, targetLatencyMs);
+        }
+        Gauge.builder("security.password.bcrypt.cost", this, BCryptCostCalibrator::strength)
+                .register(meterRegistry);
+    }
+
+    public int strength() {
+        return strength;
+    }
+
+    /** Sobe o custo enquanto a mediana de {@value #SAMPLES} hashes couber no alvo (cada +1 dobra o tempo). */
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minCost)); // aquecimento
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            if (measure(cost).compareTo(target) > 0) {
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+
+    public static Duration measure(int cost) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(cost));
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return Duration.ofNanos(samples[SAMPLES / 2]);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Encoder que roda o encoder real (BCrypt) no {@link PasswordHashingExecutor}.
+ * Login, cadastro e troca de senha já dependem de {@link PasswordEncoder}, então
+ * todos passam pelo pool limitado sem mudar os serviços.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
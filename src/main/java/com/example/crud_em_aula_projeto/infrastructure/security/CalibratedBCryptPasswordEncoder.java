@@ -0,0 +1,32 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt com o custo calibrado. Só hashes com custo menor que o atual contam como
+ * "desatualizados": um nó mais lento que calibrou para baixo não rebaixa os hashes mais fortes
+ * gravados pelos demais. Ao contrário do {@link BCryptPasswordEncoder}, um hash que não é
+ * BCrypt não lança exceção, só não pede upgrade.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            // Formato: $2a$10$<salt+hash>
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter sem lock sobre um {@link AtomicLongArray}: consultas são só leituras de bits
+ * e inserções usam CAS por palavra. Não admite remoção; para "esquecer" entradas, reconstrua.
+ * Dimensionado com 10 bits por entrada esperada e 7 funções de hash (~1% de falso positivo).
+ */
+public class ConcurrentBloomFilter {
+
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASHES = 7;
+
+    private final AtomicLongArray words;
+    private final int bits;
+
+    public ConcurrentBloomFilter(int expectedEntries) {
+        int requested = Math.max(64, expectedEntries * BITS_PER_ENTRY);
+        this.words = new AtomicLongArray((requested + 63) >>> 6);
+        this.bits = words.length() << 6;
+    }
+
+    public void add(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bits);
+            long mask = 1L << bit;
+            int index = bit >>> 6;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    /** false = com certeza nunca foi adicionado; true = talvez (confirmar na fonte exata). */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bits);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a de 64 bits com mistura final; as duas metades alimentam o double hashing
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
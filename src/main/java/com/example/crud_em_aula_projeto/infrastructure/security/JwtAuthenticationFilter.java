@@ -1,13 +1,16 @@
 package com.example.crud_em_aula_projeto.infrastructure.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -20,6 +23,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UsuarioDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersions;
+    private final RevokedTokenStore revokedTokens;
+
+    // Quando ligado, o Authentication é montado só a partir dos claims assinados (sem consulta ao banco)
+    @Value("${security.jwt.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -28,7 +37,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String email;
+        final JwtClaims claims;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -36,13 +45,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7); // remove "Bearer "
-        email = jwtService.extractEmail(jwt);
+        try {
+            // Assinatura e expiração verificadas uma única vez (ou servidas do cache)
+            claims = jwtService.parseAndVerify(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Token inválido ou expirado: segue sem autenticação
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Logout: só probes no Bloom filter, o conjunto exato apenas num possível positivo
+        if (revokedTokens.isRevoked(claims.tokenId())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(email);
+        if (claims.email() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolveUser(claims);
 
-            // Valida se token não expirou
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null && userDetails.isEnabled()) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -58,4 +79,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private UserDetails resolveUser(JwtClaims claims) {
+        if (claims.userId() != null) {
+            // Usuário desativado/removido depois da emissão do token
+            if (!tokenVersions.isCurrent(claims.userId(), claims.tokenVersion())) {
+                return null;
+            }
+            if (stateless && claims.role() != null) {
+                return AuthenticatedUser.fromClaims(claims);
+            }
+        }
+        try {
+            return this.userDetailsService.loadUserByUsername(claims.email());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims de um JWT já verificado (assinatura + expiração).
+ * Imutável: pode ser compartilhado entre requisições pelo {@link VerifiedClaimsCache}.
+ * {@code userId} é nulo em tokens emitidos sem o claim {@code uid}.
+ * {@code tokenId} é o {@code jti}, usado para revogar um token específico.
+ */
+public record JwtClaims(
+        String tokenId,
+        UUID userId,
+        String email,
+        String role,
+        long tokenVersion,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
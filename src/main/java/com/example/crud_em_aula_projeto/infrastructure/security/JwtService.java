@@ -1,70 +1,83 @@
 package com.example.crud_em_aula_projeto.infrastructure.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
 public class JwtService {
 
     private final Key key;
     private final long expirationSeconds;
+    // O parser é imutável e thread-safe: construído uma única vez
+    private final JwtParser parser;
+    private final VerifiedClaimsCache claimsCache;
 
     public JwtService(
             @Value("${security.jwt.secret}") String secret,
-            @Value("${security.jwt.expiration:3600}") long expirationSeconds) {
+            @Value("${security.jwt.expiration-seconds:900}") long expirationSeconds,
+            VerifiedClaimsCache claimsCache) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.expirationSeconds = expirationSeconds;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.claimsCache = claimsCache;
     }
 
     public String generateToken(String email, String role) {
+        return generateToken(null, email, role, 0L);
+    }
+
+    /**
+     * Emite um token com os claims necessários para autenticar sem consultar o banco:
+     * {@code uid} (id do usuário) e {@code ver} (versão atual do {@link TokenVersionRegistry}).
+     */
+    public String generateToken(UUID userId, String email, String role, long tokenVersion) {
         Instant now = Instant.now();
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("role", role)
+                .claim("uid", userId != null ? userId.toString() : null)
+                .claim("ver", tokenVersion)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plusSeconds(expirationSeconds)))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    public String extractRole(String token) {
-        return (String) Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role");
-    }
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String email = extractEmail(token);
-        return (email.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    /**
+     * Verifica assinatura e expiração uma única vez e devolve os claims imutáveis.
+     * Tokens já verificados são servidos do cache até o {@code exp}.
+     *
+     * @throws io.jsonwebtoken.JwtException se o token for inválido ou estiver expirado
+     */
+    public JwtClaims parseAndVerify(String token) {
+        return claimsCache.get(token, this::verify);
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
-        return expiration.before(new Date());
+    JwtClaims verify(String token) {
+        Claims body = parser.parseClaimsJws(token).getBody();
+        String userId = body.get("uid", String.class);
+        Number version = body.get("ver", Number.class);
+        return new JwtClaims(
+                body.getId(),
+                userId != null ? UUID.fromString(userId) : null,
+                body.getSubject(),
+                body.get("role", String.class),
+                version != null ? version.longValue() : 0L,
+                body.getIssuedAt().toInstant(),
+                body.getExpiration().toInstant()
+        );
     }
-
-}
\ No newline at end of file
+}
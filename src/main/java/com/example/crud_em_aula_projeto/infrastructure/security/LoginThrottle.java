@@ -0,0 +1,65 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita tentativas de login por IP e por e-mail antes de qualquer consulta ao banco
+ * ou verificação de senha, para que o endpoint público não vire um gatilho de BCrypt.
+ */
+@Component
+public class LoginThrottle {
+
+    private final StripedTokenBucketLimiter byIp;
+    private final StripedTokenBucketLimiter byEmail;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    public LoginThrottle(@Value("${security.login-rate-limit.ip.capacity:50}") int ipCapacity,
+                         @Value("${security.login-rate-limit.ip.refill-per-minute:50}") int ipRefillPerMinute,
+                         @Value("${security.login-rate-limit.email.capacity:5}") int emailCapacity,
+                         @Value("${security.login-rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+                         @Value("${security.login-rate-limit.max-keys:1000000}") int maxKeys,
+                         @Value("${security.login-rate-limit.stripes:64}") int stripes,
+                         MeterRegistry meterRegistry) {
+        this.byIp = new StripedTokenBucketLimiter(ipCapacity, ipRefillPerMinute, maxKeys, stripes);
+        this.byEmail = new StripedTokenBucketLimiter(emailCapacity, emailRefillPerMinute, maxKeys, stripes);
+        this.ipRejections = rejections(meterRegistry, "ip");
+        this.emailRejections = rejections(meterRegistry, "email");
+        Gauge.builder("security.login.throttle.keys", byIp, StripedTokenBucketLimiter::size).tag("key", "ip").register(meterRegistry);
+        Gauge.builder("security.login.throttle.keys", byEmail, StripedTokenBucketLimiter::size).tag("key", "email").register(meterRegistry);
+    }
+
+    public void check(String email, String clientIp) {
+        long wait = byIp.tryAcquire(clientIp);
+        if (wait > 0) {
+            ipRejections.increment();
+            throw tooManyAttempts(wait);
+        }
+        if (email != null) {
+            wait = byEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+            if (wait > 0) {
+                emailRejections.increment();
+                throw tooManyAttempts(wait);
+            }
+        }
+    }
+
+    private static TooManyRequestsException tooManyAttempts(long waitNanos) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        return new TooManyRequestsException("Muitas tentativas de login. Tente novamente mais tarde.", seconds);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("security.login.throttle.rejected")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool dedicado (e limitado) para o trabalho de BCrypt. Uma rajada de logins ocupa no
+ * máximo 'threads' núcleos e 'queue-capacity' posições de fila; acima disso a chamada
+ * é recusada na hora com {@link ServiceUnavailableException} (503 + Retry-After),
+ * em vez de enfileirar sem limite e prender as threads do Tomcat.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer hashTimer;
+    private final Counter rejections;
+
+    public PasswordHashingExecutor(@Value("${security.password-hashing.threads:0}") int threads,
+                                   @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password-hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads(), new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.hashTimer = Timer.builder("security.password.hashing.duration")
+                .description("Tempo de CPU de cada hash/verificação de senha")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("security.password.hashing.rejected")
+                .description("Chamadas recusadas com o pool de hashing saturado")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashes aguardando uma thread livre")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /** Executa a tarefa no pool e espera o resultado; recusa na hora se o pool estiver cheio. */
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceUnavailableException("Servidor ocupado processando senhas. Tente novamente em instantes.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Processamento de senha interrompido.", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** Agenda sem esperar o resultado; devolve false (sem lançar) se o pool estiver cheio. */
+    public boolean trySubmit(Runnable task) {
+        try {
+            executor.execute(() -> hashTimer.record(task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            return false;
+        }
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
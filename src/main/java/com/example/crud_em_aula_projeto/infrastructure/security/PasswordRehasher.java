@@ -0,0 +1,48 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Refaz o hash de senhas com custo desatualizado, fora do caminho da resposta do login.
+ * Roda no pool de hashing só se houver folga; se estiver cheio, fica para o próximo login.
+ * O UPDATE é condicional ao hash antigo, então uma troca de senha concorrente vence.
+ */
+@Slf4j
+@Component
+public class PasswordRehasher {
+
+    private final PasswordHashingExecutor executor;
+    private final UsuarioRepository usuarios;
+    private final CalibratedBCryptPasswordEncoder encoder;
+    private final Counter rehashed;
+
+    public PasswordRehasher(PasswordHashingExecutor executor, UsuarioRepository usuarios,
+                            BCryptCostCalibrator calibrator, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.usuarios = usuarios;
+        // Encoder "cru": já estamos numa thread do pool, não pode voltar a enfileirar nele
+        this.encoder = new CalibratedBCryptPasswordEncoder(calibrator.strength());
+        this.rehashed = Counter.builder("security.password.rehashed")
+                .description("Hashes de senha refeitos com o custo atual")
+                .register(meterRegistry);
+    }
+
+    public boolean rehashLater(UUID userId, String rawPassword, String currentHash) {
+        return executor.trySubmit(() -> {
+            try {
+                String newHash = encoder.encode(rawPassword);
+                if (usuarios.updatePasswordHashIfUnchanged(userId, currentHash, newHash) == 1) {
+                    rehashed.increment();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha ao refazer o hash da senha do usuário {}", userId, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter dos e-mails cadastrados, carregado na subida e atualizado nas escritas.
+ * Responde "com certeza livre" para a maioria dos cadastros sem ir ao banco; um positivo
+ * (ou o filtro ainda carregando) é confirmado com {@code existsByEmail}. A palavra final
+ * é sempre da constraint única {@code uk_usuarios_email}.
+ */
+@Component
+public class RegisteredEmailIndex {
+
+    private final UsuarioRepository usuarios;
+    private final TransactionTemplate readOnly;
+    private final ConcurrentBloomFilter filter;
+    private final Counter skippedLookups;
+    private volatile boolean loaded;
+
+    public RegisteredEmailIndex(UsuarioRepository usuarios, PlatformTransactionManager transactionManager,
+                                @Value("${security.email-index.expected-entries:1000000}") int expectedEntries,
+                                MeterRegistry meterRegistry) {
+        this.usuarios = usuarios;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.filter = new ConcurrentBloomFilter(expectedEntries);
+        this.skippedLookups = Counter.builder("usuarios.email.index.skipped.lookups")
+                .description("Verificações de e-mail respondidas pelo Bloom filter, sem consulta ao banco")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<String> emails = usuarios.streamAllEmails()) {
+                emails.forEach(this::add);
+            }
+        });
+        loaded = true;
+    }
+
+    public void add(String email) {
+        if (email != null) {
+            filter.add(normalize(email));
+        }
+    }
+
+    /** Consulta exata só quando o filtro não consegue descartar o e-mail. */
+    public boolean isRegistered(String email) {
+        if (loaded && !filter.mightContain(normalize(email))) {
+            skippedLookups.increment();
+            return false;
+        }
+        return usuarios.existsByEmail(email);
+    }
+
+    // Minúsculas: a collation do banco pode ignorar caixa, então o filtro também ignora
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tokens revogados antes do {@code exp}, identificados pelo {@code jti}.
+ * A consulta passa primeiro por um Bloom filter sem lock (só leituras de bits); o conjunto
+ * exato só é consultado quando o filtro acusa um possível positivo. Cada entrada vive até
+ * o {@code exp} do token: depois disso o próprio token já é recusado pela verificação do JWT.
+ * O estado é por nó e não sobrevive a um restart.
+ */
+@Component
+public class RevokedTokenStore {
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final int expectedEntries;
+    private final Counter falsePositives;
+
+    private volatile ConcurrentBloomFilter filter;
+    // Filtro anterior, consultado enquanto o novo é preenchido em purgeExpired()
+    private volatile ConcurrentBloomFilter previous;
+
+    public RevokedTokenStore(@Value("${security.jwt.revocation.expected-entries:100000}") int expectedEntries,
+                             MeterRegistry meterRegistry) {
+        this.expectedEntries = expectedEntries;
+        this.filter = new ConcurrentBloomFilter(expectedEntries);
+        this.falsePositives = Counter.builder("security.jwt.revocation.false.positives")
+                .description("Consultas em que o Bloom filter acusou um jti que não estava revogado")
+                .register(meterRegistry);
+        Gauge.builder("security.jwt.revocation.entries", revoked, Map::size).register(meterRegistry);
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        // Conjunto exato antes do filtro: um positivo do filtro sempre encontra a entrada
+        revoked.put(tokenId, expiresAt);
+        filter.add(tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        ConcurrentBloomFilter old = previous;
+        if (!filter.mightContain(tokenId) && (old == null || !old.mightContain(tokenId))) {
+            return false;
+        }
+        if (revoked.containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Remove entradas vencidas e reconstrói o filtro (Bloom filter não permite remoção).
+     * Durante a reconstrução o filtro antigo continua sendo consultado, então nenhuma revogação se perde.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.purge-interval-ms:60000}")
+    public synchronized void purgeExpired() {
+        Instant now = Instant.now();
+        if (!revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+            return;
+        }
+        previous = filter;
+        ConcurrentBloomFilter rebuilt = new ConcurrentBloomFilter(expectedEntries);
+        filter = rebuilt;
+        revoked.keySet().forEach(rebuilt::add);
+        previous = null;
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Regras de autorização por rota compiladas na subida numa trie de segmentos de caminho.
+ * Mantém a semântica "a primeira regra declarada vence" da cadeia de requestMatchers, mas
+ * resolve a regra numa única descida pela trie (podando ramos que só têm regras posteriores
+ * à melhor já encontrada). Padrões aceitos por segmento: literal, {@code *} ou {@code {var}}
+ * (um segmento) e {@code **} (zero ou mais segmentos, inclusive no meio do caminho).
+ * Regras que nunca podem casar por causa da ordem são registradas como aviso na construção.
+ */
+@Slf4j
+public class RouteAuthorizationTable implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_SEGMENTS = "**";
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final List<Rule> rules;
+    private final Rule fallback;
+    private final Node root = new Node();
+    private final List<Rule> shadowedRules = new ArrayList<>();
+
+    private RouteAuthorizationTable(List<Rule> rules, Rule fallback) {
+        this.rules = List.copyOf(rules);
+        this.fallback = fallback;
+        for (Rule rule : this.rules) {
+            insert(rule);
+            findShadowingRule(rule).ifPresent(earlier -> {
+                shadowedRules.add(rule);
+                log.warn("Regra de autorização inalcançável: '{}' nunca casa porque '{}' vem antes", rule, earlier);
+            });
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context);
+    }
+
+    /** Ainda abstrato no Spring Security 6; o filtro de autorização chama {@link #authorize}. */
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context);
+    }
+
+    private AuthorizationDecision decide(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Optional<String[]> segments = lookupSegments(path);
+        if (segments.isEmpty()) {
+            return new AuthorizationDecision(false);
+        }
+        Rule rule = resolve(request.getMethod(), segments.get());
+        return new AuthorizationDecision(rule.access().isGranted(authentication.get()));
+    }
+
+    /** Primeira regra (na ordem de declaração) que casa com método + caminho; a regra padrão se nenhuma casar. */
+    public Rule resolve(String method, String path) {
+        return lookupSegments(path).map(segments -> resolve(method, segments)).orElse(fallback);
+    }
+
+    private Rule resolve(String method, String[] segments) {
+        Rule best = match(root, segments, 0, method, null);
+        return best != null ? best : fallback;
+    }
+
+    /**
+     * Os segmentos que o Spring MVC compara com os {@code PathPattern}: a URI crua, sem o
+     * conteúdo após {@code ;} e decodificada segmento a segmento. Assim {@code /%69nactive} e
+     * {@code /inactive;jsessionid=x} caem na mesma regra que o handler que vai atendê-las.
+     * Segmentos vazios ({@code //}) são ignorados; {@code .} ou {@code ..} tornam o caminho
+     * ambíguo e ele é recusado (vazio).
+     */
+    static Optional<String[]> lookupSegments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String raw : path.split("/")) {
+            int semicolon = raw.indexOf(';');
+            String segment = semicolon >= 0 ? raw.substring(0, semicolon) : raw;
+            try {
+                segment = UriUtils.decode(segment, StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            if (segment.equals(".") || segment.equals("..") || segment.indexOf('/') >= 0) {
+                return Optional.empty();
+            }
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return Optional.of(segments.toArray(String[]::new));
+    }
+
+    public List<Rule> rules() {
+        return rules;
+    }
+
+    public List<Rule> shadowedRules() {
+        return Collections.unmodifiableList(shadowedRules);
+    }
+
+    private Rule match(Node node, String[] segments, int index, String method, Rule best) {
+        if (best != null && node.minOrder >= best.order()) {
+            return best; // nada neste ramo pode vencer a regra já encontrada
+        }
+        if (node.anySegments != null) {
+            // '**' consome de 0 até todos os segmentos restantes
+            for (int next = index; next <= segments.length; next++) {
+                best = match(node.anySegments, segments, next, method, best);
+            }
+        }
+        if (index == segments.length) {
+            for (Rule rule : node.terminal) {
+                if (best != null && rule.order() >= best.order()) {
+                    break; // 'terminal' está em ordem de declaração
+                }
+                if (rule.matchesMethod(method)) {
+                    best = rule;
+                }
+            }
+            return best;
+        }
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            best = match(literal, segments, index + 1, method, best);
+        }
+        if (node.anySegment != null) {
+            best = match(node.anySegment, segments, index + 1, method, best);
+        }
+        return best;
+    }
+
+    private void insert(Rule rule) {
+        Node node = root;
+        node.minOrder = Math.min(node.minOrder, rule.order());
+        for (String segment : rule.segments()) {
+            node = switch (segment) {
+                case ANY_SEGMENTS -> node.anySegments != null ? node.anySegments : (node.anySegments = new Node());
+                case ANY_SEGMENT -> node.anySegment != null ? node.anySegment : (node.anySegment = new Node());
+                default -> node.literals.computeIfAbsent(segment, s -> new Node());
+            };
+            node.minOrder = Math.min(node.minOrder, rule.order());
+        }
+        node.terminal.add(rule);
+    }
+
+    private Optional<Rule> findShadowingRule(Rule rule) {
+        return rules.stream()
+                .limit(rule.order())
+                .filter(earlier -> earlier.method() == null || earlier.method().equals(rule.method()))
+                .filter(earlier -> covers(earlier.segments(), 0, rule.segments(), 0))
+                .findFirst();
+    }
+
+    // true se todo caminho aceito pelo padrão 'b' também é aceito por 'a'
+    private static boolean covers(String[] a, int ai, String[] b, int bi) {
+        if (ai == a.length) {
+            return bi == b.length;
+        }
+        if (a[ai].equals(ANY_SEGMENTS)) {
+            return covers(a, ai + 1, b, bi) || (bi < b.length && covers(a, ai, b, bi + 1));
+        }
+        if (bi == b.length || b[bi].equals(ANY_SEGMENTS)) {
+            return false;
+        }
+        if (a[ai].equals(ANY_SEGMENT) || a[ai].equals(b[bi])) {
+            return covers(a, ai + 1, b, bi + 1);
+        }
+        return false;
+    }
+
+    private static String[] split(String path) {
+        return Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node anySegment;
+        private Node anySegments;
+        private final List<Rule> terminal = new ArrayList<>();
+        private int minOrder = Integer.MAX_VALUE;
+    }
+
+    /** Quem pode acessar: todos, qualquer autenticado, ou quem tiver um dos papéis. */
+    public record Access(boolean allowAnonymous, Set<String> roles) {
+
+        public static Access permitAll() {
+            return new Access(true, Set.of());
+        }
+
+        public static Access authenticated() {
+            return new Access(false, Set.of());
+        }
+
+        public static Access anyRole(String... roles) {
+            return new Access(false, Arrays.stream(roles).map(role -> "ROLE_" + role).collect(Collectors.toUnmodifiableSet()));
+        }
+
+        public boolean isGranted(Authentication authentication) {
+            if (allowAnonymous) {
+                return true;
+            }
+            if (authentication == null || !authentication.isAuthenticated() || TRUST_RESOLVER.isAnonymous(authentication)) {
+                return false;
+            }
+            if (roles.isEmpty()) {
+                return true;
+            }
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                if (roles.contains(authority.getAuthority())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public record Rule(int order, String method, String pattern, String[] segments, Access access) {
+
+        boolean matchesMethod(String requestMethod) {
+            return method == null || method.equals(requestMethod);
+        }
+
+        @Override
+        public String toString() {
+            return (method != null ? method + " " : "") + pattern;
+        }
+    }
+
+    public static final class Builder {
+        private final List<Rule> rules = new ArrayList<>();
+        private Access fallback = Access.authenticated();
+
+        /** Inicia uma regra para os padrões, em qualquer método HTTP. */
+        public RouteSpec route(String... patterns) {
+            return new RouteSpec(this, null, patterns);
+        }
+
+        public RouteSpec route(HttpMethod method, String... patterns) {
+            return new RouteSpec(this, method, patterns);
+        }
+
+        /** Regra para requisições que não casam com nenhuma outra (padrão: autenticado). */
+        public Builder anyRequest(Access access) {
+            this.fallback = access;
+            return this;
+        }
+
+        public RouteAuthorizationTable build() {
+            return new RouteAuthorizationTable(rules, new Rule(rules.size(), null, "/**", new String[]{ANY_SEGMENTS}, fallback));
+        }
+
+        private Builder add(HttpMethod method, Access access, String... patterns) {
+            for (String pattern : patterns) {
+                String[] segments = Arrays.stream(split(pattern))
+                        .map(segment -> segment.startsWith("{") && segment.endsWith("}") ? ANY_SEGMENT : segment)
+                        .toArray(String[]::new);
+                rules.add(new Rule(rules.size(), method != null ? method.name() : null, pattern, segments, access));
+            }
+            return this;
+        }
+    }
+
+    public record RouteSpec(Builder builder, HttpMethod method, String[] patterns) {
+
+        public Builder permitAll() {
+            return builder.add(method, Access.permitAll(), patterns);
+        }
+
+        public Builder authenticated() {
+            return builder.add(method, Access.authenticated(), patterns);
+        }
+
+        public Builder hasRole(String role) {
+            return builder.add(method, Access.anyRole(role), patterns);
+        }
+
+        public Builder hasAnyRole(String... roles) {
+            return builder.add(method, Access.anyRole(roles), patterns);
+        }
+    }
+}
@@ -10,7 +10,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -33,52 +32,74 @@ public class SecurityConfig {
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authorizeHttpRequests(auth -> auth
-                        // 1. ROTAS PÚBLICAS (AQUI ESTÁ A CORREÇÃO MAIS IMPORTANTE)
-                        .requestMatchers(
-                                "/auth/**",
-                                "/swagger-ui.html",      // A página HTML principal do Swagger
-                                "/swagger-ui/**",        // Os recursos (CSS, JS, etc.) do Swagger
-                                "/v3/api-docs/**"       // A especificação da API em JSON que o Swagger lê
-                        ).permitAll()
-                        // Cadastro de cliente público
-                        .requestMatchers(HttpMethod.POST, "/api/customers").permitAll()
-                        // Rotas públicas de produtos (GET)
-                        .requestMatchers(HttpMethod.GET, "/api/products").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
-                        .requestMatchers(HttpMethod.GET, "/api/products/category/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
-
-                        // 2. ROTAS DE CLIENTE (USER)
-                        .requestMatchers("/api/cart/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
-                        // Rotas de carrinho de compras (USER)
-                        .requestMatchers("/api/shopping-items/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
-                        // Rotas de shopping - ordem importa: específicas primeiro
-                        .requestMatchers(HttpMethod.GET, "/api/shopping").hasRole("ADMIN") // Listar todos (apenas ADMIN)
-                        .requestMatchers("/api/shopping/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN") // Outras rotas de shopping
-                        // Rotas de pedidos - ordem importa: específicas primeiro
-                        .requestMatchers(HttpMethod.GET, "/api/orders").hasRole("ADMIN") // Listar todos (apenas ADMIN)
-                        .requestMatchers(HttpMethod.PUT, "/api/orders/**/status").hasRole("ADMIN") // Atualizar status (apenas ADMIN)
-                        .requestMatchers("/api/orders/my-sales").hasAnyRole("COLLABORATOR", "ADMIN") // Ver minhas vendas (COLLABORATOR)
-                        .requestMatchers("/api/orders/sales/**").hasAnyRole("COLLABORATOR", "ADMIN") // Ver venda específica (COLLABORATOR)
-                        .requestMatchers("/api/orders/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN") // Outras rotas de pedidos
-
-                        // 3. ROTAS DE ADMIN
-                        .requestMatchers(HttpMethod.GET, "/api/products/inactive").hasRole("ADMIN")
-                        .requestMatchers("/api/collaborators/**").hasRole("ADMIN")
-
-                        // 4. ROTAS DE COLABORADOR (Admin também tem acesso)
-                        .requestMatchers("/api/products/my-products").hasAnyRole("COLLABORATOR", "ADMIN")
-                        .requestMatchers(HttpMethod.POST, "/api/products").hasAnyRole("COLLABORATOR", "ADMIN")
-                        .requestMatchers(HttpMethod.PUT, "/api/products/**").hasAnyRole("COLLABORATOR", "ADMIN")
-                        .requestMatchers(HttpMethod.DELETE, "/api/products/**").hasAnyRole("COLLABORATOR", "ADMIN")
-
-                        // 5. QUALQUER OUTRA ROTA
-                        .anyRequest().authenticated()
-                )
+                // Regras compiladas numa trie de rotas (ver routeAuthorizationTable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().access(routeAuthorizationTable()))
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Regras por rota, na ordem de prioridade: a primeira que casar vence.
+     * Compiladas uma vez numa trie; regras inalcançáveis pela ordem geram aviso no log.
+     */
+    @Bean
+    public RouteAuthorizationTable routeAuthorizationTable() {
+        return routes();
+    }
+
+    public static RouteAuthorizationTable routes() {
+        return RouteAuthorizationTable.builder()
+                // 1. ROTAS PÚBLICAS
+                .route(
+                        "/auth/**",
+                        "/swagger-ui.html",      // A página HTML principal do Swagger
+                        "/swagger-ui/**",        // Os recursos (CSS, JS, etc.) do Swagger
+                        "/v3/api-docs/**"       // A especificação da API em JSON que o Swagger lê
+                ).permitAll()
+                // Cadastro de cliente público
+                .route(HttpMethod.POST, "/api/customers").permitAll()
+                // Rotas públicas de produtos (GET)
+                .route(HttpMethod.GET, "/api/products").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
+                .route(HttpMethod.GET, "/api/products/category/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
+                .route(HttpMethod.GET, "/api/products/search").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
+                .route(HttpMethod.GET, "/api/products/suggest").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
+                .route(HttpMethod.GET, "/api/products/facets").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
+
+                // 2. ROTAS DE CLIENTE (USER)
+                .route("/api/cart/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
+                // Rotas de carrinho de compras (USER)
+                .route("/api/shopping-items/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
+                // Rotas de shopping - ordem importa: específicas primeiro
+                .route(HttpMethod.GET, "/api/shopping").hasRole("ADMIN") // Listar todos (apenas ADMIN)
+                .route("/api/shopping/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN") // Outras rotas de shopping
+                // Rotas de pedidos - ordem importa: específicas primeiro
+                .route(HttpMethod.GET, "/api/orders").hasRole("ADMIN") // Listar todos (apenas ADMIN)
+                .route(HttpMethod.PUT, "/api/orders/**/status").hasRole("ADMIN") // Atualizar status (apenas ADMIN)
+                .route("/api/orders/my-sales").hasAnyRole("COLLABORATOR", "ADMIN") // Ver minhas vendas (COLLABORATOR)
+                .route("/api/orders/sales/**").hasAnyRole("COLLABORATOR", "ADMIN") // Ver venda específica (COLLABORATOR)
+                .route("/api/orders/**").hasAnyRole("USER", "COLLABORATOR", "ADMIN") // Outras rotas de pedidos
+
+                // 3. ROTAS DE ADMIN
+                .route(HttpMethod.GET, "/api/products/inactive").hasRole("ADMIN")
+                .route("/api/collaborators/**").hasRole("ADMIN")
+                .route("/actuator/**").hasRole("ADMIN") // Métricas (hit/miss de caches etc.)
+
+                // 4. ROTAS DE COLABORADOR (Admin também tem acesso)
+                .route("/api/products/my-products").hasAnyRole("COLLABORATOR", "ADMIN")
+                // Detalhe público: depois de /inactive e /my-products, que são mais restritas
+                .route(HttpMethod.GET, "/api/products/{id}").hasAnyRole("USER", "COLLABORATOR", "ADMIN")
+                .route(HttpMethod.POST, "/api/products").hasAnyRole("COLLABORATOR", "ADMIN")
+                .route(HttpMethod.POST, "/api/products/bulk").hasAnyRole("COLLABORATOR", "ADMIN")
+                .route(HttpMethod.PATCH, "/api/products/bulk").hasAnyRole("COLLABORATOR", "ADMIN")
+                .route(HttpMethod.PUT, "/api/products/**").hasAnyRole("COLLABORATOR", "ADMIN")
+                .route(HttpMethod.DELETE, "/api/products/**").hasAnyRole("COLLABORATOR", "ADMIN")
+
+                // 5. QUALQUER OUTRA ROTA
+                .anyRequest(RouteAuthorizationTable.Access.authenticated())
+                .build();
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -90,7 +111,7 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type", "ETag", "X-Next-Cursor"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         
@@ -99,9 +120,10 @@ public class SecurityConfig {
         return source;
     }
 
+    // BCrypt com custo calibrado na subida, rodando no pool limitado de hashing (fora das threads do Tomcat)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor, BCryptCostCalibrator costCalibrator) {
+        return new BoundedPasswordEncoder(new CalibratedBCryptPasswordEncoder(costCalibrator.strength()), passwordHashingExecutor);
     }
 
     @Bean
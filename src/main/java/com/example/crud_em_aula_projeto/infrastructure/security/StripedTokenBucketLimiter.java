@@ -0,0 +1,123 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket por chave, em memória, com lock por faixa (stripe): chaves em faixas
+ * diferentes nunca disputam o mesmo lock. Cada faixa é um LRU limitado; baldes ociosos
+ * por tempo suficiente para encher de novo são descartados (equivalem a um balde novo),
+ * então a memória fica limitada a 'maxKeys' mesmo com milhões de chaves distintas.
+ */
+public class StripedTokenBucketLimiter {
+
+    private static final int EVICTIONS_PER_CALL = 8;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+    private final LongSupplier clock;
+
+    public StripedTokenBucketLimiter(int capacity, int refillPerMinute, int maxKeys, int stripeCount) {
+        this(capacity, refillPerMinute, maxKeys, stripeCount, System::nanoTime);
+    }
+
+    StripedTokenBucketLimiter(int capacity, int refillPerMinute, int maxKeys, int stripeCount, LongSupplier clock) {
+        // Número de faixas arredondado para potência de 2 (índice por máscara)
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Stripe[size];
+        int perStripe = Math.max(1, maxKeys / size);
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.mask = size - 1;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.idleNanos = refillPerMinute > 0 ? (long) Math.ceil(capacity / tokensPerNano) : Long.MAX_VALUE;
+        this.clock = clock;
+    }
+
+    /**
+     * Consome um token da chave.
+     *
+     * @return 0 se permitido; senão, quantos nanossegundos até haver um token
+     */
+    public long tryAcquire(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        synchronized (stripe) {
+            long now = clock.getAsLong();
+            stripe.evictIdle(now);
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.put(key, bucket);
+            } else {
+                bucket.refill(now);
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return tokensPerNano > 0 ? (long) Math.ceil((1 - bucket.tokens) / tokensPerNano) : Long.MAX_VALUE;
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.size();
+            }
+        }
+        return total;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.updatedAt = now;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+            updatedAt = now;
+        }
+    }
+
+    // LinkedHashMap em ordem de acesso: o mais antigo é o menos usado recentemente
+    private final class Stripe extends LinkedHashMap<String, Bucket> {
+        private final int maxEntries;
+
+        private Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        private void evictIdle(long now) {
+            Iterator<Bucket> eldest = values().iterator();
+            for (int i = 0; i < EVICTIONS_PER_CALL && eldest.hasNext(); i++) {
+                if (now - eldest.next().updatedAt < idleNanos) {
+                    return;
+                }
+                eldest.remove();
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versão de token por usuário, mantida em memória. Tokens emitidos com versão menor
+ * que a atual são recusados, então incrementar a versão revoga todas as sessões do usuário.
+ * Só usuários que já tiveram a versão incrementada ocupam espaço no mapa.
+ * O estado é por nó e não sobrevive a um restart.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+
+    public long currentVersion(UUID userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    public void bump(UUID userId) {
+        versions.merge(userId, 1L, Long::sum);
+    }
+
+    public boolean isCurrent(UUID userId, long tokenVersion) {
+        return tokenVersion >= currentVersion(userId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.model.projection.UsuarioCredentials;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache limitado (com TTL) de email -> credenciais usado pelo {@link UsuarioDetailsService}.
+ * Os serviços que alteram email, senha ou status chamam {@link #invalidate(String)};
+ * o TTL cobre qualquer escrita feita fora deles. E-mails inexistentes e leituras feitas
+ * dentro de uma transação não são guardados.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UsuarioCredentials> cache;
+
+    public UserDetailsCache(@Value("${security.user-details-cache.max-size:10000}") long maxSize,
+                            @Value("${security.user-details-cache.ttl-seconds:60}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // cache.gets / cache.evictions / ... com tag cache=usuario.details (hit ratio = hits / gets)
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "usuario.details");
+    }
+
+    public Optional<UsuarioCredentials> get(String email, Function<String, Optional<UsuarioCredentials>> loader) {
+        // Dentro de uma transação a leitura pode enxergar dados ainda não commitados: não guarda
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(email);
+        }
+        return Optional.ofNullable(cache.get(email, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Remove a entrada agora e, dentro de uma transação, de novo após o commit: uma leitura
+     * concorrente entre as duas não deixa o valor antigo no cache.
+     */
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        cache.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+}
@@ -2,30 +2,30 @@ package com.example.crud_em_aula_projeto.infrastructure.security;
 
 import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class UsuarioDetailsService implements UserDetailsService {
 
     private final UsuarioRepository repository;
+    private final UserDetailsCache cache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        var usuario = repository.findByEmail(email)
+        // Projeção só da tabela usuarios (sem hidratar Customer/Collaborator), servida do cache quando possível
+        var credentials = cache.get(email, repository::findCredentialsByEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
 
-        return new User(
-                usuario.getEmail(),
-                usuario.getPasswordHash(),
-                List.of(new SimpleGrantedAuthority("ROLE_" + usuario.getRole().name()))
+        return new AuthenticatedUser(
+                credentials.id(),
+                credentials.email(),
+                credentials.passwordHash(),
+                credentials.role(),
+                credentials.isActive()
         );
     }
-}
\ No newline at end of file
+}
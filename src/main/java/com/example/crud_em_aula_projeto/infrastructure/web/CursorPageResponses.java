@@ -0,0 +1,26 @@
+package com.example.crud_em_aula_projeto.infrastructure.web;
+
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Resposta das listagens paginadas: o corpo continua sendo o array de itens e o cursor
+ * da próxima página vai no header {@value #NEXT_CURSOR_HEADER} (ausente na última página).
+ */
+public final class CursorPageResponses {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private CursorPageResponses() {
+    }
+
+    public static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+}
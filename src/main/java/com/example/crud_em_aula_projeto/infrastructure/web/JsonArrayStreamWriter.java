@@ -0,0 +1,36 @@
+package com.example.crud_em_aula_projeto.infrastructure.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Escreve um stream como array JSON, elemento por elemento, pelo {@link JsonGenerator} do
+ * ObjectMapper da aplicação. Só o buffer do gerador (alguns KB) fica em memória: o custo
+ * não cresce com o tamanho da lista.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonArrayStreamWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> void write(Stream<T> items, OutputStream out) throws IOException {
+        // Quem fecha o OutputStream é o container
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            Iterator<T> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.crud_em_aula_projeto.infrastructure.web;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportRow;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Lê o corpo de {@code POST /api/products/bulk} linha a linha, sem carregar o arquivo:
+ * NDJSON (um {@link ProductRequestDTO} por linha) ou CSV com cabeçalho (RFC 4180: campos
+ * entre aspas podem ter vírgulas, aspas dobradas e quebras de linha). Uma linha que não
+ * pode ser convertida vira um {@link ProductImportRow} com erro; a leitura segue.
+ * <p>
+ * A memória por linha é limitada: uma linha (ou registro CSV) com mais de
+ * {@value #MAX_LINE_CHARS} caracteres, ou um campo maior que a coluna do banco
+ * ({@value #MAX_FIELD_CHARS}), vira erro da linha sem ser guardada inteira. O corpo todo
+ * pode ter no máximo {@code products.import.max-bytes}; passado o limite, a leitura para
+ * com {@link UncheckedIOException} e o que já foi lido continua valendo.
+ */
+@Component
+public class ProductImportReader {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+    private static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+    private static final MediaType CSV = MediaType.parseMediaType(CSV_VALUE);
+
+    public static final int MAX_LINE_CHARS = 16 * 1024;
+    // VARCHAR(255) das colunas de texto de products
+    public static final int MAX_FIELD_CHARS = 255;
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "title", "description", "price", "quantity", "imageUrl", "productStatus", "productCategory");
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+
+    public ProductImportReader(ObjectMapper objectMapper,
+                               @Value("${products.import.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper.copy();
+        this.objectMapper.getFactory().setStreamReadConstraints(StreamReadConstraints.builder()
+                .maxStringLength(MAX_FIELD_CHARS)
+                .build());
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Linhas lidas sob demanda; quem chama fecha o {@code InputStream}. Um {@code Content-Length}
+     * declarado acima do limite é recusado antes de ler qualquer linha.
+     */
+    public Iterator<ProductImportRow> read(InputStream body, String contentType, long contentLength) throws IOException {
+        if (contentLength > maxBytes) {
+            throw new BusinessRuleException("Arquivo maior que o limite de " + maxBytes + " bytes");
+        }
+        MediaType type;
+        try {
+            type = contentType == null ? null : MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            type = null;
+        }
+        if (type != null) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new LimitedInputStream(body, maxBytes), StandardCharsets.UTF_8));
+            if (NDJSON.isCompatibleWith(type)) {
+                return new NdjsonRows(reader);
+            }
+            if (CSV.isCompatibleWith(type)) {
+                return new CsvRows(reader);
+            }
+        }
+        throw new BusinessRuleException("Formato não suportado: use " + NDJSON_VALUE + " ou " + CSV_VALUE);
+    }
+
+    private abstract static class Rows implements Iterator<ProductImportRow> {
+
+        private ProductImportRow next;
+        private boolean done;
+
+        /** A próxima linha, ou null no fim do arquivo. */
+        protected abstract ProductImportRow readNext() throws IOException;
+
+        /** Última linha do arquivo já lida, para apontar onde a leitura parou. */
+        protected abstract long lastLine();
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = readNext();
+                } catch (IOException e) {
+                    done = true;
+                    throw new UncheckedIOException("Leitura interrompida após a linha " + lastLine() + ": " + e.getMessage(), e);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public ProductImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ProductImportRow row = next;
+            next = null;
+            return row;
+        }
+    }
+
+    private final class NdjsonRows extends Rows {
+
+        private final BufferedReader reader;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean truncated;
+        private long line;
+
+        NdjsonRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected ProductImportRow readNext() throws IOException {
+            String text;
+            while ((text = readLine()) != null) {
+                line++;
+                if (truncated) {
+                    return ProductImportRow.invalid(line, "Linha com mais de " + MAX_LINE_CHARS + " caracteres");
+                }
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    ProductRequestDTO product = objectMapper.readValue(text, ProductRequestDTO.class);
+                    return product == null ? ProductImportRow.invalid(line, "Esperado um objeto JSON")
+                            : ProductImportRow.of(line, product);
+                } catch (JsonProcessingException e) {
+                    // O databind embrulha a violação do limite de tamanho num JsonMappingException
+                    if (e instanceof StreamConstraintsException || e.getCause() instanceof StreamConstraintsException) {
+                        return ProductImportRow.invalid(line, "Campo com mais de " + MAX_FIELD_CHARS + " caracteres");
+                    }
+                    return ProductImportRow.invalid(line, "JSON inválido: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        protected long lastLine() {
+            return line;
+        }
+
+        // Como BufferedReader.readLine, mas guarda no máximo MAX_LINE_CHARS: o resto da linha é descartado
+        private String readLine() throws IOException {
+            buffer.setLength(0);
+            truncated = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            for (; c != -1 && c != '\n'; c = reader.read()) {
+                if (buffer.length() < MAX_LINE_CHARS) {
+                    buffer.append((char) c);
+                } else if (c != '\r') {
+                    truncated = true;
+                }
+            }
+            int end = buffer.length();
+            if (end > 0 && buffer.charAt(end - 1) == '\r') {
+                buffer.setLength(end - 1);
+            }
+            return buffer.toString();
+        }
+    }
+
+    private static final class CsvRows extends Rows {
+
+        private final BufferedReader reader;
+        private final int[] positions = new int[CSV_COLUMNS.size()];
+        private long nextLine = 1;
+        private long recordLine;
+        private boolean recordTooLong;
+        private boolean fieldTooLong;
+
+        CsvRows(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new BusinessRuleException("CSV vazio: a primeira linha deve ser o cabeçalho");
+            }
+            List<String> names = header.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+            List<String> missing = new ArrayList<>();
+            for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+                positions[i] = names.indexOf(CSV_COLUMNS.get(i).toLowerCase(Locale.ROOT));
+                if (positions[i] < 0) {
+                    missing.add(CSV_COLUMNS.get(i));
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new BusinessRuleException("Colunas ausentes no cabeçalho do CSV: " + String.join(", ", missing));
+            }
+        }
+
+        @Override
+        protected ProductImportRow readNext() throws IOException {
+            List<String> fields;
+            while ((fields = readRecord()) != null) {
+                if (recordTooLong) {
+                    return ProductImportRow.invalid(recordLine, "Registro com mais de " + MAX_LINE_CHARS + " caracteres");
+                }
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                if (fieldTooLong) {
+                    return ProductImportRow.invalid(recordLine, "Campo com mais de " + MAX_FIELD_CHARS + " caracteres");
+                }
+                try {
+                    return ProductImportRow.of(recordLine, new ProductRequestDTO(
+                            text(fields, 0), text(fields, 1),
+                            value(fields, 2, Double::valueOf), value(fields, 3, Integer::valueOf),
+                            text(fields, 4),
+                            value(fields, 5, cell -> ProductStatus.valueOf(cell.toUpperCase(Locale.ROOT))),
+                            value(fields, 6, cell -> ProductCategory.valueOf(cell.toUpperCase(Locale.ROOT)))));
+                } catch (InvalidCellException e) {
+                    return ProductImportRow.invalid(recordLine, e.getMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        protected long lastLine() {
+            return nextLine - 1;
+        }
+
+        private String text(List<String> fields, int column) {
+            int position = positions[column];
+            return position < fields.size() ? fields.get(position) : null;
+        }
+
+        private <T> T value(List<String> fields, int column, Function<String, T> parser) {
+            String cell = text(fields, column);
+            if (cell == null || cell.isBlank()) {
+                return null; // a validação do DTO aponta o campo obrigatório
+            }
+            try {
+                return parser.apply(cell.trim());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidCellException("Valor inválido na coluna '" + CSV_COLUMNS.get(column) + "': " + cell);
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            recordLine = nextLine;
+            recordTooLong = false;
+            fieldTooLong = false;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean read = false;
+            int chars = 0;
+            int c;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                if (++chars > MAX_LINE_CHARS) {
+                    recordTooLong = true;
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            append(field, '"');
+                        } else {
+                            quoted = false;
+                            if (following != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        if (c == '\n') {
+                            nextLine++;
+                        }
+                        append(field, (char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    endField(fields, field);
+                } else if (c == '\n') {
+                    nextLine++;
+                    endField(fields, field);
+                    return fields;
+                } else if (c != '\r') {
+                    append(field, (char) c);
+                }
+            }
+            if (!read) {
+                return null;
+            }
+            endField(fields, field);
+            return fields;
+        }
+
+        // Passado o limite do registro nada mais é guardado; o restante só é lido até o fim dele
+        private void append(StringBuilder field, char c) {
+            if (recordTooLong) {
+                return;
+            }
+            if (field.length() < MAX_FIELD_CHARS) {
+                field.append(c);
+            } else {
+                fieldTooLong = true;
+            }
+        }
+
+        private void endField(List<String> fields, StringBuilder field) {
+            if (!recordTooLong) {
+                fields.add(field.toString());
+            }
+            field.setLength(0);
+        }
+    }
+
+    /** Conta os bytes lidos do corpo e falha ao passar do limite. */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+            this.remaining = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                consume(read);
+            }
+            return read;
+        }
+
+        private void consume(int bytes) throws IOException {
+            remaining -= bytes;
+            if (remaining < 0) {
+                throw new IOException("arquivo maior que o limite de " + maxBytes + " bytes");
+            }
+        }
+    }
+
+    private static final class InvalidCellException extends RuntimeException {
+        InvalidCellException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+-- ===============================
+-- Unicidade do e-mail em usuarios (MySQL)
+-- ===============================
+-- Até aqui o e-mail era @Column(unique = true) e o Hibernate criava o índice único com um nome
+-- gerado (UK...). Agora a constraint se chama uk_usuarios_email, nome que o GlobalExceptionHandler
+-- reconhece para responder 400 "E-mail já está em uso". Com ddl-auto=update o Hibernate cria a
+-- nova constraint mas não apaga a antiga: ficam dois índices únicos na mesma coluna, e uma
+-- violação do antigo ainda vira 500.
+--
+-- Rode uma vez em bancos criados antes desta versão, de preferência antes de subir a aplicação
+-- nova. Pode ser repetido: cria uk_usuarios_email se faltar e apaga os demais índices únicos
+-- que cobrem só a coluna email.
+
+SET @legacy = (
+    SELECT GROUP_CONCAT(CONCAT('DROP INDEX `', s.index_name, '`') SEPARATOR ', ')
+    FROM information_schema.statistics s
+    WHERE s.table_schema = DATABASE()
+      AND s.table_name = 'usuarios'
+      AND s.column_name = 'email'
+      AND s.non_unique = 0
+      AND s.index_name NOT IN ('PRIMARY', 'uk_usuarios_email')
+      AND (SELECT COUNT(*)
+           FROM information_schema.statistics c
+           WHERE c.table_schema = s.table_schema
+             AND c.table_name = s.table_name
+             AND c.index_name = s.index_name) = 1
+);
+
+SET @missing = (
+    SELECT COUNT(*) = 0
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'usuarios'
+      AND index_name = 'uk_usuarios_email'
+);
+
+SET @ddl = CONCAT_WS(', ', IF(@missing, 'ADD CONSTRAINT uk_usuarios_email UNIQUE (email)', NULL), @legacy);
+SET @ddl = IF(@ddl = '', 'DO 0', CONCAT('ALTER TABLE usuarios ', @ddl));
+
+PREPARE migration FROM @ddl;
+EXECUTE migration;
+DEALLOCATE PREPARE migration;
@@ -1,11 +1,16 @@
 package com.example.crud_em_aula_projeto.application.service;
 
 import com.example.crud_em_aula_projeto.application.dto.AuthDTO;
+import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
 import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
 import com.example.crud_em_aula_projeto.domain.model.entity.Usuario;
 import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.model.projection.UsuarioCredentials;
 import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
 import com.example.crud_em_aula_projeto.infrastructure.security.JwtService;
+import com.example.crud_em_aula_projeto.infrastructure.security.PasswordRehasher;
+import com.example.crud_em_aula_projeto.infrastructure.security.RevokedTokenStore;
+import com.example.crud_em_aula_projeto.infrastructure.security.TokenVersionRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +25,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +43,18 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private PasswordRehasher passwordRehasher;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private RevokedTokenStore revokedTokenStore;
+
     @InjectMocks
     private AuthService authService;
 
@@ -62,42 +81,122 @@ class AuthServiceTest {
         // Arrange
         String expectedToken = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...";
 
-        when(usuarioRepository.findByEmail("test@example.com")).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.findCredentialsByEmail("test@example.com")).thenReturn(Optional.of(credentials(usuario)));
         when(passwordEncoder.matches("password123", usuario.getPasswordHash())).thenReturn(true);
-        when(jwtService.generateToken(usuario.getEmail(), usuario.getRole().name())).thenReturn(expectedToken);
+        when(jwtService.generateToken(usuario.getId(), usuario.getEmail(), usuario.getRole().name(), 0L)).thenReturn(expectedToken);
 
         // Act
-        String token = authService.login(loginRequest);
+        String token = authService.login(loginRequest).token();
 
         // Assert
         assertNotNull(token);
         assertEquals(expectedToken, token);
-        verify(usuarioRepository).findByEmail("test@example.com");
+        verify(usuarioRepository).findCredentialsByEmail("test@example.com");
         verify(passwordEncoder).matches("password123", usuario.getPasswordHash());
-        verify(jwtService).generateToken(usuario.getEmail(), usuario.getRole().name());
+        verify(jwtService).generateToken(usuario.getId(), usuario.getEmail(), usuario.getRole().name(), 0L);
+        verify(passwordRehasher, never()).rehashLater(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve devolver refresh token junto com o token de acesso no login")
+    void deveDevolverRefreshTokenNoLogin() {
+        // Arrange
+        when(usuarioRepository.findCredentialsByEmail("test@example.com")).thenReturn(Optional.of(credentials(usuario)));
+        when(passwordEncoder.matches("password123", usuario.getPasswordHash())).thenReturn(true);
+        when(jwtService.generateToken(usuario.getId(), usuario.getEmail(), usuario.getRole().name(), 0L)).thenReturn("token");
+        when(usuarioRepository.getReferenceById(usuario.getId())).thenReturn(usuario);
+        when(refreshTokenService.issue(usuario)).thenReturn("refresh-token");
+
+        // Act
+        AuthDTO.TokenResponse response = authService.login(loginRequest);
+
+        // Assert
+        assertEquals("token", response.token());
+        assertEquals("refresh-token", response.refreshToken());
+        verify(refreshTokenService).issue(usuario);
+    }
+
+    @Test
+    @DisplayName("Deve renovar os tokens sem verificar a senha")
+    void deveRenovarTokensSemVerificarSenha() {
+        // Arrange
+        when(refreshTokenService.rotate("refresh-antigo"))
+                .thenReturn(new RefreshTokenService.Rotation(usuario, "refresh-novo"));
+        when(jwtService.generateToken(usuario.getId(), usuario.getEmail(), usuario.getRole().name(), 0L)).thenReturn("token-novo");
+
+        // Act
+        AuthDTO.TokenResponse response = authService.refresh(new AuthDTO.RefreshRequest("refresh-antigo"));
+
+        // Assert
+        assertEquals("token-novo", response.token());
+        assertEquals("refresh-novo", response.refreshToken());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve revogar todas as sessões do usuário")
+    void deveRevogarTodasAsSessoes() {
+        // Arrange
+        when(usuarioRepository.existsById(usuario.getId())).thenReturn(true);
+
+        // Act
+        authService.revokeAllSessions(usuario.getId());
+
+        // Assert
+        verify(tokenVersionRegistry).bump(usuario.getId());
+        verify(refreshTokenService).revokeAll(usuario.getId());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao revogar sessões de usuário inexistente")
+    void deveLancarExcecaoAoRevogarSessoesDeUsuarioInexistente() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(usuarioRepository.existsById(id)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> authService.revokeAllSessions(id));
+        verify(tokenVersionRegistry, never()).bump(any());
+    }
+
+    @Test
+    @DisplayName("Deve agendar rehash quando o custo do hash estiver desatualizado")
+    void deveAgendarRehashQuandoCustoDesatualizado() {
+        // Arrange
+        when(usuarioRepository.findCredentialsByEmail("test@example.com")).thenReturn(Optional.of(credentials(usuario)));
+        when(passwordEncoder.matches("password123", usuario.getPasswordHash())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(usuario.getPasswordHash())).thenReturn(true);
+        when(jwtService.generateToken(usuario.getId(), usuario.getEmail(), usuario.getRole().name(), 0L)).thenReturn("token");
+
+        // Act
+        String token = authService.login(loginRequest).token();
+
+        // Assert
+        assertEquals("token", token);
+        verify(passwordRehasher).rehashLater(usuario.getId(), "password123", usuario.getPasswordHash());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando usuário não encontrado")
     void deveLancarExcecaoQuandoUsuarioNaoEncontrado() {
         // Arrange
-        when(usuarioRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(usuarioRepository.findCredentialsByEmail("test@example.com")).thenReturn(Optional.empty());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
                 authService.login(loginRequest));
 
         assertEquals("Usuário não encontrado", exception.getMessage());
-        verify(usuarioRepository).findByEmail("test@example.com");
+        verify(usuarioRepository).findCredentialsByEmail("test@example.com");
         verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(jwtService, never()).generateToken(anyString(), anyString());
+        verify(jwtService, never()).generateToken(any(), anyString(), anyString(), anyLong());
     }
 
     @Test
     @DisplayName("Deve lançar BadCredentialsException quando senha incorreta")
     void deveLancarExcecaoQuandoSenhaIncorreta() {
         // Arrange
-        when(usuarioRepository.findByEmail("test@example.com")).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.findCredentialsByEmail("test@example.com")).thenReturn(Optional.of(credentials(usuario)));
         when(passwordEncoder.matches("password123", usuario.getPasswordHash())).thenReturn(false);
 
         // Act & Assert
@@ -105,9 +204,26 @@ class AuthServiceTest {
                 authService.login(loginRequest));
 
         assertEquals("Credenciais inválidas", exception.getMessage());
-        verify(usuarioRepository).findByEmail("test@example.com");
+        verify(usuarioRepository).findCredentialsByEmail("test@example.com");
         verify(passwordEncoder).matches("password123", usuario.getPasswordHash());
-        verify(jwtService, never()).generateToken(anyString(), anyString());
+        verify(jwtService, never()).generateToken(any(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve recusar login de usuário inativo antes de verificar a senha")
+    void deveRecusarLoginDeUsuarioInativo() {
+        // Arrange
+        usuario.setActive(false);
+        when(usuarioRepository.findCredentialsByEmail("test@example.com")).thenReturn(Optional.of(credentials(usuario)));
+
+        // Act & Assert
+        BadCredentialsException exception = assertThrows(BadCredentialsException.class, () ->
+                authService.login(loginRequest));
+
+        assertEquals("Usuário inativo", exception.getMessage());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(jwtService, never()).generateToken(any(), anyString(), anyString(), anyLong());
+        verify(refreshTokenService, never()).issue(any());
     }
 
     @Test
@@ -126,17 +242,17 @@ class AuthServiceTest {
         AuthDTO.LoginRequest adminLogin = new AuthDTO.LoginRequest("admin@example.com", "password123");
         String expectedToken = "admin-token";
 
-        when(usuarioRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(admin));
+        when(usuarioRepository.findCredentialsByEmail("admin@example.com")).thenReturn(Optional.of(credentials(admin)));
         when(passwordEncoder.matches("password123", admin.getPasswordHash())).thenReturn(true);
-        when(jwtService.generateToken(admin.getEmail(), Role.ADMIN.name())).thenReturn(expectedToken);
+        when(jwtService.generateToken(admin.getId(), admin.getEmail(), Role.ADMIN.name(), 0L)).thenReturn(expectedToken);
 
         // Act
-        String token = authService.login(adminLogin);
+        String token = authService.login(adminLogin).token();
 
         // Assert
         assertNotNull(token);
         assertEquals(expectedToken, token);
-        verify(jwtService).generateToken(admin.getEmail(), Role.ADMIN.name());
+        verify(jwtService).generateToken(admin.getId(), admin.getEmail(), Role.ADMIN.name(), 0L);
     }
 
     @Test
@@ -155,17 +271,21 @@ class AuthServiceTest {
         AuthDTO.LoginRequest collaboratorLogin = new AuthDTO.LoginRequest("collaborator@example.com", "password123");
         String expectedToken = "collaborator-token";
 
-        when(usuarioRepository.findByEmail("collaborator@example.com")).thenReturn(Optional.of(collaborator));
+        when(usuarioRepository.findCredentialsByEmail("collaborator@example.com")).thenReturn(Optional.of(credentials(collaborator)));
         when(passwordEncoder.matches("password123", collaborator.getPasswordHash())).thenReturn(true);
-        when(jwtService.generateToken(collaborator.getEmail(), Role.COLLABORATOR.name())).thenReturn(expectedToken);
+        when(jwtService.generateToken(collaborator.getId(), collaborator.getEmail(), Role.COLLABORATOR.name(), 0L)).thenReturn(expectedToken);
 
         // Act
-        String token = authService.login(collaboratorLogin);
+        String token = authService.login(collaboratorLogin).token();
 
         // Assert
         assertNotNull(token);
         assertEquals(expectedToken, token);
-        verify(jwtService).generateToken(collaborator.getEmail(), Role.COLLABORATOR.name());
+        verify(jwtService).generateToken(collaborator.getId(), collaborator.getEmail(), Role.COLLABORATOR.name(), 0L);
     }
-}
 
+    private static UsuarioCredentials credentials(Usuario usuario) {
+        return new UsuarioCredentials(usuario.getId(), usuario.getEmail(), usuario.getPasswordHash(),
+                usuario.getRole(), usuario.getActive());
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.crud_em_aula_projeto.application.service;
 
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
 import com.example.crud_em_aula_projeto.application.dto.collaboratorDTOs.CollaboratorRequestDTO;
 import com.example.crud_em_aula_projeto.application.dto.collaboratorDTOs.CollaboratorResponseDTO;
 import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
 import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
 import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
 import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.RegisteredEmailIndex;
+import com.example.crud_em_aula_projeto.infrastructure.security.TokenVersionRegistry;
+import com.example.crud_em_aula_projeto.infrastructure.security.UserDetailsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
@@ -34,6 +40,18 @@ class CollaboratorServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private RegisteredEmailIndex registeredEmails;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private CollaboratorService collaboratorService;
 
@@ -152,17 +170,17 @@ class CollaboratorServiceTest {
                 .build();
 
         List<Collaborator> colaboradores = List.of(collaborator, colaborador2);
-        when(collaboratorRepository.findAllByActiveTrue()).thenReturn(colaboradores);
+        when(collaboratorRepository.findActivePage(any(UUID.class), eq(Limit.of(PageCursor.DEFAULT_LIMIT + 1)))).thenReturn(colaboradores);
 
         // Act
-        List<CollaboratorResponseDTO> result = collaboratorService.findAllActive();
+        CursorPage<CollaboratorResponseDTO> result = collaboratorService.findAllActive(null, PageCursor.DEFAULT_LIMIT);
 
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("João Silva", result.get(0).name());
-        assertEquals("Maria Santos", result.get(1).name());
-        verify(collaboratorRepository).findAllByActiveTrue();
+        assertEquals(2, result.items().size());
+        assertEquals("João Silva", result.items().get(0).name());
+        assertEquals("Maria Santos", result.items().get(1).name());
+        assertNull(result.nextCursor());
     }
 
     @Test
@@ -0,0 +1,82 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - PageCursor")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Deve recuperar o id guardado no cursor")
+    void deveRecuperarIdDoCursor() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        UUID after = PageCursor.afterId(PageCursor.of(id));
+
+        // Assert
+        assertEquals(id, after);
+    }
+
+    @Test
+    @DisplayName("Deve recuperar data e id guardados no cursor")
+    void deveRecuperarPosicaoDoCursor() {
+        // Arrange
+        LocalDateTime at = LocalDateTime.of(2026, 3, 10, 14, 30, 15, 123_456_000);
+        UUID id = UUID.randomUUID();
+
+        // Act
+        PageCursor.Position position = PageCursor.before(PageCursor.of(at, id));
+
+        // Assert
+        assertEquals(new PageCursor.Position(at, id), position);
+    }
+
+    @Test
+    @DisplayName("Deve começar antes de qualquer chave quando não há cursor")
+    void deveComecarDoInicioSemCursor() {
+        // Act
+        UUID after = PageCursor.afterId(null);
+        PageCursor.Position before = PageCursor.before("");
+
+        // Assert
+        assertTrue(PageCursor.ID_ORDER.compare(after, UUID.randomUUID()) < 0);
+        assertTrue(before.at().isAfter(LocalDateTime.now()));
+        assertTrue(PageCursor.ID_ORDER.compare(before.id(), UUID.randomUUID()) > 0);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor adulterado")
+    void deveRejeitarCursorInvalido() {
+        assertThrows(BusinessRuleException.class, () -> PageCursor.afterId("não-é-cursor"));
+        assertThrows(BusinessRuleException.class, () -> PageCursor.afterId(PageCursor.of(LocalDateTime.now(), UUID.randomUUID())));
+        assertThrows(BusinessRuleException.class, () -> PageCursor.before(PageCursor.of(UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite fora do intervalo")
+    void deveRejeitarLimiteForaDoIntervalo() {
+        assertThrows(BusinessRuleException.class, () -> PageCursor.checkLimit(0));
+        assertThrows(BusinessRuleException.class, () -> PageCursor.checkLimit(PageCursor.MAX_LIMIT + 1));
+        assertEquals(PageCursor.MAX_LIMIT + 1, PageCursor.fetchLimit(PageCursor.MAX_LIMIT).max());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar ids como bytes sem sinal, igual ao banco")
+    void deveOrdenarIdsSemSinal() {
+        // Arrange: UUID.compareTo consideraria o primeiro menor (bit de sinal ligado)
+        UUID high = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+        UUID low = UUID.fromString("7fffffff-0000-0000-0000-000000000000");
+
+        // Assert
+        assertTrue(high.compareTo(low) < 0);
+        assertTrue(PageCursor.ID_ORDER.compare(high, low) > 0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ProductDetailCache")
+class ProductDetailCacheTest {
+
+    private ProductDetailCache cache;
+    private List<Set<UUID>> loads;
+    private UUID collaboratorA;
+    private ProductPublicDTO mouse;
+    private ProductPublicDTO keyboard;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductDetailCache(100, 60, new SimpleMeterRegistry());
+        loads = new ArrayList<>();
+        collaboratorA = UUID.randomUUID();
+        mouse = product("Mouse", collaboratorA);
+        keyboard = product("Teclado", UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Deve buscar só as faltas numa única carga e servir o resto da memória")
+    void deveCarregarSoAsFaltas() {
+        // Act
+        cache.getAll(List.of(mouse.id()), this::load);
+        Map<UUID, ProductPublicDTO> result = cache.getAll(List.of(mouse.id(), keyboard.id()), this::load);
+
+        // Assert
+        assertEquals(Map.of(mouse.id(), mouse, keyboard.id(), keyboard), result);
+        assertEquals(List.of(Set.of(mouse.id()), Set.of(keyboard.id())), loads);
+        assertEquals(1.0 / 3, cache.hitRate(), 0.01); // 1 acerto em 3 leituras
+    }
+
+    @Test
+    @DisplayName("Não deve guardar produto inexistente ou indisponível")
+    void naoDeveGuardarProdutoAusente() {
+        // Arrange
+        UUID unknown = UUID.randomUUID();
+
+        // Act
+        cache.getAll(List.of(unknown), this::load);
+        Map<UUID, ProductPublicDTO> result = cache.getAll(List.of(unknown), this::load);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar os produtos alterados e os do colaborador alterado")
+    void deveRecarregarAposAlteracao() {
+        // Arrange
+        cache.getAll(List.of(mouse.id(), keyboard.id()), this::load);
+
+        // Act
+        cache.onProductsChanged(ProductsChangedEvent.ofProduct(keyboard.id()));
+        cache.getAll(List.of(mouse.id(), keyboard.id()), this::load);
+        cache.onProductsChanged(ProductsChangedEvent.ofCollaborator(collaboratorA));
+        cache.getAll(List.of(mouse.id(), keyboard.id()), this::load);
+
+        // Assert
+        assertEquals(List.of(Set.of(mouse.id(), keyboard.id()), Set.of(keyboard.id()), Set.of(mouse.id())), loads);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar uma carga que cruzou uma invalidação")
+    void naoDeveGuardarCargaConcorrenteComInvalidacao() {
+        // Act: a alteração é commitada enquanto a leitura antiga ainda está em andamento
+        cache.getAll(List.of(mouse.id()), ids -> {
+            cache.onProductsChanged(ProductsChangedEvent.ofProduct(mouse.id()));
+            return load(ids);
+        });
+        cache.getAll(List.of(mouse.id()), this::load);
+
+        // Assert
+        assertEquals(2, loads.size());
+    }
+
+    private List<ProductPublicDTO> load(Set<UUID> ids) {
+        loads.add(Set.copyOf(ids));
+        return List.of(mouse, keyboard).stream().filter(product -> ids.contains(product.id())).toList();
+    }
+
+    private ProductPublicDTO product(String title, UUID collaboratorId) {
+        return new ProductPublicDTO(UUID.randomUUID(), title, "", 50.0, "http://example.com/p.png",
+                ProductCategory.ELECTRONICS, collaboratorId, "João Silva");
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductFacetsDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ProductFacetIndex")
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex index;
+    private UUID collaboratorId;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex();
+        collaboratorId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Não deve responder antes da primeira carga da vitrine")
+    void naoDeveResponderAntesDaCarga() {
+        assertTrue(index.facets(Set.of(), null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve contar categorias pela faixa de preço e o total pelas categorias escolhidas")
+    void deveContarCategoriasETotal() {
+        // Arrange
+        load(product(ProductCategory.BOOKS, 30.0), product(ProductCategory.BOOKS, 80.0),
+                product(ProductCategory.ELECTRONICS, 50.0), product(ProductCategory.ELECTRONICS, 2500.0),
+                product(ProductCategory.TOYS, 40.0));
+
+        // Act
+        ProductFacetsDTO facets = index.facets(Set.of(ProductCategory.BOOKS, ProductCategory.ELECTRONICS), 40.0, 100.0, 10)
+                .orElseThrow();
+
+        // Assert
+        assertEquals(2, facets.total());
+        assertEquals(1L, facets.categories().get(ProductCategory.BOOKS));
+        assertEquals(1L, facets.categories().get(ProductCategory.ELECTRONICS));
+        assertEquals(1L, facets.categories().get(ProductCategory.TOYS));
+        assertEquals(0L, facets.categories().get(ProductCategory.SPORTS));
+    }
+
+    @Test
+    @DisplayName("Deve dividir do menor ao maior preço em faixas iguais, com o preço final na última")
+    void deveMontarHistograma() {
+        // Arrange
+        load(product(ProductCategory.BOOKS, 10.0), product(ProductCategory.BOOKS, 20.0),
+                product(ProductCategory.BOOKS, 29.99), product(ProductCategory.BOOKS, 50.0),
+                product(ProductCategory.TOYS, 1000.0));
+
+        // Act
+        List<ProductFacetsDTO.PriceBucket> histogram = index.facets(Set.of(ProductCategory.BOOKS), null, null, 4)
+                .orElseThrow().priceHistogram();
+
+        // Assert
+        assertEquals(List.of(
+                new ProductFacetsDTO.PriceBucket(10.0, 20.0, 1),
+                new ProductFacetsDTO.PriceBucket(20.0, 30.0, 2),
+                new ProductFacetsDTO.PriceBucket(30.0, 40.0, 0),
+                new ProductFacetsDTO.PriceBucket(40.0, 50.0, 1)), histogram);
+    }
+
+    @Test
+    @DisplayName("Deve manter as faixas finitas quando os limites de preço são enormes")
+    void deveManterFaixasFinitasComLimitesEnormes() {
+        // Arrange
+        load(product(ProductCategory.BOOKS, 10.0), product(ProductCategory.BOOKS, 50.0));
+
+        // Act
+        List<ProductFacetsDTO.PriceBucket> histogram = index.facets(Set.of(), -Double.MAX_VALUE, Double.MAX_VALUE, 4)
+                .orElseThrow().priceHistogram();
+
+        // Assert
+        assertEquals(4, histogram.size());
+        assertEquals(-Double.MAX_VALUE, histogram.get(0).from());
+        assertEquals(Double.MAX_VALUE, histogram.get(3).to());
+        assertEquals(0.0, histogram.get(2).from());
+        assertTrue(histogram.stream().allMatch(bucket -> Double.isFinite(bucket.from()) && Double.isFinite(bucket.to())));
+        assertEquals(2, histogram.stream().mapToLong(ProductFacetsDTO.PriceBucket::count).sum());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar uma troca de preço isolada no lugar")
+    void deveAplicarMudancaIsolada() {
+        // Arrange
+        ProductPublicDTO book = product(ProductCategory.BOOKS, 10.0);
+        load(book, product(ProductCategory.BOOKS, 50.0));
+        ProductPublicDTO repriced = new ProductPublicDTO(book.id(), "Produto", "", 60.0, "http://example.com/p.png",
+                ProductCategory.BOOKS, collaboratorId, "João Silva");
+
+        // Act
+        index.onCatalogChanged(new PublishedCatalog.Changed(2, false, List.of(book), List.of()));
+        index.onCatalogChanged(new PublishedCatalog.Changed(3, false, List.of(), List.of(repriced)));
+
+        // Assert
+        ProductFacetsDTO facets = index.facets(Set.of(), 40.0, null, 1).orElseThrow();
+        assertEquals(2, facets.total());
+        assertEquals(0, index.facets(Set.of(), null, 20.0, 1).orElseThrow().total());
+    }
+
+    @Test
+    @DisplayName("Deve devolver histograma vazio quando não há produtos nem limites de preço")
+    void deveDevolverHistogramaVazio() {
+        // Arrange
+        load(product(ProductCategory.BOOKS, 10.0));
+
+        // Act
+        ProductFacetsDTO facets = index.facets(Set.of(ProductCategory.TOYS), null, null, 10).orElseThrow();
+
+        // Assert
+        assertEquals(0, facets.total());
+        assertTrue(facets.priceHistogram().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve responder como uma contagem completa após mudanças incrementais")
+    void deveEquivalerAContagemCompleta() {
+        // Arrange
+        Random random = new Random(11);
+        Map<UUID, ProductPublicDTO> live = new HashMap<>();
+        List<ProductPublicDTO> initial = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            initial.add(randomProduct(random, UUID.randomUUID()));
+        }
+        initial.forEach(product -> live.put(product.id(), product));
+        load(initial.toArray(ProductPublicDTO[]::new));
+
+        // Act: troca de preço e de categoria, remoções e produtos novos
+        for (int round = 0; round < 30; round++) {
+            List<ProductPublicDTO> removed = new ArrayList<>();
+            List<ProductPublicDTO> added = new ArrayList<>();
+            List<UUID> ids = new ArrayList<>(live.keySet());
+            for (int i = 0; i < 50; i++) {
+                ProductPublicDTO old = live.remove(ids.get(random.nextInt(ids.size())));
+                if (old == null) {
+                    continue;
+                }
+                removed.add(old);
+                if (random.nextBoolean()) {
+                    added.add(randomProduct(random, old.id()));
+                }
+            }
+            for (int i = 0; i < 30; i++) {
+                added.add(randomProduct(random, UUID.randomUUID()));
+            }
+            added.forEach(product -> live.put(product.id(), product));
+            index.onCatalogChanged(new PublishedCatalog.Changed(round + 2, false, removed, added));
+        }
+
+        // Assert
+        Set<ProductCategory> selected = Set.of(ProductCategory.BOOKS, ProductCategory.TOYS);
+        ProductFacetsDTO facets = index.facets(selected, 20.0, 70.0, 5).orElseThrow();
+        Map<ProductCategory, Long> expectedCounts = new EnumMap<>(ProductCategory.class);
+        for (ProductCategory category : ProductCategory.values()) {
+            expectedCounts.put(category, live.values().stream()
+                    .filter(p -> p.productCategory() == category && p.price() >= 20.0 && p.price() <= 70.0).count());
+        }
+        assertEquals(expectedCounts, facets.categories());
+        assertEquals(live.values().stream()
+                .filter(p -> selected.contains(p.productCategory()) && p.price() >= 20.0 && p.price() <= 70.0).count(), facets.total());
+        for (ProductFacetsDTO.PriceBucket bucket : facets.priceHistogram()) {
+            boolean last = bucket.to() == 70.0;
+            assertEquals(live.values().stream()
+                    .filter(p -> selected.contains(p.productCategory()) && p.price() >= bucket.from()
+                            && (last ? p.price() <= bucket.to() : p.price() < bucket.to()))
+                    .count(), bucket.count(), bucket.toString());
+        }
+    }
+
+    private ProductPublicDTO randomProduct(Random random, UUID id) {
+        ProductCategory category = ProductCategory.values()[random.nextInt(ProductCategory.values().length)];
+        return new ProductPublicDTO(id, "Produto", "", (double) random.nextInt(100), "http://example.com/p.png",
+                category, collaboratorId, "João Silva");
+    }
+
+    private void load(ProductPublicDTO... products) {
+        index.onCatalogChanged(new PublishedCatalog.Changed(1, true, List.of(), List.of(products)));
+    }
+
+    private ProductPublicDTO product(ProductCategory category, double price) {
+        return new ProductPublicDTO(UUID.randomUUID(), "Produto", "", price, "http://example.com/p.png",
+                category, collaboratorId, "João Silva");
+    }
+}
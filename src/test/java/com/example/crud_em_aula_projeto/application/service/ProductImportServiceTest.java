@@ -0,0 +1,215 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportResultDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportRow;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import com.example.crud_em_aula_projeto.domain.service.ProductDomainService;
+import com.example.crud_em_aula_projeto.infrastructure.security.AuthenticatedUserResolver;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - ProductImportService")
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductDomainService productDomainService;
+
+    @Mock
+    private AuthenticatedUserResolver authenticatedUser;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductImportService importService;
+    private Collaborator collaborator;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ProductImportService(productRepository, productDomainService, authenticatedUser,
+                Validation.buildDefaultValidatorFactory().getValidator(), events, entityManager,
+                transactionManager, 2);
+        collaborator = Collaborator.builder().id(UUID.randomUUID()).name("Colaborador").build();
+        when(authenticatedUser.currentCollaborator()).thenReturn(collaborator);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(productRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Deve gravar em blocos do tamanho do batch e relatar as linhas inválidas")
+    void deveGravarEmBlocosERelatarLinhasInvalidas() {
+        // Arrange
+        when(productDomainService.remainingActiveSlots(collaborator)).thenReturn(10L);
+        List<ProductImportRow> rows = List.of(
+                ProductImportRow.of(1, product("A", ProductStatus.AVAILABLE)),
+                ProductImportRow.invalid(2, "JSON inválido: fim inesperado"),
+                ProductImportRow.of(3, product("B", ProductStatus.OUT_OF_STOCK)),
+                ProductImportRow.of(4, new ProductRequestDTO("", "Sem título", -1.0, 1, "http://example.com/x.png",
+                        ProductStatus.AVAILABLE, ProductCategory.BOOKS)),
+                ProductImportRow.of(5, product("C", ProductStatus.AVAILABLE)));
+
+        // Act
+        ProductImportResultDTO result = importService.importProducts(rows.iterator());
+
+        // Assert
+        assertEquals(3, result.imported());
+        assertEquals(2, result.failed());
+        assertEquals(List.of(2L, 4L), result.errors().stream().map(ProductImportResultDTO.RowError::line).toList());
+        assertTrue(result.errors().get(1).message().startsWith("price: "));
+        assertTrue(result.errors().get(1).message().contains("; title: "));
+        verify(productRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(events, times(2)).publishEvent(any(ProductsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o limite uma vez e recusar as linhas AVAILABLE além das vagas")
+    void deveRecusarLinhasAlemDoLimite() {
+        // Arrange
+        when(productDomainService.remainingActiveSlots(collaborator)).thenReturn(1L);
+        List<ProductImportRow> rows = List.of(
+                ProductImportRow.of(1, product("A", ProductStatus.AVAILABLE)),
+                ProductImportRow.of(2, product("B", ProductStatus.AVAILABLE)),
+                ProductImportRow.of(3, product("C", ProductStatus.DISCONTINUED)));
+
+        // Act
+        ProductImportResultDTO result = importService.importProducts(rows.iterator());
+
+        // Assert
+        assertEquals(2, result.imported());
+        assertEquals(List.of(new ProductImportResultDTO.RowError(2,
+                "Collaborator has reached the limit of 10 active products.")), result.errors());
+        verify(productDomainService, times(1)).remainingActiveSlots(collaborator);
+        verify(productDomainService, never()).validateProductLimit(any());
+    }
+
+    @Test
+    @DisplayName("Deve regravar linha a linha quando o banco recusa o bloco")
+    void deveRegravarLinhaALinhaQuandoOBlocoFalha() {
+        // Arrange
+        when(productDomainService.remainingActiveSlots(collaborator)).thenReturn(10L);
+        List<List<String>> saved = new ArrayList<>();
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            if (products.stream().anyMatch(product -> product.getTitle().equals("Duplicado"))) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            saved.add(products.stream().map(Product::getTitle).toList());
+            return assignIds(products);
+        });
+        List<ProductImportRow> rows = List.of(
+                ProductImportRow.of(1, product("A", ProductStatus.AVAILABLE)),
+                ProductImportRow.of(2, product("Duplicado", ProductStatus.AVAILABLE)));
+
+        // Act
+        ProductImportResultDTO result = importService.importProducts(rows.iterator());
+
+        // Assert
+        assertEquals(1, result.imported());
+        assertEquals(1, result.failed());
+        assertEquals(2, result.errors().get(0).line());
+        assertEquals("Não foi possível gravar: duplicate key", result.errors().get(0).message());
+        assertEquals(List.of(List.of("A")), saved);
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o relatório parcial quando a leitura falha no meio, gravando o bloco pendente")
+    void deveDevolverRelatorioParcialQuandoALeituraFalha() {
+        // Arrange
+        when(productDomainService.remainingActiveSlots(collaborator)).thenReturn(10L);
+        Iterator<ProductImportRow> rows = new Iterator<>() {
+            private final Iterator<ProductImportRow> lidas = List.of(
+                    ProductImportRow.of(1, product("A", ProductStatus.AVAILABLE)),
+                    ProductImportRow.of(2, product("B", ProductStatus.AVAILABLE)),
+                    ProductImportRow.of(3, product("C", ProductStatus.AVAILABLE))).iterator();
+
+            @Override
+            public boolean hasNext() {
+                if (!lidas.hasNext()) {
+                    throw new UncheckedIOException("Leitura interrompida após a linha 3: conexão encerrada",
+                            new IOException("conexão encerrada"));
+                }
+                return true;
+            }
+
+            @Override
+            public ProductImportRow next() {
+                return lidas.next();
+            }
+        };
+
+        // Act
+        ProductImportResultDTO result = importService.importProducts(rows);
+
+        // Assert
+        assertEquals(3, result.imported());
+        assertEquals(0, result.failed());
+        assertEquals("Leitura interrompida após a linha 3: conexão encerrada", result.interruption());
+        verify(productRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada bloco numa transação própria, fora da transação do chamador")
+    void deveGravarBlocosEmTransacaoPropria() {
+        // Arrange
+        when(productDomainService.remainingActiveSlots(collaborator)).thenReturn(10L);
+
+        // Act
+        ProductImportResultDTO result = importService.importProducts(
+                List.of(ProductImportRow.of(1, product("A", ProductStatus.AVAILABLE))).iterator());
+
+        // Assert
+        assertNull(result.interruption());
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    private static List<Product> assignIds(List<Product> products) {
+        products.forEach(product -> product.setId(UUID.randomUUID()));
+        return products;
+    }
+
+    private ProductRequestDTO product(String title, ProductStatus status) {
+        return new ProductRequestDTO(title, "Descrição", 10.0, 1, "http://example.com/p.png",
+                status, ProductCategory.BOOKS);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ProductQueryIndex")
+class ProductQueryIndexTest {
+
+    private static final ProductQueryIndex.Filter NO_FILTER = new ProductQueryIndex.Filter(Set.of(), null, null, null);
+
+    private ProductQueryIndex index;
+    private UUID collaboratorA;
+    private UUID collaboratorB;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductQueryIndex();
+        collaboratorA = UUID.randomUUID();
+        collaboratorB = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Não deve responder antes da primeira carga da vitrine")
+    void naoDeveResponderAntesDaCarga() {
+        assertTrue(index.query(NO_FILTER, ProductQueryIndex.SortOrder.ID, null, 10).isEmpty());
+        assertTrue(index.versionTag().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por categoria, faixa de preço e colaborador e ordenar por preço")
+    void deveFiltrarEOrdenarPorPreco() {
+        // Arrange
+        ProductPublicDTO cheap = product("Livro de bolso", ProductCategory.BOOKS, 20.0, collaboratorA);
+        ProductPublicDTO mid = product("Romance", ProductCategory.BOOKS, 60.0, collaboratorA);
+        ProductPublicDTO toy = product("Boneca", ProductCategory.TOYS, 50.0, collaboratorA);
+        ProductPublicDTO other = product("Enciclopédia", ProductCategory.BOOKS, 55.0, collaboratorB);
+        ProductPublicDTO expensive = product("Box colecionador", ProductCategory.BOOKS, 500.0, collaboratorA);
+        load(cheap, mid, toy, other, expensive);
+        ProductQueryIndex.Filter filter = new ProductQueryIndex.Filter(Set.of(ProductCategory.BOOKS, ProductCategory.TOYS),
+                10.0, 100.0, collaboratorA);
+
+        // Act
+        CursorPage<ProductPublicDTO> ascending = index.query(filter, ProductQueryIndex.SortOrder.PRICE, null, 10).orElseThrow();
+        CursorPage<ProductPublicDTO> descending = index.query(filter, ProductQueryIndex.SortOrder.PRICE_DESC, null, 10).orElseThrow();
+
+        // Assert
+        assertEquals(List.of(cheap, toy, mid), ascending.items());
+        assertEquals(List.of(mid, toy, cheap), descending.items());
+        assertNull(ascending.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por título ignorando acentos e maiúsculas")
+    void deveOrdenarPorTitulo() {
+        // Arrange
+        ProductPublicDTO agua = product("Água mineral", ProductCategory.HOME_APPLIANCES, 3.0, collaboratorA);
+        ProductPublicDTO banana = product("banana", ProductCategory.HOME_APPLIANCES, 5.0, collaboratorA);
+        ProductPublicDTO abacate = product("Abacate", ProductCategory.HOME_APPLIANCES, 8.0, collaboratorA);
+        load(agua, banana, abacate);
+
+        // Act
+        List<ProductPublicDTO> result = index.query(NO_FILTER, ProductQueryIndex.SortOrder.TITLE, null, 10).orElseThrow().items();
+
+        // Assert
+        assertEquals(List.of(abacate, agua, banana), result);
+    }
+
+    @Test
+    @DisplayName("Deve devolver vazio para colaborador sem produtos e rejeitar cursor de outra ordenação")
+    void deveTratarColaboradorDesconhecidoECursorInvalido() {
+        // Arrange
+        load(product("Mouse", ProductCategory.ELECTRONICS, 50.0, collaboratorA),
+                product("Teclado", ProductCategory.ELECTRONICS, 150.0, collaboratorA));
+        String priceCursor = index.query(NO_FILTER, ProductQueryIndex.SortOrder.PRICE, null, 1).orElseThrow().nextCursor();
+
+        // Act & Assert
+        assertTrue(index.query(new ProductQueryIndex.Filter(Set.of(), null, null, UUID.randomUUID()),
+                ProductQueryIndex.SortOrder.ID, null, 10).orElseThrow().items().isEmpty());
+        assertThrows(BusinessRuleException.class,
+                () -> index.query(NO_FILTER, ProductQueryIndex.SortOrder.TITLE, priceCursor, 10));
+    }
+
+    @Test
+    @DisplayName("Deve paginar como uma ordenação completa após mudanças, lápides e reconstruções")
+    void deveEquivalerAOrdenacaoCompleta() {
+        // Arrange
+        Random random = new Random(5);
+        Map<UUID, ProductPublicDTO> live = new HashMap<>();
+        List<ProductPublicDTO> initial = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            initial.add(randomProduct(random, UUID.randomUUID()));
+        }
+        initial.forEach(product -> live.put(product.id(), product));
+        load(initial.toArray(ProductPublicDTO[]::new));
+        String firstTag = index.versionTag().orElseThrow();
+
+        // Act: alterações (preço, categoria, título), remoções e novos; o rabo e as lápides crescem
+        for (int round = 0; round < 25; round++) {
+            List<ProductPublicDTO> removed = new ArrayList<>();
+            List<ProductPublicDTO> added = new ArrayList<>();
+            List<UUID> ids = new ArrayList<>(live.keySet());
+            for (int i = 0; i < 60; i++) {
+                ProductPublicDTO old = live.remove(ids.get(random.nextInt(ids.size())));
+                if (old == null) {
+                    continue;
+                }
+                removed.add(old);
+                if (random.nextBoolean()) {
+                    added.add(randomProduct(random, old.id()));
+                }
+            }
+            for (int i = 0; i < 40; i++) {
+                added.add(randomProduct(random, UUID.randomUUID()));
+            }
+            added.forEach(product -> live.put(product.id(), product));
+            index.onCatalogChanged(new PublishedCatalog.Changed(round + 2, false, removed, added));
+        }
+
+        // Assert
+        assertNotEquals(firstTag, index.versionTag().orElseThrow());
+        List<ProductQueryIndex.Filter> filters = List.of(
+                NO_FILTER,
+                new ProductQueryIndex.Filter(Set.of(ProductCategory.BOOKS), null, null, null),
+                new ProductQueryIndex.Filter(Set.of(ProductCategory.TOYS, ProductCategory.SPORTS), 10.0, 40.0, null),
+                new ProductQueryIndex.Filter(Set.of(), 95.0, null, collaboratorB));
+        for (ProductQueryIndex.Filter filter : filters) {
+            for (ProductQueryIndex.SortOrder order : ProductQueryIndex.SortOrder.values()) {
+                assertEquals(bruteForce(live.values(), filter, order), walkAllPages(filter, order, 97), filter + " " + order);
+            }
+        }
+    }
+
+    private List<ProductPublicDTO> walkAllPages(ProductQueryIndex.Filter filter, ProductQueryIndex.SortOrder order, int limit) {
+        List<ProductPublicDTO> visited = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPage<ProductPublicDTO> page = index.query(filter, order, after, limit).orElseThrow();
+            visited.addAll(page.items());
+            after = page.nextCursor();
+        } while (after != null);
+        return visited;
+    }
+
+    // Referência: filtra e ordena todos os produtos vivos
+    private List<ProductPublicDTO> bruteForce(Collection<ProductPublicDTO> live, ProductQueryIndex.Filter filter,
+                                              ProductQueryIndex.SortOrder order) {
+        Comparator<ProductPublicDTO> byId = Comparator.comparing(ProductPublicDTO::id, PageCursor.ID_ORDER);
+        Comparator<ProductPublicDTO> comparator = switch (order) {
+            case ID -> byId;
+            case PRICE -> Comparator.comparing(ProductPublicDTO::price).thenComparing(byId);
+            case PRICE_DESC -> Comparator.comparing(ProductPublicDTO::price).thenComparing(byId).reversed();
+            case TITLE -> Comparator.comparing((ProductPublicDTO p) -> SearchTokenizer.fold(p.title())).thenComparing(byId);
+            case TITLE_DESC -> Comparator.comparing((ProductPublicDTO p) -> SearchTokenizer.fold(p.title())).thenComparing(byId).reversed();
+        };
+        return live.stream()
+                .filter(p -> filter.categories().isEmpty() || filter.categories().contains(p.productCategory()))
+                .filter(p -> filter.minPrice() == null || p.price() >= filter.minPrice())
+                .filter(p -> filter.maxPrice() == null || p.price() <= filter.maxPrice())
+                .filter(p -> filter.collaboratorId() == null || filter.collaboratorId().equals(p.collaboratorId()))
+                .sorted(comparator)
+                .toList();
+    }
+
+    // Preços e títulos com muitas repetições: exercitam o desempate por id
+    private ProductPublicDTO randomProduct(Random random, UUID id) {
+        ProductCategory category = ProductCategory.values()[random.nextInt(ProductCategory.values().length)];
+        String title = (random.nextBoolean() ? "Produto " : "produto ") + random.nextInt(50);
+        return new ProductPublicDTO(id, title, "", (double) random.nextInt(100), "http://example.com/p.png",
+                category, random.nextInt(4) == 0 ? collaboratorB : collaboratorA, "João Silva");
+    }
+
+    private void load(ProductPublicDTO... products) {
+        index.onCatalogChanged(new PublishedCatalog.Changed(1, true, List.of(), List.of(products)));
+    }
+
+    private ProductPublicDTO product(String title, ProductCategory category, double price, UUID collaboratorId) {
+        return new ProductPublicDTO(UUID.randomUUID(), title, "", price, "http://example.com/p.png",
+                category, collaboratorId, "João Silva");
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ProductSearchIndex")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+    private UUID collaboratorId;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(new SimpleMeterRegistry());
+        collaboratorId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Não deve responder antes da primeira carga da vitrine")
+    void naoDeveResponderAntesDaCarga() {
+        assertTrue(index.search("camera", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar produtos ignorando acentos e maiúsculas")
+    void deveIgnorarAcentosEMaiusculas() {
+        // Arrange
+        ProductPublicDTO camera = product("Câmera Fotográfica", "Lente intercambiável");
+        load(camera, product("Notebook", "Tela de 15 polegadas"));
+
+        // Act & Assert
+        assertEquals(List.of(camera), index.search("CAMERA fotografica", 10).orElseThrow());
+        assertEquals(List.of(camera), index.search("intercambiavel", 10).orElseThrow());
+        assertTrue(index.search("geladeira", 10).orElseThrow().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ranquear termo no título acima de termo só na descrição")
+    void deveRanquearTituloAcimaDaDescricao() {
+        // Arrange
+        ProductPublicDTO inDescription = product("Tripé", "Acessório para câmera e celular");
+        ProductPublicDTO inTitle = product("Câmera Digital", "Zoom óptico de 10x");
+        load(inDescription, inTitle, product("Mouse", "Sem fio"));
+
+        // Act
+        List<ProductPublicDTO> result = index.search("câmera", 10).orElseThrow();
+
+        // Assert
+        assertEquals(List.of(inTitle, inDescription), result);
+    }
+
+    @Test
+    @DisplayName("Deve preferir o produto que contém mais termos da busca")
+    void devePreferirMaisTermos() {
+        // Arrange
+        ProductPublicDTO both = product("Fone Bluetooth", "Fone sem fio com cancelamento de ruído");
+        ProductPublicDTO one = product("Fone com fio", "Som estéreo");
+        load(one, both);
+
+        // Act
+        List<ProductPublicDTO> result = index.search("fone cancelamento", 10).orElseThrow();
+
+        // Assert
+        assertEquals(both, result.get(0));
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de resultados")
+    void deveRespeitarLimite() {
+        // Arrange
+        List<ProductPublicDTO> products = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            products.add(product("Livro " + i, "Romance"));
+        }
+        load(products.toArray(ProductPublicDTO[]::new));
+
+        // Act & Assert
+        assertEquals(5, index.search("romance", 5).orElseThrow().size());
+    }
+
+    @Test
+    @DisplayName("Deve refletir alterações incrementais da vitrine")
+    void deveRefletirAlteracoesIncrementais() {
+        // Arrange
+        ProductPublicDTO phone = product("Smartphone", "Tela grande");
+        ProductPublicDTO book = product("Livro", "Ficção científica");
+        load(phone, book);
+        ProductPublicDTO renamed = new ProductPublicDTO(phone.id(), "Celular", "Tela grande", 10.0,
+                "http://example.com/p.png", ProductCategory.ELECTRONICS, collaboratorId, "João Silva");
+
+        // Act: o smartphone foi renomeado e o livro saiu da vitrine
+        index.onCatalogChanged(new PublishedCatalog.Changed(2, false, List.of(phone, book), List.of(renamed)));
+
+        // Assert
+        assertTrue(index.search("smartphone", 10).orElseThrow().isEmpty());
+        assertTrue(index.search("livro", 10).orElseThrow().isEmpty());
+        assertEquals(List.of(renamed), index.search("celular tela", 10).orElseThrow());
+        assertEquals(1, index.documentCount());
+    }
+
+    @Test
+    @DisplayName("Deve continuar correto depois de recompactar as lápides")
+    void deveContinuarCorretoAposRecompactar() {
+        // Arrange
+        List<ProductPublicDTO> products = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            products.add(product("Produto " + i, i % 2 == 0 ? "Cor azul" : "Cor verde"));
+        }
+        load(products.toArray(ProductPublicDTO[]::new));
+
+        // Act: remove 2000 (passa do limite de recompactação)
+        index.onCatalogChanged(new PublishedCatalog.Changed(2, false, products.subList(0, 2000), List.of()));
+
+        // Assert
+        assertEquals(1000, index.documentCount());
+        List<ProductPublicDTO> blue = index.search("azul", 1000).orElseThrow();
+        assertEquals(500, blue.size());
+        assertTrue(products.subList(2000, 3000).containsAll(blue));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar palavras comuns e buscas sem termos")
+    void deveIgnorarPalavrasComuns() {
+        // Arrange
+        load(product("Caneca de porcelana", "Para café"));
+
+        // Act & Assert
+        assertTrue(index.search("de para", 10).orElseThrow().isEmpty());
+        assertEquals(1, index.search("caneca de café", 10).orElseThrow().size());
+    }
+
+    @Test
+    @DisplayName("Deve devolver os mesmos scores de uma varredura completa apesar da poda")
+    void deveCoincidirComVarreduraCompleta() {
+        // Arrange: vocabulário pequeno gera listas longas e muitos empates, o pior caso da poda
+        Random random = new Random(7);
+        String[] words = {"azul", "verde", "caneca", "livro", "bola", "camisa", "fone", "mesa", "lápis", "tênis"};
+        List<ProductPublicDTO> products = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            products.add(product(words(words, random, 1 + random.nextInt(3)), words(words, random, random.nextInt(8))));
+        }
+        load(products.toArray(ProductPublicDTO[]::new));
+        // Remoções deixam lápides nas listas
+        index.onCatalogChanged(new PublishedCatalog.Changed(2, false, products.subList(0, 500), List.of()));
+        List<ProductPublicDTO> live = products.subList(500, products.size());
+
+        for (int q = 0; q < 200; q++) {
+            String query = words(words, random, 1 + random.nextInt(3));
+
+            // Act
+            List<ProductPublicDTO> result = index.search(query, 10).orElseThrow();
+
+            // Assert
+            List<Double> expected = bruteForceScores(live, query).stream().sorted(Comparator.reverseOrder()).limit(10).toList();
+            Map<ProductPublicDTO, Double> scores = new HashMap<>();
+            List<Double> all = bruteForceScores(live, query);
+            for (int i = 0; i < live.size(); i++) {
+                scores.put(live.get(i), all.get(i));
+            }
+            List<Double> actual = result.stream().map(scores::get).toList();
+            assertEquals(expected.size(), actual.size(), query);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), actual.get(i), 1e-9, query);
+            }
+        }
+    }
+
+    private static List<Double> bruteForceScores(List<ProductPublicDTO> live, String query) {
+        List<Map<String, Integer>> frequencies = new ArrayList<>();
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        long totalLength = 0;
+        for (ProductPublicDTO product : live) {
+            Map<String, Integer> tf = new HashMap<>();
+            SearchTokenizer.tokenize(product.title()).forEach(t -> tf.merge(t, ProductSearchIndex.TITLE_WEIGHT, Integer::sum));
+            SearchTokenizer.tokenize(product.description()).forEach(t -> tf.merge(t, 1, Integer::sum));
+            tf.keySet().forEach(t -> documentFrequency.merge(t, 1, Integer::sum));
+            totalLength += tf.values().stream().mapToInt(Integer::intValue).sum();
+            frequencies.add(tf);
+        }
+        double averageLength = (double) totalLength / live.size();
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        List<Double> scores = new ArrayList<>();
+        for (Map<String, Integer> tf : frequencies) {
+            int length = tf.values().stream().mapToInt(Integer::intValue).sum();
+            double score = 0;
+            for (String term : terms) {
+                if (tf.containsKey(term)) {
+                    int df = documentFrequency.get(term);
+                    double idf = Math.log(1 + (live.size() - df + 0.5) / (df + 0.5));
+                    score += ProductSearchIndex.bm25(idf, tf.get(term), length, averageLength);
+                }
+            }
+            scores.add(score);
+        }
+        return scores;
+    }
+
+    private static String words(String[] words, Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    private void load(ProductPublicDTO... products) {
+        index.onCatalogChanged(new PublishedCatalog.Changed(1, true, List.of(), List.of(products)));
+    }
+
+    private ProductPublicDTO product(String title, String description) {
+        return new ProductPublicDTO(UUID.randomUUID(), title, description, 10.0, "http://example.com/p.png",
+                ProductCategory.ELECTRONICS, collaboratorId, "João Silva");
+    }
+}
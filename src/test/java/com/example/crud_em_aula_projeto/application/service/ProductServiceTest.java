@@ -1,17 +1,28 @@
 package com.example.crud_em_aula_projeto.application.service;
 
+import com.example.crud_em_aula_projeto.application.dto.CursorPage;
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.MyProductDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductFacetsDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPatchDTO;
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductStockDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
 import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
+import com.example.crud_em_aula_projeto.domain.exception.ServiceUnavailableException;
 import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
 import com.example.crud_em_aula_projeto.domain.model.entity.Product;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
 import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
-import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.domain.model.projection.CatalogProduct;
+import com.example.crud_em_aula_projeto.domain.model.projection.CollaboratorProduct;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductStock;
 import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ProductStockRepository.StockChange;
 import com.example.crud_em_aula_projeto.domain.service.ProductDomainService;
+import com.example.crud_em_aula_projeto.infrastructure.security.AuthenticatedUserResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,14 +30,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,16 +57,34 @@ class ProductServiceTest {
     private ProductRepository productRepository;
 
     @Mock
-    private CollaboratorRepository collaboratorRepository;
+    private ProductDomainService productDomainService;
 
     @Mock
-    private ProductDomainService productDomainService;
+    private AuthenticatedUserResolver authenticatedUser;
+
+    @Mock
+    private PublishedCatalog publishedCatalog;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private ProductSuggestionIndex suggestionIndex;
+
+    @Mock
+    private ProductFacetIndex facetIndex;
 
     @Mock
-    private SecurityContext securityContext;
+    private ProductQueryIndex queryIndex;
 
     @Mock
-    private Authentication authentication;
+    private ProductDetailCache detailCache;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private ProductService productService;
@@ -84,21 +119,14 @@ class ProductServiceTest {
                 .productCategory(ProductCategory.ELECTRONICS)
                 .collaborator(collaborator)
                 .build();
-
-        SecurityContextHolder.setContext(securityContext);
-    }
-
-    private void setupSecurityContext() {
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn("joao@test.com");
     }
 
     @Test
     @DisplayName("Deve listar todos os produtos públicos disponíveis")
     void deveListarTodosProdutosPublicos() {
         // Arrange
-        List<Product> products = List.of(product);
-        when(productRepository.findAllByProductStatus(ProductStatus.AVAILABLE)).thenReturn(products);
+        List<CatalogProduct> products = List.of(catalogProduct(product));
+        when(productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE)).thenReturn(products);
 
         // Act
         List<ProductPublicDTO> result = productService.findAllPublicProducts();
@@ -107,14 +135,241 @@ class ProductServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(product.getTitle(), result.get(0).title());
-        verify(productRepository).findAllByProductStatus(ProductStatus.AVAILABLE);
+        verify(productRepository).findPublicByProductStatus(ProductStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("Deve servir a vitrine do snapshot em memória sem consultar o banco")
+    void deveServirVitrineDoSnapshot() {
+        // Arrange
+        List<ProductPublicDTO> snapshot = List.of(new ProductPublicDTO(product));
+        when(publishedCatalog.allProducts()).thenReturn(Optional.of(snapshot));
+
+        // Act
+        List<ProductPublicDTO> result = productService.findAllPublicProducts();
+
+        // Assert
+        assertSame(snapshot, result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve ler a vitrine em streaming por páginas antes da primeira carga, sem transação aberta entre elas")
+    void deveLerVitrineEmStreamingPorPaginas() {
+        // Arrange: duas páginas cheias e uma parcial
+        when(publishedCatalog.allProducts()).thenReturn(Optional.empty());
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        List<CatalogProduct> first = catalogProducts(PageCursor.MAX_LIMIT);
+        List<CatalogProduct> second = catalogProducts(PageCursor.MAX_LIMIT);
+        when(productRepository.findPublicPageByProductStatus(eq(ProductStatus.AVAILABLE), any(), eq(Limit.of(PageCursor.MAX_LIMIT))))
+                .thenReturn(first).thenReturn(second).thenReturn(catalogProducts(5));
+
+        // Act
+        Iterator<ProductPublicDTO> products = productService.streamPublicProducts().iterator();
+        products.next();
+
+        // Assert: só a primeira página foi lida, e a transação dela já terminou
+        verify(productRepository, times(1)).findPublicPageByProductStatus(any(), any(), any());
+        verify(transactionManager, times(1)).commit(any());
+
+        int total = 1;
+        while (products.hasNext()) {
+            products.next();
+            total++;
+        }
+        assertEquals(2 * PageCursor.MAX_LIMIT + 5, total);
+        verify(productRepository).findPublicPageByProductStatus(ProductStatus.AVAILABLE, new UUID(0, 0), Limit.of(PageCursor.MAX_LIMIT));
+        verify(productRepository).findPublicPageByProductStatus(ProductStatus.AVAILABLE, first.get(first.size() - 1).id(), Limit.of(PageCursor.MAX_LIMIT));
+        verify(productRepository).findPublicPageByProductStatus(ProductStatus.AVAILABLE, second.get(second.size() - 1).id(), Limit.of(PageCursor.MAX_LIMIT));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o cursor da próxima página quando a consulta traz uma linha a mais")
+    void deveDevolverCursorDaProximaPagina() {
+        // Arrange
+        CatalogProduct first = catalogProduct(product);
+        CatalogProduct extra = new CatalogProduct(UUID.randomUUID(), "Outro", "Descrição", 10.0,
+                "http://example.com/outro.png", ProductCategory.BOOKS, collaboratorId, "João Silva");
+        when(productRepository.findPublicPageByProductStatus(ProductStatus.AVAILABLE, new UUID(0, 0), Limit.of(2)))
+                .thenReturn(List.of(first, extra));
+
+        // Act
+        CursorPage<ProductPublicDTO> result = productService.findPublicProductsPage(PageCursor.afterId(null), 1);
+
+        // Assert
+        assertEquals(List.of(new ProductPublicDTO(product)), result.items());
+        assertEquals(product.getId(), PageCursor.afterId(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Deve paginar a vitrine pelo snapshot em memória sem consultar o banco")
+    void devePaginarVitrineDoSnapshot() {
+        // Arrange
+        UUID after = UUID.randomUUID();
+        List<ProductPublicDTO> snapshotPage = List.of(new ProductPublicDTO(product));
+        when(publishedCatalog.productsAfter(after, PageCursor.DEFAULT_LIMIT + 1)).thenReturn(Optional.of(snapshotPage));
+
+        // Act
+        CursorPage<ProductPublicDTO> result = productService.findPublicProductsPage(after, PageCursor.DEFAULT_LIMIT);
+
+        // Assert
+        assertEquals(snapshotPage, result.items());
+        assertNull(result.nextCursor());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar na vitrine pelo índice em memória")
+    void deveBuscarPeloIndice() {
+        // Arrange
+        List<ProductPublicDTO> found = List.of(new ProductPublicDTO(product));
+        when(searchIndex.search("smartphone", 20)).thenReturn(Optional.of(found));
+
+        // Act
+        List<ProductPublicDTO> result = productService.searchPublicProducts("smartphone", 20);
+
+        // Assert
+        assertEquals(found, result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve responder indisponível enquanto o índice de busca não foi carregado")
+    void deveResponderIndisponivelSemIndice() {
+        // Arrange
+        when(searchIndex.search("smartphone", 20)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> productService.searchPublicProducts("smartphone", 20));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar busca sem termo")
+    void deveRejeitarBuscaVazia() {
+        assertThrows(BusinessRuleException.class, () -> productService.searchPublicProducts("  ", 20));
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("Deve sugerir títulos pelo índice em memória")
+    void deveSugerirTitulosPeloIndice() {
+        // Arrange
+        when(suggestionIndex.suggest("smart", 10)).thenReturn(Optional.of(List.of("Smartphone X")));
+
+        // Act
+        List<String> result = productService.suggestProductTitles("smart", 10);
+
+        // Assert
+        assertEquals(List.of("Smartphone X"), result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar sugestão sem prefixo e responder indisponível antes da carga")
+    void deveValidarSugestao() {
+        // Arrange
+        when(suggestionIndex.suggest("smart", 10)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(BusinessRuleException.class, () -> productService.suggestProductTitles(" ", 10));
+        assertThrows(ServiceUnavailableException.class, () -> productService.suggestProductTitles("smart", 10));
+    }
+
+    @Test
+    @DisplayName("Deve converter as categorias sem diferenciar maiúsculas e consultar as facetas em memória")
+    void deveConsultarFacetas() {
+        // Arrange
+        ProductFacetsDTO facets = new ProductFacetsDTO(1, Map.of(ProductCategory.BOOKS, 1L), List.of());
+        when(facetIndex.facets(Set.of(ProductCategory.BOOKS, ProductCategory.TOYS), 10.0, null, 5))
+                .thenReturn(Optional.of(facets));
+
+        // Act
+        ProductFacetsDTO result = productService.findPublicFacets(List.of("books", " TOYS"), 10.0, null, 5);
+
+        // Assert
+        assertEquals(facets, result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar categoria inválida, faixa invertida ou não finita e número de faixas fora do limite")
+    void deveValidarFiltrosDasFacetas() {
+        assertThrows(BusinessRuleException.class, () -> productService.findPublicFacets(List.of("FOOD"), null, null, 10));
+        assertThrows(BusinessRuleException.class, () -> productService.findPublicFacets(null, 50.0, 10.0, 10));
+        assertThrows(BusinessRuleException.class, () -> productService.findPublicFacets(null, Double.NaN, null, 10));
+        assertThrows(BusinessRuleException.class,
+                () -> productService.findPublicFacets(null, null, Double.POSITIVE_INFINITY, 10));
+        assertThrows(BusinessRuleException.class, () -> productService.findPublicFacets(null, null, null, 0));
+        assertThrows(BusinessRuleException.class,
+                () -> productService.findPublicFacets(null, null, null, ProductService.MAX_PRICE_BUCKETS + 1));
+        verifyNoInteractions(facetIndex);
+    }
+
+    @Test
+    @DisplayName("Deve montar o filtro e a ordenação e consultar o índice em colunas")
+    void deveConsultarIndiceDeFiltros() {
+        // Arrange
+        UUID collaboratorId = UUID.randomUUID();
+        CursorPage<ProductPublicDTO> page = new CursorPage<>(List.of(new ProductPublicDTO(product)), null);
+        ProductQueryIndex.Filter filter = new ProductQueryIndex.Filter(Set.of(ProductCategory.ELECTRONICS), 10.0, 100.0, collaboratorId);
+        when(queryIndex.query(filter, ProductQueryIndex.SortOrder.PRICE_DESC, null, 20)).thenReturn(Optional.of(page));
+
+        // Act
+        CursorPage<ProductPublicDTO> result = productService.queryPublicProducts(List.of("electronics"), 10.0, 100.0,
+                collaboratorId, "-price", null, 20);
+
+        // Assert
+        assertEquals(page, result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ordenação desconhecida e responder indisponível antes da carga do índice")
+    void deveValidarConsultaFiltrada() {
+        // Arrange
+        when(queryIndex.query(any(), eq(ProductQueryIndex.SortOrder.ID), isNull(), eq(50))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(BusinessRuleException.class,
+                () -> productService.queryPublicProducts(null, null, null, null, "preco", null, 50));
+        assertThrows(ServiceUnavailableException.class,
+                () -> productService.queryPublicProducts(List.of("BOOKS"), null, null, null, null, null, 50));
+    }
+
+    @Test
+    @DisplayName("Deve devolver os produtos pedidos na ordem, sem repetidos nem ausentes")
+    void deveBuscarProdutosPorIds() {
+        // Arrange
+        ProductPublicDTO found = new ProductPublicDTO(product);
+        UUID missing = UUID.randomUUID();
+        when(detailCache.getAll(eq(List.of(missing, productId)), any())).thenReturn(Map.of(productId, found));
+
+        // Act
+        List<ProductPublicDTO> result = productService.findPublicProductsByIds(List.of(missing, productId, missing));
+
+        // Assert
+        assertEquals(List.of(found), result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 para produto indisponível e limitar a quantidade de ids")
+    void deveValidarBuscaPorIds() {
+        // Arrange
+        when(detailCache.getAll(eq(List.of(productId)), any())).thenReturn(Map.of());
+        List<UUID> tooMany = Stream.generate(UUID::randomUUID).limit(PageCursor.MAX_LIMIT + 1).toList();
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> productService.findPublicProductById(productId));
+        assertThrows(BusinessRuleException.class, () -> productService.findPublicProductsByIds(tooMany));
+        assertThrows(BusinessRuleException.class, () -> productService.findPublicProductsByIds(List.of()));
     }
 
     @Test
     @DisplayName("Deve criar um novo produto com sucesso")
     void deveCriarNovoProduto() {
         // Arrange
-        setupSecurityContext();
         ProductRequestDTO requestDTO = new ProductRequestDTO(
                 "Novo Produto",
                 "Descrição do produto",
@@ -125,7 +380,7 @@ class ProductServiceTest {
                 ProductCategory.ELECTRONICS
         );
 
-        when(collaboratorRepository.findByEmail("joao@test.com")).thenReturn(Optional.of(collaborator));
+        when(authenticatedUser.currentCollaborator()).thenReturn(collaborator);
         doNothing().when(productDomainService).validateProductLimit(collaborator);
         when(productRepository.save(any(Product.class))).thenReturn(product);
 
@@ -138,13 +393,13 @@ class ProductServiceTest {
         assertEquals(product.getTitle(), result.title());
         verify(productDomainService).validateProductLimit(collaborator);
         verify(productRepository).save(any(Product.class));
+        verify(events).publishEvent(ProductsChangedEvent.ofProduct(productId));
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao criar produto quando colaborador não encontrado")
     void deveLancarExcecaoQuandoColaboradorNaoEncontrado() {
         // Arrange
-        setupSecurityContext();
         ProductRequestDTO requestDTO = new ProductRequestDTO(
                 "Novo Produto",
                 "Descrição",
@@ -155,7 +410,8 @@ class ProductServiceTest {
                 ProductCategory.ELECTRONICS
         );
 
-        when(collaboratorRepository.findByEmail("joao@test.com")).thenReturn(Optional.empty());
+        when(authenticatedUser.currentCollaborator())
+                .thenThrow(new ResourceNotFoundException("Colaborador não encontrado com o e-mail: joao@test.com"));
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> productService.createProduct(requestDTO));
@@ -166,30 +422,32 @@ class ProductServiceTest {
     @DisplayName("Deve listar produtos do colaborador autenticado")
     void deveListarProdutosDoColaborador() {
         // Arrange
-        setupSecurityContext();
-        List<Product> products = List.of(product);
-        when(collaboratorRepository.findByEmail("joao@test.com")).thenReturn(Optional.of(collaborator));
-        when(productRepository.findAllByCollaboratorIdAndProductStatusIn(
-                collaboratorId,
-                List.of(ProductStatus.AVAILABLE, ProductStatus.OUT_OF_STOCK)
+        List<CollaboratorProduct> products = List.of(collaboratorProduct(product));
+        when(authenticatedUser.currentCollaboratorId()).thenReturn(collaboratorId);
+        when(productRepository.findMyProductsPageByCollaboratorIdAndProductStatusIn(
+                eq(collaboratorId),
+                eq(List.of(ProductStatus.AVAILABLE, ProductStatus.OUT_OF_STOCK)),
+                any(UUID.class),
+                eq(Limit.of(PageCursor.DEFAULT_LIMIT + 1))
         )).thenReturn(products);
 
         // Act
-        List<MyProductDTO> result = productService.findProductsByAuthenticatedCollaborator();
+        CursorPage<MyProductDTO> result = productService.findProductsByAuthenticatedCollaborator(null, PageCursor.DEFAULT_LIMIT);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(product.getId(), result.get(0).id());
-        verify(collaboratorRepository).findByEmail("joao@test.com");
+        assertEquals(1, result.items().size());
+        assertEquals(product.getId(), result.items().get(0).id());
+        assertNull(result.nextCursor());
+        verify(authenticatedUser).currentCollaboratorId();
     }
 
     @Test
     @DisplayName("Deve listar produtos públicos por categoria")
     void deveListarProdutosPorCategoria() {
         // Arrange
-        List<Product> products = List.of(product);
-        when(productRepository.findAllByProductCategoryAndProductStatus(
+        List<CatalogProduct> products = List.of(catalogProduct(product));
+        when(productRepository.findPublicByProductCategoryAndProductStatus(
                 ProductCategory.ELECTRONICS,
                 ProductStatus.AVAILABLE
         )).thenReturn(products);
@@ -200,7 +458,7 @@ class ProductServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(productRepository).findAllByProductCategoryAndProductStatus(
+        verify(productRepository).findPublicByProductCategoryAndProductStatus(
                 ProductCategory.ELECTRONICS,
                 ProductStatus.AVAILABLE
         );
@@ -222,25 +480,24 @@ class ProductServiceTest {
                 .collaborator(collaborator)
                 .build();
 
-        List<Product> products = List.of(inactiveProduct);
-        when(productRepository.findAllByProductStatusIn(List.of(ProductStatus.DISCONTINUED)))
+        List<CollaboratorProduct> products = List.of(collaboratorProduct(inactiveProduct));
+        when(productRepository.findMyProductsPageByProductStatusIn(eq(List.of(ProductStatus.DISCONTINUED)), any(UUID.class), any(Limit.class)))
                 .thenReturn(products);
 
         // Act
-        List<MyProductDTO> result = productService.findAllInactiveProducts();
+        CursorPage<MyProductDTO> result = productService.findAllInactiveProducts(null, PageCursor.DEFAULT_LIMIT);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(ProductStatus.DISCONTINUED, result.get(0).productStatus());
-        verify(productRepository).findAllByProductStatusIn(List.of(ProductStatus.DISCONTINUED));
+        assertEquals(1, result.items().size());
+        assertEquals(ProductStatus.DISCONTINUED, result.items().get(0).productStatus());
+        verify(productRepository).findMyProductsPageByProductStatusIn(eq(List.of(ProductStatus.DISCONTINUED)), any(UUID.class), any(Limit.class));
     }
 
     @Test
     @DisplayName("Deve atualizar produto com sucesso")
     void deveAtualizarProduto() {
         // Arrange
-        setupSecurityContext();
         ProductRequestDTO requestDTO = new ProductRequestDTO(
                 "Produto Atualizado",
                 "Nova descrição",
@@ -252,7 +509,7 @@ class ProductServiceTest {
         );
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
-        when(collaboratorRepository.findByEmail("joao@test.com")).thenReturn(Optional.of(collaborator));
+        when(authenticatedUser.currentCollaboratorId()).thenReturn(collaboratorId);
         when(productRepository.save(any(Product.class))).thenReturn(product);
 
         // Act
@@ -292,7 +549,6 @@ class ProductServiceTest {
     @DisplayName("Deve lançar exceção ao atualizar produto de outro colaborador")
     void deveLancarExcecaoAoAtualizarProdutoDeOutroColaborador() {
         // Arrange
-        setupSecurityContext();
         Collaborator outroColaborador = Collaborator.builder()
                 .id(UUID.randomUUID())
                 .name("Outro Colaborador")
@@ -324,7 +580,7 @@ class ProductServiceTest {
         );
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(produtoDeOutro));
-        when(collaboratorRepository.findByEmail("joao@test.com")).thenReturn(Optional.of(collaborator));
+        when(authenticatedUser.currentCollaboratorId()).thenReturn(collaboratorId);
 
         // Act & Assert
         assertThrows(AccessDeniedException.class, () -> 
@@ -336,9 +592,8 @@ class ProductServiceTest {
     @DisplayName("Deve deletar produto com sucesso (soft delete)")
     void deveDeletarProduto() {
         // Arrange
-        setupSecurityContext();
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
-        when(collaboratorRepository.findByEmail("joao@test.com")).thenReturn(Optional.of(collaborator));
+        when(authenticatedUser.currentCollaboratorId()).thenReturn(collaboratorId);
         when(productRepository.save(any(Product.class))).thenReturn(product);
 
         // Act
@@ -348,6 +603,7 @@ class ProductServiceTest {
         assertEquals(ProductStatus.DISCONTINUED, product.getProductStatus());
         verify(productRepository).findById(productId);
         verify(productRepository).save(product);
+        verify(events).publishEvent(ProductsChangedEvent.ofProduct(productId));
     }
 
     @Test
@@ -366,7 +622,6 @@ class ProductServiceTest {
     @DisplayName("Deve lançar exceção ao deletar produto de outro colaborador")
     void deveLancarExcecaoAoDeletarProdutoDeOutroColaborador() {
         // Arrange
-        setupSecurityContext();
         Collaborator outroColaborador = Collaborator.builder()
                 .id(UUID.randomUUID())
                 .name("Outro Colaborador")
@@ -388,12 +643,99 @@ class ProductServiceTest {
                 .build();
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(produtoDeOutro));
-        when(collaboratorRepository.findByEmail("joao@test.com")).thenReturn(Optional.of(collaborator));
+        when(authenticatedUser.currentCollaboratorId()).thenReturn(collaboratorId);
 
         // Act & Assert
         assertThrows(AccessDeniedException.class, () -> 
                 productService.deleteProduct(productId));
         verify(productRepository, never()).save(any());
     }
-}
 
+    @Test
+    @DisplayName("Deve aplicar a atualização em lote derivando o status da nova quantidade")
+    void deveAtualizarEmLoteDerivandoStatusDoEstoque() {
+        // Arrange
+        UUID esgotadoId = UUID.randomUUID();
+        UUID descontinuadoId = UUID.randomUUID();
+        when(productRepository.findStockByIdIn(any())).thenReturn(List.of(
+                new ProductStock(productId, collaboratorId, 2500.0, 10, ProductStatus.AVAILABLE),
+                new ProductStock(esgotadoId, collaboratorId, 80.0, 0, ProductStatus.OUT_OF_STOCK),
+                new ProductStock(descontinuadoId, collaboratorId, 30.0, 0, ProductStatus.DISCONTINUED)));
+        when(authenticatedUser.currentCollaboratorId()).thenReturn(collaboratorId);
+
+        // Act
+        List<ProductStockDTO> result = productService.patchMyProducts(List.of(
+                new ProductPatchDTO(productId, 1999.0, 0, null),
+                new ProductPatchDTO(esgotadoId, null, 5, null),
+                new ProductPatchDTO(descontinuadoId, null, 8, null)));
+
+        // Assert
+        assertEquals(List.of(
+                new ProductStockDTO(productId, collaboratorId, 1999.0, 0, ProductStatus.OUT_OF_STOCK),
+                new ProductStockDTO(esgotadoId, collaboratorId, 80.0, 5, ProductStatus.AVAILABLE),
+                new ProductStockDTO(descontinuadoId, collaboratorId, 30.0, 8, ProductStatus.DISCONTINUED)), result);
+        // Só as colunas alteradas vão para o UPDATE
+        verify(productRepository).updateStock(List.of(
+                new StockChange(productId, 1999.0, 0, ProductStatus.OUT_OF_STOCK),
+                new StockChange(esgotadoId, null, 5, ProductStatus.AVAILABLE),
+                new StockChange(descontinuadoId, null, 8, null)));
+        verify(productRepository, never()).findById(any());
+        // Um sai e outro entra em AVAILABLE: saldo zero, o limite nem é consultado
+        verify(productDomainService, never()).remainingActiveSlots(any());
+        verify(events).publishEvent(ProductsChangedEvent.ofProducts(List.of(productId, esgotadoId, descontinuadoId)));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote inteiro quando algum produto é de outro colaborador")
+    void deveRecusarLoteComProdutoDeOutroColaborador() {
+        // Arrange
+        UUID alheioId = UUID.randomUUID();
+        when(productRepository.findStockByIdIn(any())).thenReturn(List.of(
+                new ProductStock(productId, collaboratorId, 2500.0, 10, ProductStatus.AVAILABLE),
+                new ProductStock(alheioId, UUID.randomUUID(), 10.0, 1, ProductStatus.AVAILABLE)));
+        when(authenticatedUser.currentCollaboratorId()).thenReturn(collaboratorId);
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> productService.patchMyProducts(List.of(
+                new ProductPatchDTO(productId, 1999.0, null, null),
+                new ProductPatchDTO(alheioId, 5.0, null, null))));
+        verify(productRepository, never()).updateStock(any());
+        verifyNoInteractions(events);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote que reativa mais produtos do que as vagas restantes")
+    void deveRecusarLoteAlemDoLimiteDeAtivos() {
+        // Arrange
+        UUID outroId = UUID.randomUUID();
+        when(productRepository.findStockByIdIn(any())).thenReturn(List.of(
+                new ProductStock(productId, collaboratorId, 2500.0, 0, ProductStatus.OUT_OF_STOCK),
+                new ProductStock(outroId, collaboratorId, 10.0, 0, ProductStatus.OUT_OF_STOCK)));
+        when(authenticatedUser.currentCollaboratorId()).thenReturn(collaboratorId);
+        when(authenticatedUser.currentCollaborator()).thenReturn(collaborator);
+        when(productDomainService.remainingActiveSlots(collaborator)).thenReturn(1L);
+
+        // Act & Assert
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class, () -> productService.patchMyProducts(List.of(
+                new ProductPatchDTO(productId, null, 3, null),
+                new ProductPatchDTO(outroId, null, 4, null))));
+        assertEquals("Collaborator has reached the limit of 10 active products.", exception.getMessage());
+        verify(productRepository, never()).updateStock(any());
+    }
+
+    private static CatalogProduct catalogProduct(Product product) {
+        return new CatalogProduct(product.getId(), product.getTitle(), product.getDescription(), product.getPrice(),
+                product.getImageUrl(), product.getProductCategory(), product.getCollaborator().getId(),
+                product.getCollaborator().getName());
+    }
+
+    private List<CatalogProduct> catalogProducts(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new CatalogProduct(UUID.randomUUID(), "Produto " + i, "Descrição",
+                10.0, "http://example.com/p.png", ProductCategory.BOOKS, collaboratorId, "João Silva")).toList();
+    }
+
+    private static CollaboratorProduct collaboratorProduct(Product product) {
+        return new CollaboratorProduct(product.getId(), product.getTitle(), product.getDescription(), product.getPrice(),
+                product.getQuantity(), product.getProductStatus(), product.getImageUrl());
+    }
+}
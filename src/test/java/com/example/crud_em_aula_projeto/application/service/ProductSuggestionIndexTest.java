@@ -0,0 +1,210 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.model.enuns.OrderStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductSales;
+import com.example.crud_em_aula_projeto.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - ProductSuggestionIndex")
+class ProductSuggestionIndexTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSuggestionIndex index;
+    private UUID collaboratorId;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSuggestionIndex(orderRepository, transactionManager, new SimpleMeterRegistry());
+        collaboratorId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Não deve sugerir antes da primeira carga da vitrine")
+    void naoDeveSugerirAntesDaCarga() {
+        assertTrue(index.suggest("cam", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve sugerir pelo prefixo ignorando acentos, maiúsculas e espaços repetidos")
+    void deveSugerirIgnorandoAcentos() {
+        // Arrange
+        load(List.of(product("Câmera  Digital"), product("Camiseta"), product("Notebook")), List.of());
+
+        // Act & Assert
+        assertEquals(List.of("Câmera  Digital", "Camiseta"), index.suggest("CAM", 10).orElseThrow());
+        assertEquals(List.of("Câmera  Digital"), index.suggest("camera d", 10).orElseThrow());
+        assertEquals(List.of("Câmera  Digital"), index.suggest("  câmera ", 10).orElseThrow());
+        assertTrue(index.suggest("geladeira", 10).orElseThrow().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pelas unidades vendidas somadas dos produtos com o mesmo título")
+    void deveOrdenarPorVendas() {
+        // Arrange
+        ProductPublicDTO mouse = product("Mouse sem fio");
+        ProductPublicDTO pad = product("Mousepad");
+        ProductPublicDTO gamerA = product("Mouse gamer");
+        ProductPublicDTO gamerB = product("MOUSE GAMER");
+        load(List.of(mouse, pad, gamerA, gamerB), List.of(sales(mouse, 5), sales(gamerA, 3), sales(gamerB, 4)));
+
+        // Act
+        List<String> result = index.suggest("mouse", 10).orElseThrow();
+
+        // Assert
+        assertEquals(List.of("Mouse gamer", "Mouse sem fio", "Mousepad"), result);
+        assertEquals(List.of("Mouse gamer"), index.suggest("mouse", 1).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as mudanças da vitrine e reler as vendas dos produtos alterados")
+    void deveAplicarMudancasIncrementais() {
+        // Arrange
+        ProductPublicDTO tv = product("Televisão 50");
+        ProductPublicDTO tablet = product("Tablet");
+        load(List.of(tv, tablet), List.of(sales(tv, 1)));
+        ProductPublicDTO tvRenamed = new ProductPublicDTO(tv.id(), "Teclado", tv.description(), tv.price(),
+                tv.imageUrl(), tv.productCategory(), collaboratorId, tv.collaboratorName());
+        ProductPublicDTO telescope = product("Telescópio");
+        when(orderRepository.sumUnitsSoldByProductIdIn(eq(OrderStatus.CANCELLED), anyCollection()))
+                .thenReturn(List.of(sales(tablet, 9), sales(tvRenamed, 1)));
+
+        // Act
+        index.onCatalogChanged(new PublishedCatalog.Changed(2, false, List.of(tv, tablet),
+                List.of(tablet, tvRenamed, telescope)));
+
+        // Assert
+        assertEquals(List.of("Tablet", "Teclado", "Telescópio"), index.suggest("t", 10).orElseThrow());
+        assertTrue(index.suggest("telev", 10).orElseThrow().isEmpty());
+        assertEquals(3, index.titleCount());
+    }
+
+    @Test
+    @DisplayName("Não deve aplicar a mudança quando a leitura das vendas falha")
+    void naoDeveAplicarMudancaSemVendas() {
+        // Arrange
+        load(List.of(product("Cadeira")), List.of());
+        when(orderRepository.sumUnitsSoldByProductIdIn(any(), anyCollection()))
+                .thenThrow(new DataAccessResourceFailureException("banco fora"));
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class, () -> index.onCatalogChanged(
+                new PublishedCatalog.Changed(2, false, List.of(), List.of(product("Cadeado")))));
+        assertEquals(List.of("Cadeira"), index.suggest("cade", 10).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve responder como uma varredura completa após muitas mudanças e fusões")
+    void deveEquivalerAVarreduraCompleta() {
+        // Arrange
+        Random random = new Random(7);
+        Map<UUID, ProductPublicDTO> live = new HashMap<>();
+        Map<UUID, Long> unitsSold = new HashMap<>();
+        List<ProductPublicDTO> initial = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            ProductPublicDTO product = product(randomTitle(random));
+            initial.add(product);
+            live.put(product.id(), product);
+        }
+        load(initial, List.of());
+        when(orderRepository.sumUnitsSoldByProductIdIn(eq(OrderStatus.CANCELLED), anyCollection()))
+                .thenAnswer(invocation -> invocation.<java.util.Collection<UUID>>getArgument(1).stream()
+                        .filter(unitsSold::containsKey)
+                        .map(id -> new ProductSales(id, unitsSold.get(id)))
+                        .toList());
+
+        // Act: troca de títulos, vendas, remoções e produtos novos (várias fusões do TreeMap)
+        for (int round = 0; round < 40; round++) {
+            List<ProductPublicDTO> removed = new ArrayList<>();
+            List<ProductPublicDTO> added = new ArrayList<>();
+            List<UUID> ids = new ArrayList<>(live.keySet());
+            for (int i = 0; i < 100; i++) {
+                ProductPublicDTO old = live.remove(ids.get(random.nextInt(ids.size())));
+                if (old == null) {
+                    continue;
+                }
+                removed.add(old);
+                unitsSold.merge(old.id(), (long) random.nextInt(5), Long::sum);
+                if (random.nextInt(4) > 0) {
+                    ProductPublicDTO changed = new ProductPublicDTO(old.id(), random.nextBoolean() ? old.title() : randomTitle(random),
+                            "", 10.0, "http://example.com/p.png", ProductCategory.ELECTRONICS, collaboratorId, "João Silva");
+                    added.add(changed);
+                }
+            }
+            for (int i = 0; i < 80; i++) {
+                added.add(product(randomTitle(random)));
+            }
+            added.forEach(product -> live.put(product.id(), product));
+            index.onCatalogChanged(new PublishedCatalog.Changed(round + 2, false, removed, added));
+        }
+
+        // Assert
+        for (String prefix : List.of("a", "b", "ab", "ba", "c", "cab", "d")) {
+            assertEquals(bruteForce(live.values(), unitsSold, prefix, 10), index.suggest(prefix, 10).orElseThrow(), prefix);
+        }
+    }
+
+    // Referência: agrupa os títulos vivos e ordena todos
+    private List<String> bruteForce(java.util.Collection<ProductPublicDTO> live, Map<UUID, Long> unitsSold, String prefix, int limit) {
+        Map<String, Long> byTitle = new HashMap<>();
+        for (ProductPublicDTO product : live) {
+            byTitle.merge(product.title(), unitsSold.getOrDefault(product.id(), 0L), Long::sum);
+        }
+        return byTitle.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // Títulos curtos de um alfabeto pequeno: muitos repetidos e muitos prefixos em comum
+    private static String randomTitle(Random random) {
+        char[] title = new char[1 + random.nextInt(5)];
+        for (int i = 0; i < title.length; i++) {
+            title[i] = (char) ('a' + random.nextInt(6));
+        }
+        return new String(title);
+    }
+
+    private void load(List<ProductPublicDTO> products, List<ProductSales> sales) {
+        when(orderRepository.sumUnitsSold(OrderStatus.CANCELLED)).thenReturn(sales);
+        index.onCatalogChanged(new PublishedCatalog.Changed(1, true, List.of(), products));
+    }
+
+    private static ProductSales sales(ProductPublicDTO product, long units) {
+        return new ProductSales(product.id(), units);
+    }
+
+    private ProductPublicDTO product(String title) {
+        return new ProductPublicDTO(UUID.randomUUID(), title, "", 10.0, "http://example.com/p.png",
+                ProductCategory.ELECTRONICS, collaboratorId, "João Silva");
+    }
+}
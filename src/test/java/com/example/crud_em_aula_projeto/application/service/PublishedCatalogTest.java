@@ -0,0 +1,278 @@
+package com.example.crud_em_aula_projeto.application.service;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.event.ProductsChangedEvent;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.model.projection.CatalogProduct;
+import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - PublishedCatalog")
+class PublishedCatalogTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private PublishedCatalog catalog;
+    private Collaborator collaborator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        catalog = new PublishedCatalog(productRepository, transactionManager, meterRegistry, events, new DirectExecutor(), clock);
+        collaborator = Collaborator.builder()
+                .id(UUID.randomUUID())
+                .name("João Silva")
+                .email("joao@test.com")
+                .passwordHash("hash")
+                .role(Role.COLLABORATOR)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Não deve servir nada antes da primeira carga")
+    void naoDeveServirAntesDaCarga() {
+        assertTrue(catalog.allProducts().isEmpty());
+        assertTrue(catalog.age().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve montar o snapshot por categoria na carga inicial")
+    void deveMontarSnapshotPorCategoria() {
+        // Arrange
+        Product phone = product("Smartphone", ProductCategory.ELECTRONICS, ProductStatus.AVAILABLE);
+        Product book = product("Livro", ProductCategory.BOOKS, ProductStatus.AVAILABLE);
+        when(productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE)).thenReturn(rows(phone, book));
+
+        // Act
+        catalog.load();
+
+        // Assert
+        assertEquals(2, catalog.allProducts().orElseThrow().size());
+        assertEquals(List.of(phone.getId()), ids(catalog.productsByCategory(ProductCategory.ELECTRONICS).orElseThrow()));
+        assertTrue(catalog.productsByCategory(ProductCategory.TOYS).orElseThrow().isEmpty());
+        assertEquals(1, catalog.current().orElseThrow().version());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar só os produtos alterados")
+    void deveRecarregarSoProdutosAlterados() {
+        // Arrange
+        Product phone = product("Smartphone", ProductCategory.ELECTRONICS, ProductStatus.AVAILABLE);
+        Product book = product("Livro", ProductCategory.BOOKS, ProductStatus.AVAILABLE);
+        when(productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE)).thenReturn(rows(phone, book));
+        catalog.load();
+
+        // O smartphone esgotou (não volta da consulta) e a bola foi cadastrada
+        Product created = product("Bola", ProductCategory.SPORTS, ProductStatus.AVAILABLE);
+        when(productRepository.findPublicByIdInAndProductStatus(Set.of(phone.getId(), created.getId()), ProductStatus.AVAILABLE))
+                .thenReturn(rows(created));
+
+        // Act
+        catalog.onProductsChanged(ProductsChangedEvent.ofProducts(List.of(phone.getId(), created.getId())));
+
+        // Assert
+        assertEquals(Set.of(book.getId(), created.getId()), Set.copyOf(ids(catalog.allProducts().orElseThrow())));
+        assertTrue(catalog.productsByCategory(ProductCategory.ELECTRONICS).orElseThrow().isEmpty());
+        assertEquals(2, catalog.current().orElseThrow().version());
+        verify(productRepository, times(1)).findPublicByProductStatus(ProductStatus.AVAILABLE);
+        verify(events).publishEvent(new PublishedCatalog.Changed(2, false, dtos(phone), dtos(created)));
+    }
+
+    @Test
+    @DisplayName("Deve paginar o snapshot na ordem de id usada pelo banco")
+    void devePaginarSnapshotPorId() {
+        // Arrange
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            products.add(product("Produto " + i, ProductCategory.values()[i], ProductStatus.AVAILABLE));
+        }
+        when(productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE)).thenReturn(rows(products.toArray(Product[]::new)));
+        catalog.load();
+        List<UUID> expected = products.stream().map(Product::getId).sorted(PageCursor.ID_ORDER).toList();
+
+        // Act
+        List<UUID> firstPage = ids(catalog.productsAfter(new UUID(0, 0), 2).orElseThrow());
+        List<UUID> secondPage = ids(catalog.productsAfter(firstPage.get(1), 2).orElseThrow());
+        List<UUID> lastPage = ids(catalog.productsAfter(secondPage.get(1), 2).orElseThrow());
+
+        // Assert
+        assertEquals(expected.subList(0, 2), firstPage);
+        assertEquals(expected.subList(2, 4), secondPage);
+        assertEquals(expected.subList(4, 5), lastPage);
+    }
+
+    @Test
+    @DisplayName("Deve manter o snapshot anterior e reportar a idade quando o banco falha")
+    void deveManterSnapshotQuandoBancoFalha() {
+        // Arrange
+        Product phone = product("Smartphone", ProductCategory.ELECTRONICS, ProductStatus.AVAILABLE);
+        when(productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE)).thenReturn(rows(phone));
+        catalog.load();
+        when(productRepository.findPublicByIdInAndProductStatus(Set.of(phone.getId()), ProductStatus.AVAILABLE))
+                .thenThrow(new DataAccessResourceFailureException("banco fora"))
+                .thenReturn(List.of());
+
+        // Act
+        clock.advance(Duration.ofSeconds(30));
+        catalog.onProductsChanged(ProductsChangedEvent.ofProduct(phone.getId()));
+
+        // Assert
+        assertEquals(List.of(phone.getId()), ids(catalog.allProducts().orElseThrow()));
+        assertEquals(Duration.ofSeconds(30), catalog.age().orElseThrow());
+        assertEquals(1.0, meterRegistry.get("catalog.published.refresh.failures").counter().count());
+        assertEquals(1.0, meterRegistry.get("catalog.published.pending").gauge().value());
+
+        // Act: retentativa com o banco de volta
+        catalog.retryPending();
+
+        // Assert
+        assertTrue(catalog.allProducts().orElseThrow().isEmpty());
+        assertEquals(Duration.ZERO, catalog.age().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar os produtos do colaborador renomeado")
+    void deveRecarregarProdutosDoColaborador() {
+        // Arrange
+        Product phone = product("Smartphone", ProductCategory.ELECTRONICS, ProductStatus.AVAILABLE);
+        when(productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE)).thenReturn(rows(phone));
+        catalog.load();
+        collaborator.setName("João S.");
+        when(productRepository.findPublicByCollaboratorIdInAndProductStatus(Set.of(collaborator.getId()), ProductStatus.AVAILABLE))
+                .thenReturn(rows(phone));
+
+        // Act
+        catalog.onProductsChanged(ProductsChangedEvent.ofCollaborator(collaborator.getId()));
+
+        // Assert
+        assertEquals("João S.", catalog.allProducts().orElseThrow().get(0).collaboratorName());
+    }
+
+    private Product product(String title, ProductCategory category, ProductStatus status) {
+        return Product.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description(title)
+                .price(10.0)
+                .quantity(1)
+                .imageUrl("http://example.com/image.jpg")
+                .productStatus(status)
+                .productCategory(category)
+                .collaborator(collaborator)
+                .build();
+    }
+
+    private static List<ProductPublicDTO> dtos(Product... products) {
+        return Arrays.stream(products).map(ProductPublicDTO::new).toList();
+    }
+
+    // O que o repositório devolve para os mesmos produtos
+    private static List<CatalogProduct> rows(Product... products) {
+        return Arrays.stream(products).map(product -> new CatalogProduct(product.getId(), product.getTitle(),
+                product.getDescription(), product.getPrice(), product.getImageUrl(), product.getProductCategory(),
+                product.getCollaborator().getId(), product.getCollaborator().getName())).toList();
+    }
+
+    private static List<UUID> ids(List<ProductPublicDTO> products) {
+        return products.stream().map(ProductPublicDTO::id).toList();
+    }
+
+    // Roda a atualização no próprio thread do teste
+    private static class DirectExecutor extends AbstractExecutorService {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.infrastructure.security.BCryptCostCalibrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logins/s por núcleo em cada custo do BCrypt (um thread por núcleo verificando senhas
+ * durante uma janela fixa) e o custo que a calibração escolheria para alguns alvos.
+ * Rodar com {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Custo do BCrypt")
+class BCryptCostBenchmarkTest {
+
+    private static final String PASSWORD = "senha-do-benchmark";
+    private static final Duration WINDOW = Duration.ofSeconds(3);
+
+    @Test
+    @DisplayName("Mede logins por segundo por núcleo para cada custo")
+    void medeLoginsPorSegundoPorNucleo() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%d núcleos, janela de %d s%n", cores, WINDOW.toSeconds());
+        System.out.printf("%-6s %12s %16s%n", "custo", "ms/hash", "logins/s/núcleo");
+
+        for (int cost = 8; cost <= 13; cost++) {
+            String hash = new BCryptPasswordEncoder(cost).encode(PASSWORD);
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            LongAdder logins = new LongAdder();
+            long deadline = System.nanoTime() + WINDOW.toNanos();
+
+            ExecutorService pool = Executors.newFixedThreadPool(cores);
+            for (int i = 0; i < cores; i++) {
+                pool.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        if (encoder.matches(PASSWORD, hash)) {
+                            logins.increment();
+                        }
+                    }
+                });
+            }
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+
+            double perCore = logins.sum() / (double) WINDOW.toSeconds() / cores;
+            System.out.printf("%-6d %12.1f %16.1f%n", cost, 1000.0 / perCore, perCore);
+        }
+
+        for (long targetMs : new long[]{50, 100, 250, 500}) {
+            System.out.printf("alvo %4d ms -> custo %d%n", targetMs,
+                    BCryptCostCalibrator.calibrate(Duration.ofMillis(targetMs), 8, 14));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.infrastructure.security.JwtService;
+import com.example.crud_em_aula_projeto.infrastructure.security.VerifiedClaimsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * Microbenchmark do filtro JWT: caminho antigo (3 parses por requisição) contra
+ * {@link JwtService#parseAndVerify(String)} com cache. Rodar com {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Verificação de JWT")
+class JwtParsingBenchmarkTest {
+
+    private static final String SECRET = "testsecretkeytestsecretkeytestsecretkeytestsecretkey123!";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("Compara o caminho antigo com parse único + cache")
+    void comparaCaminhoAntigoComParseUnico() {
+        JwtService jwtService = new JwtService(SECRET, 3600, new VerifiedClaimsCache(10_000, new SimpleMeterRegistry()));
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        String token = jwtService.generateToken("cliente@test.com", "USER");
+
+        run("parse x3 (antigo)", () -> legacyFilterPath(key, token));
+        run("parseAndVerify (cache)", () -> jwtService.parseAndVerify(token).email());
+    }
+
+    // Reproduz extractEmail + isTokenValid(extractEmail + isTokenExpired) do filtro antigo
+    private static Object legacyFilterPath(Key key, String token) {
+        String email = body(key, token).getSubject();
+        boolean valid = email.equals(body(key, token).getSubject())
+                && !body(key, token).getExpiration().before(new Date());
+        return valid ? email : null;
+    }
+
+    private static Claims body(Key key, String token) {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    private static void run(String name, java.util.function.Supplier<Object> op) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = op.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = op.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-24s %8.0f ns/op (%s)%n", name, (double) elapsed / ITERATIONS, sink != null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latências de um benchmark (uma medida por operação, em ns, já sem o aquecimento):
+ * imprime p50/p99/p99.9/max em µs e confere o alvo de p99 declarado no benchmark.
+ */
+final class LatencyReport {
+
+    private final long[] sorted;
+
+    LatencyReport(long[] nanos) {
+        this.sorted = nanos.clone();
+        Arrays.sort(sorted);
+    }
+
+    /** Percentil em milésimos (500 = p50, 999 = p99.9). */
+    long percentile(int perMille) {
+        return sorted[(int) ((long) sorted.length * perMille / 1000)];
+    }
+
+    /** Tabela em µs; {@code detail} sai ao lado do máximo (ex.: o total de resultados, que impede o JIT de descartar as chamadas). */
+    void print(String detail) {
+        System.out.printf("%-8s %10s%n", "", "µs");
+        System.out.printf("%-8s %10.1f%n", "p50", percentile(500) / 1000.0);
+        System.out.printf("%-8s %10.1f%n", "p99", percentile(990) / 1000.0);
+        System.out.printf("%-8s %10.1f%n", "p99.9", percentile(999) / 1000.0);
+        System.out.printf("%-8s %10.1f   (%s)%n", "max", sorted[sorted.length - 1] / 1000.0, detail);
+    }
+
+    void assertP99Below(Duration target) {
+        long p99 = percentile(990);
+        assertTrue(p99 < target.toNanos(), () -> String.format("p99 de %.1f µs, alvo abaixo de %.1f µs",
+                p99 / 1000.0, target.toNanos() / 1000.0));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPatchDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.application.service.ProductService;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reajuste de preço de {@value #PRODUCTS} produtos: um {@code PUT /api/products/{id}} por
+ * produto (carrega a entidade, confere o dono, regrava os sete campos) contra um único
+ * {@code PATCH /api/products/bulk} (uma consulta {@code IN} e UPDATEs por bloco). Chama os
+ * serviços direto, sem a camada HTTP. Rodar com {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("Benchmark - Atualização de preço e estoque em lote")
+class ProductBulkPatchBenchmarkTest {
+
+    private static final int PRODUCTS = 5_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CollaboratorRepository collaboratorRepository;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Compara produtos atualizados por segundo com PUT unitário e PATCH em lote")
+    void comparaAtualizacoesPorSegundo() {
+        Collaborator collaborator = collaboratorRepository.save(Collaborator.builder().name("Lojista")
+                .email("lojista@bench.com").passwordHash("hash").role(Role.COLLABORATOR).active(true).build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(collaborator.getEmail(), null, List.of()));
+        List<Product> seed = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            // OUT_OF_STOCK: o reajuste não esbarra no limite de produtos ativos
+            seed.add(Product.builder().title("Produto " + i).description("Item " + i).price(100.0)
+                    .quantity(5).imageUrl("http://example.com/p" + i + ".png")
+                    .productStatus(ProductStatus.OUT_OF_STOCK).productCategory(ProductCategory.SPORTS)
+                    .collaborator(collaborator).build());
+        }
+        List<Product> products = productRepository.saveAll(seed);
+
+        long start = System.nanoTime();
+        for (Product product : products) {
+            productService.updateMyProduct(product.getId(), new ProductRequestDTO(product.getTitle(),
+                    product.getDescription(), 90.0, product.getQuantity(), product.getImageUrl(),
+                    product.getProductStatus(), product.getProductCategory()));
+        }
+        double putRate = PRODUCTS / ((System.nanoTime() - start) / 1e9);
+
+        List<ProductPatchDTO> patches = products.stream()
+                .map(product -> new ProductPatchDTO(product.getId(), 80.0, null, null))
+                .toList();
+        start = System.nanoTime();
+        productService.patchMyProducts(patches);
+        double patchRate = PRODUCTS / ((System.nanoTime() - start) / 1e9);
+
+        System.out.printf("%d produtos do mesmo colaborador%n", PRODUCTS);
+        System.out.printf("%-28s %14s%n", "reajuste de preço", "produtos/s");
+        System.out.printf("%-28s %14.0f%n", "PUT por produto", putRate);
+        System.out.printf("%-28s %14.0f%n", "PATCH /api/products/bulk", patchRate);
+    }
+}
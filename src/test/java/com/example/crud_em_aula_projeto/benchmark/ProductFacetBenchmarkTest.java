@@ -0,0 +1,70 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.application.service.ProductFacetIndex;
+import com.example.crud_em_aula_projeto.application.service.PublishedCatalog;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Latência de {@link ProductFacetIndex#facets} com 1 milhão de produtos: combinações
+ * aleatórias de categorias, faixa de preço (às vezes sem limites) e 10 faixas no
+ * histograma. Alvo: p99 abaixo de 50 µs. Rodar com {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Facetas da vitrine")
+class ProductFacetBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int WARMUP = 20_000;
+    private static final int QUERIES = 100_000;
+
+    @Test
+    @DisplayName("Mede p50/p99 das contagens por categoria e histograma com 1M de produtos")
+    void medeLatenciaDasFacetas() {
+        Random random = new Random(42);
+        ProductCategory[] categories = ProductCategory.values();
+        UUID collaboratorId = UUID.randomUUID();
+        List<ProductPublicDTO> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            // Preços log-normais: muitos baratos, poucos caros
+            double price = Math.round(Math.exp(3 + 1.5 * random.nextGaussian()) * 100) / 100.0;
+            products.add(new ProductPublicDTO(new UUID(random.nextLong(), random.nextLong()), "Produto", "", price,
+                    "http://example.com/p.png", categories[random.nextInt(categories.length)], collaboratorId, "João Silva"));
+        }
+        ProductFacetIndex index = new ProductFacetIndex();
+        long buildStart = System.nanoTime();
+        index.onCatalogChanged(new PublishedCatalog.Changed(1, true, List.of(), products));
+        System.out.printf("facetas de %,d produtos montadas em %d ms%n", PRODUCTS, (System.nanoTime() - buildStart) / 1_000_000);
+
+        long sink = 0;
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < WARMUP + QUERIES; i++) {
+            Set<ProductCategory> selected = EnumSet.noneOf(ProductCategory.class);
+            for (int c = random.nextInt(4); c > 0; c--) {
+                selected.add(categories[random.nextInt(categories.length)]);
+            }
+            boolean bounded = random.nextBoolean();
+            Double minPrice = bounded ? (double) random.nextInt(50) : null;
+            Double maxPrice = bounded ? minPrice + random.nextInt(500) : null;
+            long start = System.nanoTime();
+            sink += index.facets(selected, minPrice, maxPrice, 10).orElseThrow().total();
+            if (i >= WARMUP) {
+                latencies[i - WARMUP] = System.nanoTime() - start;
+            }
+        }
+        LatencyReport report = new LatencyReport(latencies);
+        report.print(sink + " produtos contados");
+        report.assertP99Below(Duration.ofNanos(50_000));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportResultDTO;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.application.service.ProductImportService;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import com.example.crud_em_aula_projeto.infrastructure.web.ProductImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Importação de {@value #ROWS} linhas NDJSON pelo {@code POST /api/products/bulk} (leitor +
+ * serviço, sem a camada HTTP) contra a gravação antiga, um {@code save} por produto em sua
+ * própria transação. A meta é 100 mil linhas por minuto. Rodar com {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("Benchmark - Importação em lote de produtos")
+class ProductImportBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int SINGLE_SAVES = 5_000;
+
+    @Autowired
+    private ProductImportService importService;
+
+    @Autowired
+    private ProductImportReader importReader;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CollaboratorRepository collaboratorRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Mede linhas por minuto da importação em lote")
+    void medeLinhasPorMinuto() throws Exception {
+        Collaborator collaborator = collaboratorRepository.save(Collaborator.builder().name("Importador")
+                .email("importador@bench.com").passwordHash("hash").role(Role.COLLABORATOR).active(true).build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(collaborator.getEmail(), null, List.of()));
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            ndjson.append(objectMapper.writeValueAsString(product(i))).append('\n');
+        }
+        byte[] body = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SINGLE_SAVES; i++) {
+            productRepository.save(product(ROWS + i).toEntity(collaborator));
+        }
+        double singleRate = SINGLE_SAVES / ((System.nanoTime() - start) / 6e10);
+
+        start = System.nanoTime();
+        ProductImportResultDTO result = importService.importProducts(
+                importReader.read(new ByteArrayInputStream(body), ProductImportReader.NDJSON_VALUE, body.length));
+        double bulkRate = ROWS / ((System.nanoTime() - start) / 6e10);
+
+        System.out.printf("%d linhas (%d KB), %d gravadas, %d recusadas%n",
+                ROWS, body.length / 1024, result.imported(), result.failed());
+        System.out.printf("%-28s %14s%n", "gravação", "linhas/min");
+        System.out.printf("%-28s %14.0f%n", "save por produto", singleRate);
+        System.out.printf("%-28s %14.0f%n", "POST /api/products/bulk", bulkRate);
+    }
+
+    // Os 10 primeiros ocupam as vagas de produtos ativos; os demais entram sem estoque
+    private ProductRequestDTO product(int i) {
+        ProductCategory[] categories = ProductCategory.values();
+        return new ProductRequestDTO("Produto " + i, "Importado em lote, item " + i, 10.0 + i % 500, 1 + i % 50,
+                "http://example.com/p" + i + ".png", i < 10 ? ProductStatus.AVAILABLE : ProductStatus.OUT_OF_STOCK,
+                categories[i % categories.length]);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Vitrine com 100k produtos: consulta de entidades com JOIN FETCH + mapeamento para
+ * {@link ProductPublicDTO} (como era) contra a projeção de leitura mapeada no DTO. Reporta latência e
+ * bytes alocados no heap por chamada. Rodar com {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("Benchmark - Projeção de DTOs de produtos")
+class ProductProjectionBenchmarkTest {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int COLLABORATORS = 100;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 10;
+
+    private static final String ENTITY_QUERY =
+            "SELECT p FROM Product p JOIN FETCH p.collaborator WHERE p.productStatus = :status";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CollaboratorRepository collaboratorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        collaboratorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Compara entidades + mapeamento com projeção em 100k produtos")
+    void comparaEntidadesComProjecao() {
+        seed();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        System.out.printf("%d produtos, %d colaboradores%n", PRODUCTS, COLLABORATORS);
+        System.out.printf("%-34s %10s %14s%n", "caminho", "ms/op", "MB alocados/op");
+        report("entidades (tx read-only)", () -> readOnly.execute(status -> entities()));
+        report("entidades (tx com dirty checking)", () -> readWrite.execute(status -> entities()));
+        report("projeção + DTO", () -> readOnly.execute(status ->
+                productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE).stream().map(ProductPublicDTO::new).toList()));
+    }
+
+    private List<ProductPublicDTO> entities() {
+        return entityManager.createQuery(ENTITY_QUERY, Product.class)
+                .setParameter("status", ProductStatus.AVAILABLE)
+                .getResultList()
+                .stream()
+                .map(ProductPublicDTO::new)
+                .toList();
+    }
+
+    private void report(String label, Supplier<List<ProductPublicDTO>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocated = 0;
+        long elapsed = 0;
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            rows = query.get().size();
+            elapsed += System.nanoTime() - start;
+            allocated += threads.getThreadAllocatedBytes(thread) - bytesBefore;
+        }
+        if (rows != PRODUCTS) {
+            throw new IllegalStateException("esperados " + PRODUCTS + " produtos, vieram " + rows);
+        }
+        System.out.printf("%-34s %10.1f %14.1f%n", label,
+                elapsed / 1e6 / ITERATIONS, allocated / 1024.0 / 1024.0 / ITERATIONS);
+    }
+
+    private void seed() {
+        List<Collaborator> collaborators = new ArrayList<>();
+        for (int i = 0; i < COLLABORATORS; i++) {
+            collaborators.add(Collaborator.builder().name("Colaborador " + i).email("bench" + i + "@projection.com")
+                    .passwordHash("hash").role(Role.COLLABORATOR).active(true).build());
+        }
+        collaboratorRepository.saveAll(collaborators);
+
+        ProductCategory[] categories = ProductCategory.values();
+        List<Object[]> rows = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), "Produto " + i, "Descrição do produto " + i, 10.0 + i % 500, 5,
+                    "http://example.com/" + i + ".png", ProductStatus.AVAILABLE.name(),
+                    categories[i % categories.length].name(), collaborators.get(i % COLLABORATORS).getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, title, description, price, quantity, image_url, "
+                + "product_status, product_category, collaborator_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
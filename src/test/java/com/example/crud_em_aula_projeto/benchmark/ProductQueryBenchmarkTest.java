@@ -0,0 +1,82 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.application.service.PageCursor;
+import com.example.crud_em_aula_projeto.application.service.ProductQueryIndex;
+import com.example.crud_em_aula_projeto.application.service.PublishedCatalog;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Latência de {@link ProductQueryIndex#query} com 1 milhão de produtos de 5 mil
+ * colaboradores: primeira página (50 itens) de combinações aleatórias de categorias, faixa
+ * de preço, colaborador e ordenação. Alvo: p99 abaixo de 10 ms. Rodar com
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Vitrine filtrada e ordenada")
+class ProductQueryBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int COLLABORATORS = 5_000;
+    private static final int WARMUP = 2_000;
+    private static final int QUERIES = 5_000;
+
+    @Test
+    @DisplayName("Mede p50/p99 de filtros e ordenações com 1M de produtos")
+    void medeLatenciaDasConsultas() {
+        Random random = new Random(42);
+        ProductCategory[] categories = ProductCategory.values();
+        UUID[] collaborators = new UUID[COLLABORATORS];
+        for (int i = 0; i < COLLABORATORS; i++) {
+            collaborators[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        List<ProductPublicDTO> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            double price = Math.round(Math.exp(3 + 1.5 * random.nextGaussian()) * 100) / 100.0;
+            products.add(new ProductPublicDTO(new UUID(random.nextLong(), random.nextLong()),
+                    "Produto " + Integer.toString(random.nextInt(), 36), "", price, "http://example.com/p.png",
+                    categories[random.nextInt(categories.length)], collaborators[random.nextInt(COLLABORATORS)], "João Silva"));
+        }
+        products.sort(Comparator.comparing(ProductPublicDTO::id, PageCursor.ID_ORDER)); // como no snapshot da vitrine
+        ProductQueryIndex index = new ProductQueryIndex();
+        long buildStart = System.nanoTime();
+        index.onCatalogChanged(new PublishedCatalog.Changed(1, true, List.of(), products));
+        System.out.printf("índice de filtros com %,d produtos montado em %d ms%n", PRODUCTS, (System.nanoTime() - buildStart) / 1_000_000);
+
+        ProductQueryIndex.SortOrder[] orders = ProductQueryIndex.SortOrder.values();
+        long sink = 0;
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < WARMUP + QUERIES; i++) {
+            Set<ProductCategory> selected = EnumSet.noneOf(ProductCategory.class);
+            for (int c = random.nextInt(3); c > 0; c--) {
+                selected.add(categories[random.nextInt(categories.length)]);
+            }
+            boolean priced = random.nextBoolean();
+            Double minPrice = priced ? (double) random.nextInt(50) : null;
+            Double maxPrice = priced ? minPrice + random.nextInt(200) : null;
+            UUID collaborator = random.nextInt(4) == 0 ? collaborators[random.nextInt(COLLABORATORS)] : null;
+            ProductQueryIndex.Filter filter = new ProductQueryIndex.Filter(selected, minPrice, maxPrice, collaborator);
+            ProductQueryIndex.SortOrder order = orders[random.nextInt(orders.length)];
+            long start = System.nanoTime();
+            sink += index.query(filter, order, null, 50).orElseThrow().items().size();
+            if (i >= WARMUP) {
+                latencies[i - WARMUP] = System.nanoTime() - start;
+            }
+        }
+        LatencyReport report = new LatencyReport(latencies);
+        report.print(sink + " produtos");
+        report.assertP99Below(Duration.ofMillis(10));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.application.service.ProductSearchIndex;
+import com.example.crud_em_aula_projeto.application.service.PublishedCatalog;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Latência de {@link ProductSearchIndex#search} com 1 milhão de produtos sintéticos e
+ * buscas de 1 a 3 termos. O vocabulário segue uma distribuição de Zipf, como texto real:
+ * as posições mais frequentes são palavras funcionais ("de", "para", "com"...), que o
+ * tokenizador descarta, e as seguintes são termos comuns com listas de dezenas de milhares
+ * de produtos. Alvo: p99 abaixo de 5 ms, conferido ao final. Rodar com {@code mvn test -Pbenchmark}.
+ * <p>
+ * Não usa JMH: como os demais benchmarks do projeto, mede com {@code System.nanoTime} por
+ * busca depois de um aquecimento, num único fork. O que interessa aqui é a cauda de uma
+ * chamada isolada (p99), que o {@link LatencyReport} tira das medidas individuais; o custo
+ * do relógio (dezenas de ns) é desprezível perto do alvo.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Busca de produtos")
+class ProductSearchBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int VOCABULARY = 20_000;
+    private static final int WARMUP = 5_000;
+    private static final int QUERIES = 20_000;
+    private static final String[] FUNCTION_WORDS = {
+            "de", "a", "o", "e", "para", "com", "do", "da", "em", "um", "uma", "os", "as", "no", "na", "por"};
+
+    @Test
+    @DisplayName("Mede p50/p99 da busca BM25 com 1M de produtos")
+    void medeLatenciaDaBusca() {
+        Random random = new Random(42);
+        String[] words = vocabulary(random);
+        double[] zipf = zipfCumulative();
+        UUID collaboratorId = UUID.randomUUID();
+
+        List<ProductPublicDTO> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(new ProductPublicDTO(new UUID(random.nextLong(), random.nextLong()),
+                    text(words, zipf, random, 3), text(words, zipf, random, 8), 10.0, "http://example.com/p.png",
+                    ProductCategory.values()[i % ProductCategory.values().length], collaboratorId, "João Silva"));
+        }
+
+        ProductSearchIndex index = new ProductSearchIndex(new SimpleMeterRegistry());
+        long buildStart = System.nanoTime();
+        index.onCatalogChanged(new PublishedCatalog.Changed(1, true, List.of(), products));
+        System.out.printf("índice com %,d produtos montado em %d ms%n", PRODUCTS, (System.nanoTime() - buildStart) / 1_000_000);
+
+        String[] queries = new String[WARMUP + QUERIES];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = text(words, zipf, random, 1 + random.nextInt(3));
+        }
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += index.search(queries[i], 20).orElseThrow().size();
+        }
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            sink += index.search(queries[WARMUP + i], 20).orElseThrow().size();
+            latencies[i] = System.nanoTime() - start;
+        }
+        LatencyReport report = new LatencyReport(latencies);
+        report.print(sink + " resultados");
+        report.assertP99Below(Duration.ofMillis(5));
+    }
+
+    private static String[] vocabulary(Random random) {
+        String[] words = new String[VOCABULARY];
+        System.arraycopy(FUNCTION_WORDS, 0, words, 0, FUNCTION_WORDS.length);
+        for (int i = FUNCTION_WORDS.length; i < VOCABULARY; i++) {
+            char[] word = new char[4 + random.nextInt(6)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(word);
+        }
+        return words;
+    }
+
+    // Palavra de posição k aparece com frequência proporcional a 1/k
+    private static double[] zipfCumulative() {
+        double[] cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int k = 0; k < VOCABULARY; k++) {
+            total += 1.0 / (k + 1);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < VOCABULARY; k++) {
+            cumulative[k] /= total;
+        }
+        return cumulative;
+    }
+
+    private static String text(String[] words, double[] zipf, Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int position = Arrays.binarySearch(zipf, random.nextDouble());
+            text.append(i == 0 ? "" : " ").append(words[position >= 0 ? position : -position - 1]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.application.service.ProductSuggestionIndex;
+import com.example.crud_em_aula_projeto.application.service.PublishedCatalog;
+import com.example.crud_em_aula_projeto.domain.model.enuns.OrderStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductSales;
+import com.example.crud_em_aula_projeto.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Memória retida e latência de {@link ProductSuggestionIndex#suggest} com 1 milhão de
+ * produtos sintéticos (títulos de 2 a 4 palavras de um vocabulário Zipf, quase todos
+ * distintos) e vendas em 20% deles. Os prefixos são o começo de títulos existentes, de 1 a
+ * 8 caracteres: os curtos cobrem centenas de milhares de títulos. Alvo: p99 abaixo de 1 ms.
+ * Rodar com {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Autocompletar de títulos")
+class ProductSuggestionBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int VOCABULARY = 20_000;
+    private static final int WARMUP = 20_000;
+    private static final int QUERIES = 50_000;
+
+    @Test
+    @DisplayName("Mede memória e p50/p99 do autocompletar com 1M de produtos")
+    void medeMemoriaELatencia() {
+        Random random = new Random(42);
+        String[] words = vocabulary(random);
+        double[] zipf = zipfCumulative();
+        UUID collaboratorId = UUID.randomUUID();
+
+        List<ProductPublicDTO> products = new ArrayList<>(PRODUCTS);
+        List<ProductSales> sales = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            ProductPublicDTO product = new ProductPublicDTO(new UUID(random.nextLong(), random.nextLong()),
+                    text(words, zipf, random, 2 + random.nextInt(3)), "", 10.0, "http://example.com/p.png",
+                    ProductCategory.values()[i % ProductCategory.values().length], collaboratorId, "João Silva");
+            products.add(product);
+            if (random.nextInt(5) == 0) {
+                sales.add(new ProductSales(product.id(), 1L + (long) (1000 / (1 + random.nextInt(1000)))));
+            }
+        }
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        when(orderRepository.sumUnitsSold(OrderStatus.CANCELLED)).thenReturn(sales);
+
+        long heapBefore = usedHeap();
+        ProductSuggestionIndex index = new ProductSuggestionIndex(orderRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+        long buildStart = System.nanoTime();
+        index.onCatalogChanged(new PublishedCatalog.Changed(1, true, List.of(), products));
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        long retained = usedHeap() - heapBefore;
+        System.out.printf("autocompletar com %,d produtos montado em %d ms, %,.1f MB retidos (%.0f bytes por produto)%n",
+                PRODUCTS, buildMillis, retained / 1048576.0, (double) retained / PRODUCTS);
+
+        String[] prefixes = new String[WARMUP + QUERIES];
+        for (int i = 0; i < prefixes.length; i++) {
+            String title = products.get(random.nextInt(PRODUCTS)).title();
+            prefixes[i] = title.substring(0, Math.min(title.length(), 1 + random.nextInt(8)));
+        }
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += index.suggest(prefixes[i], 10).orElseThrow().size();
+        }
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            sink += index.suggest(prefixes[WARMUP + i], 10).orElseThrow().size();
+            latencies[i] = System.nanoTime() - start;
+        }
+        LatencyReport report = new LatencyReport(latencies);
+        report.print(sink + " sugestões");
+        report.assertP99Below(Duration.ofMillis(1));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String[] vocabulary(Random random) {
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            char[] word = new char[4 + random.nextInt(6)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) ('a' + random.nextInt(26));
+            }
+            word[0] = Character.toUpperCase(word[0]);
+            words[i] = new String(word);
+        }
+        return words;
+    }
+
+    // Palavra de posição k aparece com frequência proporcional a 1/k
+    private static double[] zipfCumulative() {
+        double[] cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int k = 0; k < VOCABULARY; k++) {
+            total += 1.0 / (k + 1);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < VOCABULARY; k++) {
+            cumulative[k] /= total;
+        }
+        return cumulative;
+    }
+
+    private static String text(String[] words, double[] zipf, Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int position = Arrays.binarySearch(zipf, random.nextDouble());
+            text.append(i == 0 ? "" : " ").append(words[position >= 0 ? position : -position - 1]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.infrastructure.security.RouteAuthorizationTable;
+import com.example.crud_em_aula_projeto.infrastructure.security.SecurityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Resolução de regra por requisição: cadeia linear de padrões ant (como os requestMatchers)
+ * contra a trie do {@link RouteAuthorizationTable}, para as rotas dos controllers.
+ * Rodar com {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Autorização por rota")
+class RouteAuthorizationBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+
+    private static final String ID = "3f2c9a4e-8b1d-4c52-9e07-5a6b1c2d3e4f";
+    private static final List<String[]> REQUESTS = List.of(
+            new String[]{"POST", "/auth/login"}, new String[]{"POST", "/auth/refresh"},
+            new String[]{"POST", "/auth/logout"}, new String[]{"DELETE", "/auth/users/" + ID + "/sessions"},
+            new String[]{"POST", "/api/customers"}, new String[]{"GET", "/api/customers/" + ID},
+            new String[]{"GET", "/api/customers/search"}, new String[]{"PUT", "/api/customers/" + ID},
+            new String[]{"PATCH", "/api/customers/" + ID + "/deactivate"}, new String[]{"DELETE", "/api/customers/" + ID},
+            new String[]{"POST", "/api/collaborators"}, new String[]{"GET", "/api/collaborators/all"},
+            new String[]{"GET", "/api/collaborators/inactive"}, new String[]{"GET", "/api/collaborators/" + ID},
+            new String[]{"PUT", "/api/collaborators/" + ID}, new String[]{"PATCH", "/api/collaborators/" + ID + "/activate"},
+            new String[]{"GET", "/api/products"}, new String[]{"POST", "/api/products"},
+            new String[]{"GET", "/api/products/category/ELECTRONICS"}, new String[]{"GET", "/api/products/inactive"},
+            new String[]{"PUT", "/api/products/" + ID}, new String[]{"GET", "/api/products/my-products"},
+            new String[]{"DELETE", "/api/products/" + ID}, new String[]{"GET", "/api/shopping"},
+            new String[]{"GET", "/api/shopping/my-cart"}, new String[]{"GET", "/api/shopping/" + ID},
+            new String[]{"DELETE", "/api/shopping/my-cart/clear"}, new String[]{"GET", "/api/shopping-items/my-items"},
+            new String[]{"POST", "/api/shopping-items"}, new String[]{"GET", "/api/shopping-items/shopping/" + ID},
+            new String[]{"PUT", "/api/shopping-items/" + ID}, new String[]{"DELETE", "/api/shopping-items/shopping/" + ID + "/clear"},
+            new String[]{"GET", "/api/orders"}, new String[]{"POST", "/api/orders/checkout"},
+            new String[]{"GET", "/api/orders/my-orders"}, new String[]{"GET", "/api/orders/" + ID},
+            new String[]{"PATCH", "/api/orders/" + ID + "/cancel"}, new String[]{"PUT", "/api/orders/" + ID + "/status"},
+            new String[]{"GET", "/api/orders/my-sales"}, new String[]{"GET", "/api/orders/sales/" + ID},
+            new String[]{"GET", "/actuator/metrics"}, new String[]{"GET", "/swagger-ui/index.html"}
+    );
+
+    @Test
+    @DisplayName("Compara a cadeia linear de padrões com a trie")
+    void comparaCadeiaLinearComTrie() {
+        RouteAuthorizationTable table = SecurityConfig.routes();
+        AntPathMatcher matcher = new AntPathMatcher();
+        List<RouteAuthorizationTable.Rule> chain = table.rules();
+
+        // Cadeia linear: testa cada regra na ordem, como a lista de requestMatchers
+        BiFunction<String, String, Object> linear = (method, path) -> {
+            for (RouteAuthorizationTable.Rule rule : chain) {
+                if ((rule.method() == null || rule.method().equals(method)) && matcher.match(rule.pattern(), path)) {
+                    return rule;
+                }
+            }
+            return null;
+        };
+
+        System.out.printf("%d rotas, %d regras%n", REQUESTS.size(), chain.size());
+        run("cadeia linear (ant)", linear);
+        run("trie", table::resolve);
+    }
+
+    private static void run(String name, BiFunction<String, String, Object> resolver) {
+        Object sink = null;
+        int size = REQUESTS.size();
+        for (int i = 0; i < WARMUP; i++) {
+            String[] request = REQUESTS.get(i % size);
+            sink = resolver.apply(request[0], request[1]);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            String[] request = REQUESTS.get(i % size);
+            sink = resolver.apply(request[0], request[1]);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-22s %8.0f ns/op (%s)%n", name, (double) elapsed / ITERATIONS, sink != null);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.crud_em_aula_projeto.benchmark;
+
+import com.example.crud_em_aula_projeto.application.dto.customerDTOs.CustomerRequestDTO;
+import com.example.crud_em_aula_projeto.application.service.CustomerService;
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
+import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.repository.CustomerRepository;
+import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.RegisteredEmailIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Cadastros concorrentes com a checagem de e-mail antiga ({@code findByEmail().isPresent()},
+ * que hidrata o Usuario polimórfico) e com o {@link RegisteredEmailIndex}. Mede também a
+ * checagem isolada, que é o que o Bloom filter elimina, e confirma que cadastros duplicados
+ * simultâneos terminam na constraint única. Rodar com {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("Benchmark - Cadastro com checagem de e-mail")
+class SignupThroughputBenchmarkTest {
+
+    private static final int SEEDED_USERS = 5_000;
+    private static final int SIGNUPS = 4_000;
+    private static final int CHECKS = 50_000;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private RegisteredEmailIndex registeredEmails;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("Compara cadastros por segundo antes e depois do Bloom filter")
+    void comparaCadastrosPorSegundo() throws Exception {
+        List<Customer> seed = new ArrayList<>();
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            seed.add(Customer.builder().name("Seed " + i).email("seed" + i + "@bench.com")
+                    .passwordHash("hash").role(Role.USER).active(true).build());
+        }
+        customerRepository.saveAll(seed);
+        seed.forEach(c -> registeredEmails.add(c.getEmail()));
+
+        System.out.printf("%d usuários, %d threads%n", SEEDED_USERS, THREADS);
+        System.out.printf("%-28s %14s%n", "checagem de e-mail livre", "checagens/s");
+        System.out.printf("%-28s %14.0f%n", "findByEmail().isPresent()",
+                checksPerSecond(email -> usuarioRepository.findByEmail(email).isPresent()));
+        System.out.printf("%-28s %14.0f%n", "RegisteredEmailIndex",
+                checksPerSecond(registeredEmails::isRegistered));
+
+        System.out.printf("%-28s %14s%n", "cadastro completo", "cadastros/s");
+        System.out.printf("%-28s %14.0f%n", "findByEmail + save", signupsPerSecond("antes", request -> {
+            if (usuarioRepository.findByEmail(request.email()).isPresent()) {
+                throw new BusinessRuleException("E-mail já está em uso");
+            }
+            customerRepository.save(request.toEntity(passwordEncoder));
+        }));
+        System.out.printf("%-28s %14.0f%n", "CustomerService", signupsPerSecond("depois",
+                customerService::createCustomer));
+
+        // Mesmo e-mail em todas as threads: só um cadastro passa, os demais viram erro de negócio
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(THREADS, i -> {
+            try {
+                customerService.createCustomer(new CustomerRequestDTO("Corrida", "corrida@bench.com", "senha"));
+                created.incrementAndGet();
+            } catch (BusinessRuleException | DataIntegrityViolationException e) {
+                rejected.incrementAndGet();
+            }
+        });
+        System.out.printf("corrida no mesmo e-mail: %d criado, %d recusados%n", created.get(), rejected.get());
+    }
+
+    private double checksPerSecond(Predicate<String> check) throws InterruptedException {
+        LongAdder misses = new LongAdder();
+        long elapsed = runConcurrently(CHECKS, i -> {
+            if (!check.test("livre" + i + "@bench.com")) {
+                misses.increment();
+            }
+        });
+        return misses.sum() / (elapsed / 1e9);
+    }
+
+    private double signupsPerSecond(String prefix, SignupStep step) throws InterruptedException {
+        long elapsed = runConcurrently(SIGNUPS, i ->
+                step.signup(new CustomerRequestDTO("Novo " + i, prefix + i + "@bench.com", "senha")));
+        return SIGNUPS / (elapsed / 1e9);
+    }
+
+    private long runConcurrently(int tasks, TaskBody body) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            pool.execute(() -> body.run(index));
+        }
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.MINUTES);
+        return System.nanoTime() - start;
+    }
+
+    @FunctionalInterface
+    private interface TaskBody {
+        void run(int index);
+    }
+
+    @FunctionalInterface
+    private interface SignupStep {
+        void signup(CustomerRequestDTO request);
+    }
+}
@@ -54,11 +54,11 @@ class ProductDomainServiceTest {
     void deveValidarLimiteQuandoColaboradorTemMenosDe10Produtos() {
         // Arrange
         List<Product> produtos = criarListaProdutos(5, ProductStatus.AVAILABLE);
-        when(productRepository.findAllByCollaboratorId(collaboratorId)).thenReturn(produtos);
+        stubContagem(produtos);
 
         // Act & Assert
         assertDoesNotThrow(() -> productDomainService.validateProductLimit(collaborator));
-        verify(productRepository).findAllByCollaboratorId(collaboratorId);
+        verify(productRepository).countByCollaboratorIdAndProductStatus(collaboratorId, ProductStatus.AVAILABLE);
     }
 
     @Test
@@ -66,11 +66,11 @@ class ProductDomainServiceTest {
     void deveValidarLimiteQuandoColaboradorTem9Produtos() {
         // Arrange
         List<Product> produtos = criarListaProdutos(9, ProductStatus.AVAILABLE);
-        when(productRepository.findAllByCollaboratorId(collaboratorId)).thenReturn(produtos);
+        stubContagem(produtos);
 
         // Act & Assert
         assertDoesNotThrow(() -> productDomainService.validateProductLimit(collaborator));
-        verify(productRepository).findAllByCollaboratorId(collaboratorId);
+        verify(productRepository).countByCollaboratorIdAndProductStatus(collaboratorId, ProductStatus.AVAILABLE);
     }
 
     @Test
@@ -78,14 +78,14 @@ class ProductDomainServiceTest {
     void deveLancarExcecaoQuandoColaboradorTem10ProdutosAtivos() {
         // Arrange
         List<Product> produtos = criarListaProdutos(10, ProductStatus.AVAILABLE);
-        when(productRepository.findAllByCollaboratorId(collaboratorId)).thenReturn(produtos);
+        stubContagem(produtos);
 
         // Act & Assert
         BusinessRuleException exception = assertThrows(BusinessRuleException.class, () -> 
                 productDomainService.validateProductLimit(collaborator));
 
         assertEquals("Collaborator has reached the limit of 10 active products.", exception.getMessage());
-        verify(productRepository).findAllByCollaboratorId(collaboratorId);
+        verify(productRepository).countByCollaboratorIdAndProductStatus(collaboratorId, ProductStatus.AVAILABLE);
     }
 
     @Test
@@ -93,14 +93,14 @@ class ProductDomainServiceTest {
     void deveLancarExcecaoQuandoColaboradorTemMaisDe10ProdutosAtivos() {
         // Arrange
         List<Product> produtos = criarListaProdutos(15, ProductStatus.AVAILABLE);
-        when(productRepository.findAllByCollaboratorId(collaboratorId)).thenReturn(produtos);
+        stubContagem(produtos);
 
         // Act & Assert
         BusinessRuleException exception = assertThrows(BusinessRuleException.class, () -> 
                 productDomainService.validateProductLimit(collaborator));
 
         assertEquals("Collaborator has reached the limit of 10 active products.", exception.getMessage());
-        verify(productRepository).findAllByCollaboratorId(collaboratorId);
+        verify(productRepository).countByCollaboratorIdAndProductStatus(collaboratorId, ProductStatus.AVAILABLE);
     }
 
     @Test
@@ -114,11 +114,11 @@ class ProductDomainServiceTest {
         produtos.addAll(criarListaProdutos(10, ProductStatus.DISCONTINUED));
         produtos.addAll(criarListaProdutos(5, ProductStatus.OUT_OF_STOCK));
         
-        when(productRepository.findAllByCollaboratorId(collaboratorId)).thenReturn(produtos);
+        stubContagem(produtos);
 
         // Act & Assert
         assertDoesNotThrow(() -> productDomainService.validateProductLimit(collaborator));
-        verify(productRepository).findAllByCollaboratorId(collaboratorId);
+        verify(productRepository).countByCollaboratorIdAndProductStatus(collaboratorId, ProductStatus.AVAILABLE);
     }
 
     @Test
@@ -131,11 +131,11 @@ class ProductDomainServiceTest {
         // 1 produto OUT_OF_STOCK (não deve contar)
         produtos.addAll(criarListaProdutos(1, ProductStatus.OUT_OF_STOCK));
         
-        when(productRepository.findAllByCollaboratorId(collaboratorId)).thenReturn(produtos);
+        stubContagem(produtos);
 
         // Act & Assert
         assertDoesNotThrow(() -> productDomainService.validateProductLimit(collaborator));
-        verify(productRepository).findAllByCollaboratorId(collaboratorId);
+        verify(productRepository).countByCollaboratorIdAndProductStatus(collaboratorId, ProductStatus.AVAILABLE);
     }
 
     @Test
@@ -143,11 +143,19 @@ class ProductDomainServiceTest {
     void deveValidarQuandoColaboradorNaoTemProdutos() {
         // Arrange
         List<Product> produtos = new ArrayList<>();
-        when(productRepository.findAllByCollaboratorId(collaboratorId)).thenReturn(produtos);
+        stubContagem(produtos);
 
         // Act & Assert
         assertDoesNotThrow(() -> productDomainService.validateProductLimit(collaborator));
-        verify(productRepository).findAllByCollaboratorId(collaboratorId);
+        verify(productRepository).countByCollaboratorIdAndProductStatus(collaboratorId, ProductStatus.AVAILABLE);
+    }
+
+    // O COUNT do repositório sobre a lista: só os produtos do status pedido
+    private void stubContagem(List<Product> produtos) {
+        when(productRepository.countByCollaboratorIdAndProductStatus(eq(collaboratorId), any(ProductStatus.class)))
+                .thenAnswer(invocation -> produtos.stream()
+                        .filter(p -> p.getProductStatus() == invocation.getArgument(1))
+                        .count());
     }
 
     private List<Product> criarListaProdutos(int quantidade, ProductStatus status) {
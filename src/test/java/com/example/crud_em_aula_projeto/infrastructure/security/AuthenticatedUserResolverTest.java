@@ -0,0 +1,133 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.exception.ResourceNotFoundException;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.domain.repository.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - AuthenticatedUserResolver")
+class AuthenticatedUserResolverTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CollaboratorRepository collaboratorRepository;
+
+    @InjectMocks
+    private AuthenticatedUserResolver resolver;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve resolver o id sem consulta e a entidade uma única vez por requisição")
+    void deveMemoizarPorRequisicao() {
+        // Arrange
+        authenticate(new AuthenticatedUser(userId, "joao@test.com", "", Role.COLLABORATOR, true));
+        Collaborator reference = Collaborator.builder().id(userId).build();
+        when(collaboratorRepository.getReferenceById(userId)).thenReturn(reference);
+
+        // Act
+        UUID id = resolver.currentCollaboratorId();
+        Collaborator first = resolver.currentCollaborator();
+        Collaborator second = resolver.currentCollaborator();
+
+        // Assert
+        assertEquals(userId, id);
+        assertSame(reference, first);
+        assertSame(first, second);
+        verify(collaboratorRepository, times(1)).getReferenceById(userId);
+        verify(collaboratorRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular fora de uma requisição, sem onde memoizar")
+    void deveRecalcularForaDeRequisicao() {
+        // Arrange
+        RequestContextHolder.resetRequestAttributes();
+        authenticate(new AuthenticatedUser(userId, "maria@test.com", "", Role.USER, true));
+        when(customerRepository.getReferenceById(userId)).thenReturn(Customer.builder().id(userId).build());
+
+        // Act
+        resolver.currentCustomer();
+        resolver.currentCustomer();
+
+        // Assert
+        verify(customerRepository, times(2)).getReferenceById(userId);
+    }
+
+    @Test
+    @DisplayName("Deve buscar pelo e-mail sem o principal do token e lançar exceção quando o usuário não existe")
+    void deveLancarExcecaoQuandoUsuarioNaoExiste() {
+        // Arrange
+        authenticate("sumiu@test.com");
+        when(customerRepository.findByEmail("sumiu@test.com")).thenReturn(Optional.empty());
+        when(collaboratorRepository.findByEmail("sumiu@test.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResourceNotFoundException customer = assertThrows(ResourceNotFoundException.class,
+                () -> resolver.currentCustomerId());
+        assertEquals("Cliente não encontrado com o e-mail: sumiu@test.com", customer.getMessage());
+        ResourceNotFoundException collaborator = assertThrows(ResourceNotFoundException.class,
+                () -> resolver.currentCollaborator());
+        assertEquals("Colaborador não encontrado com o e-mail: sumiu@test.com", collaborator.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o usuário com a role errada sem consultar o banco")
+    void deveRecusarRoleErrada() {
+        // Arrange
+        authenticate(new AuthenticatedUser(userId, "maria@test.com", "", Role.USER, true));
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> resolver.currentCollaborator());
+        assertEquals("Colaborador não encontrado com o e-mail: maria@test.com", exception.getMessage());
+        assertThrows(ResourceNotFoundException.class, () -> resolver.currentCollaboratorId());
+
+        authenticate(new AuthenticatedUser(userId, "joao@test.com", "", Role.ADMIN, true));
+        assertThrows(ResourceNotFoundException.class, () -> resolver.currentCustomerId());
+        assertThrows(ResourceNotFoundException.class, () -> resolver.currentCustomer());
+        verifyNoInteractions(customerRepository, collaboratorRepository);
+    }
+
+    private void authenticate(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
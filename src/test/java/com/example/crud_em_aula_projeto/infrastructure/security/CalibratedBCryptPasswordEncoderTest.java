@@ -0,0 +1,28 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - CalibratedBCryptPasswordEncoder")
+class CalibratedBCryptPasswordEncoderTest {
+
+    private final CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(10);
+
+    @Test
+    @DisplayName("Deve pedir upgrade só de hashes com custo menor que o calibrado")
+    void devePedirUpgradeSoDeHashesMaisFracos() {
+        assertTrue(encoder.upgradeEncoding("$2a$08$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234"));
+        assertFalse(encoder.upgradeEncoding("$2a$10$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234"));
+        assertFalse(encoder.upgradeEncoding("$2a$12$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234"));
+    }
+
+    @Test
+    @DisplayName("Não deve pedir upgrade nem lançar exceção para hash que não é BCrypt")
+    void naoDevePedirUpgradeDeHashInvalido() {
+        assertFalse(encoder.upgradeEncoding(null));
+        assertFalse(encoder.upgradeEncoding("texto-puro"));
+        assertFalse(encoder.upgradeEncoding("$2a$xx$abc"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - JwtAuthenticationFilter")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "testsecretkeytestsecretkeytestsecretkeytestsecretkey123!";
+
+    @Mock
+    private UsuarioDetailsService usuarioDetailsService;
+
+    private JwtService jwtService;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private RevokedTokenStore revokedTokenStore;
+    private JwtAuthenticationFilter filter;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 3600, new VerifiedClaimsCache(100, new SimpleMeterRegistry()));
+        tokenVersionRegistry = new TokenVersionRegistry();
+        revokedTokenStore = new RevokedTokenStore(1_000, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtService, usuarioDetailsService, tokenVersionRegistry, revokedTokenStore);
+        userId = UUID.randomUUID();
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Modo stateless deve autenticar pelos claims sem consultar o banco")
+    void modoStatelessDeveAutenticarSemConsultarBanco() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        String token = jwtService.generateToken(userId, "cliente@test.com", Role.USER.name(), 0L);
+
+        // Act
+        Authentication authentication = filtrar(token);
+
+        // Assert
+        assertNotNull(authentication);
+        assertEquals("cliente@test.com", authentication.getName());
+        assertEquals(userId, ((AuthenticatedUser) authentication.getPrincipal()).getId());
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+        verify(usuarioDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve recusar token emitido antes da desativação do usuário")
+    void deveRecusarTokenEmitidoAntesDaDesativacao() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        String token = jwtService.generateToken(userId, "cliente@test.com", Role.USER.name(),
+                tokenVersionRegistry.currentVersion(userId));
+        tokenVersionRegistry.bump(userId);
+
+        // Act
+        Authentication authentication = filtrar(token);
+
+        // Assert
+        assertNull(authentication);
+        verify(usuarioDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Modo padrão deve carregar o usuário do banco")
+    void modoPadraoDeveCarregarUsuarioDoBanco() throws Exception {
+        // Arrange
+        String token = jwtService.generateToken(userId, "cliente@test.com", Role.USER.name(), 0L);
+        when(usuarioDetailsService.loadUserByUsername("cliente@test.com"))
+                .thenReturn(new AuthenticatedUser(userId, "cliente@test.com", "hash", Role.USER, true));
+
+        // Act
+        Authentication authentication = filtrar(token);
+
+        // Assert
+        assertNotNull(authentication);
+        verify(usuarioDetailsService).loadUserByUsername("cliente@test.com");
+    }
+
+    @Test
+    @DisplayName("Modo padrão deve recusar usuário inativo")
+    void modoPadraoDeveRecusarUsuarioInativo() throws Exception {
+        // Arrange
+        String token = jwtService.generateToken("cliente@test.com", Role.USER.name());
+        when(usuarioDetailsService.loadUserByUsername("cliente@test.com"))
+                .thenReturn(new AuthenticatedUser(userId, "cliente@test.com", "hash", Role.USER, false));
+
+        // Act & Assert
+        assertNull(filtrar(token));
+    }
+
+    @Test
+    @DisplayName("Deve recusar token revogado por logout")
+    void deveRecusarTokenRevogado() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        String token = jwtService.generateToken(userId, "cliente@test.com", Role.USER.name(), 0L);
+        JwtClaims claims = jwtService.parseAndVerify(token);
+        revokedTokenStore.revoke(claims.tokenId(), claims.expiresAt());
+
+        // Act & Assert
+        assertNull(filtrar(token));
+    }
+
+    private Authentication filtrar(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/shopping/my-cart");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - JwtService")
+class JwtServiceTest {
+
+    private static final String SECRET = "testsecretkeytestsecretkeytestsecretkeytestsecretkey123!";
+
+    private VerifiedClaimsCache claimsCache;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        claimsCache = new VerifiedClaimsCache(100, new SimpleMeterRegistry());
+        jwtService = new JwtService(SECRET, 3600, claimsCache);
+    }
+
+    @Test
+    @DisplayName("Deve verificar o token e devolver os claims")
+    void deveVerificarTokenEDevolverClaims() {
+        // Arrange
+        String token = jwtService.generateToken("joao@test.com", "COLLABORATOR");
+
+        // Act
+        JwtClaims claims = jwtService.parseAndVerify(token);
+
+        // Assert
+        assertEquals("joao@test.com", claims.email());
+        assertEquals("COLLABORATOR", claims.role());
+        assertTrue(claims.expiresAt().isAfter(claims.issuedAt()));
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar claims verificados do cache")
+    void deveReutilizarClaimsDoCache() {
+        // Arrange
+        String token = jwtService.generateToken("joao@test.com", "USER");
+
+        // Act
+        JwtClaims first = jwtService.parseAndVerify(token);
+        JwtClaims second = jwtService.parseAndVerify(token);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, claimsCache.missCount());
+        assertEquals(1, claimsCache.hitCount());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token com assinatura inválida sem armazená-lo")
+    void deveRejeitarTokenComAssinaturaInvalida() {
+        // Arrange
+        JwtService outroEmissor = new JwtService(SECRET.replace('t', 'x'), 3600,
+                new VerifiedClaimsCache(100, new SimpleMeterRegistry()));
+        String token = outroEmissor.generateToken("joao@test.com", "USER");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.parseAndVerify(token));
+        assertThrows(JwtException.class, () -> jwtService.parseAndVerify(token));
+        assertEquals(0, claimsCache.hitCount());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado")
+    void deveRejeitarTokenExpirado() {
+        // Arrange
+        JwtService emissorExpirado = new JwtService(SECRET, -60,
+                new VerifiedClaimsCache(100, new SimpleMeterRegistry()));
+        String token = emissorExpirado.generateToken("joao@test.com", "USER");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.parseAndVerify(token));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - PasswordHashingExecutor")
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(1, 1, 2, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve executar a tarefa no pool e registrar a latência")
+    void deveExecutarTarefaERegistrarLatencia() {
+        // Act
+        String thread = executor.execute(() -> Thread.currentThread().getName());
+
+        // Assert
+        assertTrue(thread.startsWith("password-hash-"));
+        assertEquals(1, meterRegistry.get("security.password.hashing.duration").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar com Retry-After quando o pool e a fila estão cheios")
+    void deveRecusarQuandoSaturado() throws Exception {
+        // Arrange: 1 tarefa ocupando o único thread e 1 ocupando a única posição da fila
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> executor.execute(() -> null));
+        while (executor.queueDepth() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> executor.execute(() -> "rejeitada"));
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("security.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção lançada pela tarefa")
+    void devePropagarExcecaoDaTarefa() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> executor.execute(() -> {
+            throw new IllegalArgumentException("hash inválido");
+        }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
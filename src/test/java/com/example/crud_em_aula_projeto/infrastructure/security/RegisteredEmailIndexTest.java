@@ -0,0 +1,97 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - RegisteredEmailIndex")
+class RegisteredEmailIndexTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RegisteredEmailIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new RegisteredEmailIndex(usuarioRepository, transactionManager, 1000, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco enquanto o índice não foi carregado")
+    void deveConsultarBancoAntesDaCarga() {
+        // Arrange
+        when(usuarioRepository.existsByEmail("joao@test.com")).thenReturn(true);
+
+        // Act
+        boolean result = index.isRegistered("joao@test.com");
+
+        // Assert
+        assertTrue(result);
+        verify(usuarioRepository).existsByEmail("joao@test.com");
+    }
+
+    @Test
+    @DisplayName("Deve descartar e-mail novo sem consultar o banco após a carga")
+    void deveDescartarEmailNovoSemConsulta() {
+        // Arrange
+        when(usuarioRepository.streamAllEmails()).thenReturn(Stream.of("joao@test.com", "maria@test.com"));
+        index.load();
+
+        // Act
+        boolean result = index.isRegistered("novo@test.com");
+
+        // Assert
+        assertFalse(result);
+        verify(usuarioRepository, never()).existsByEmail(anyString());
+        assertEquals(1.0, meterRegistry.get("usuarios.email.index.skipped.lookups").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no banco quando o filtro indica e-mail possivelmente cadastrado")
+    void deveConfirmarNoBancoQuandoFiltroPositivo() {
+        // Arrange
+        when(usuarioRepository.streamAllEmails()).thenReturn(Stream.of("joao@test.com"));
+        when(usuarioRepository.existsByEmail("JOAO@test.com")).thenReturn(true);
+        index.load();
+
+        // Act
+        boolean result = index.isRegistered("JOAO@test.com");
+
+        // Assert
+        assertTrue(result);
+        verify(usuarioRepository).existsByEmail("JOAO@test.com");
+    }
+
+    @Test
+    @DisplayName("Deve considerar e-mails adicionados após a carga")
+    void deveConsiderarEmailsAdicionados() {
+        // Arrange
+        when(usuarioRepository.streamAllEmails()).thenReturn(Stream.empty());
+        when(usuarioRepository.existsByEmail("novo@test.com")).thenReturn(true);
+        index.load();
+
+        // Act
+        index.add("novo@test.com");
+
+        // Assert
+        assertTrue(index.isRegistered("novo@test.com"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - RevokedTokenStore")
+class RevokedTokenStoreTest {
+
+    private RevokedTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RevokedTokenStore(1_000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer apenas os jti revogados")
+    void deveReconhecerApenasJtiRevogados() {
+        // Arrange
+        String revogado = UUID.randomUUID().toString();
+        store.revoke(revogado, Instant.now().plusSeconds(60));
+
+        // Act & Assert
+        assertTrue(store.isRevoked(revogado));
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(store.isRevoked(UUID.randomUUID().toString()));
+        }
+        assertFalse(store.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar token já expirado")
+    void naoDeveGuardarTokenExpirado() {
+        // Act
+        store.revoke(UUID.randomUUID().toString(), Instant.now().minusSeconds(1));
+
+        // Assert
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("Deve remover entradas vencidas e manter as vigentes após reconstruir o filtro")
+    @SuppressWarnings("unchecked")
+    void deveRemoverEntradasVencidas() {
+        // Arrange
+        String vigente = UUID.randomUUID().toString();
+        String vencido = UUID.randomUUID().toString();
+        store.revoke(vigente, Instant.now().plusSeconds(60));
+        store.revoke(vencido, Instant.now().plusSeconds(60));
+        Map<String, Instant> revoked = (Map<String, Instant>) ReflectionTestUtils.getField(store, "revoked");
+        revoked.put(vencido, Instant.now().minusSeconds(1));
+
+        // Act
+        store.purgeExpired();
+
+        // Assert
+        assertEquals(1, store.size());
+        assertTrue(store.isRevoked(vigente));
+        assertFalse(store.isRevoked(vencido));
+    }
+}
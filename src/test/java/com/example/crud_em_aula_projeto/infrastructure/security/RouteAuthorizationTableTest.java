@@ -0,0 +1,114 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - RouteAuthorizationTable")
+class RouteAuthorizationTableTest {
+
+    private final RouteAuthorizationTable routes = SecurityConfig.routes();
+
+    @Test
+    @DisplayName("Deve resolver a primeira regra declarada que casa")
+    void deveResolverPrimeiraRegraQueCasa() {
+        assertEquals("GET /api/products/inactive", routes.resolve("GET", "/api/products/inactive").toString());
+        assertEquals("/api/products/my-products", routes.resolve("GET", "/api/products/my-products").toString());
+        assertEquals("GET /api/products/{id}", routes.resolve("GET", "/api/products/8f0e").toString());
+        assertEquals("PATCH /api/products/bulk", routes.resolve("PATCH", "/api/products/bulk").toString());
+        assertEquals("/api/orders/my-sales", routes.resolve("GET", "/api/orders/my-sales").toString());
+        assertEquals("/api/orders/**", routes.resolve("GET", "/api/orders/123").toString());
+        assertEquals("GET /api/shopping", routes.resolve("GET", "/api/shopping").toString());
+        assertEquals("/api/shopping/**", routes.resolve("DELETE", "/api/shopping").toString());
+    }
+
+    @Test
+    @DisplayName("Deve casar '**' no meio do caminho")
+    void deveCasarCuringaNoMeioDoCaminho() {
+        RouteAuthorizationTable.Rule rule = routes.resolve("PUT", "/api/orders/8f0e/status");
+
+        assertEquals("PUT /api/orders/**/status", rule.toString());
+        assertTrue(rule.access().roles().contains("ROLE_ADMIN"));
+        assertEquals("/api/orders/**", routes.resolve("PATCH", "/api/orders/8f0e/status").toString());
+    }
+
+    @Test
+    @DisplayName("Deve usar a regra padrão quando nenhuma casa")
+    void deveUsarRegraPadrao() {
+        RouteAuthorizationTable.Rule rule = routes.resolve("GET", "/api/desconhecida");
+
+        assertEquals("/**", rule.toString());
+        assertFalse(rule.access().isGranted(new AnonymousAuthenticationToken("key", "anonymous",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"))));
+        assertTrue(rule.access().isGranted(new UsernamePasswordAuthenticationToken("user", null,
+                AuthorityUtils.createAuthorityList("ROLE_USER"))));
+    }
+
+    @Test
+    @DisplayName("Deve conceder acesso só aos papéis da regra")
+    void deveConcederAcessoSoAosPapeis() {
+        RouteAuthorizationTable.Access access = routes.resolve("GET", "/api/collaborators/all").access();
+
+        assertTrue(access.isGranted(new UsernamePasswordAuthenticationToken("admin", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN"))));
+        assertFalse(access.isGranted(new UsernamePasswordAuthenticationToken("cliente", null,
+                AuthorityUtils.createAuthorityList("ROLE_USER"))));
+        assertTrue(routes.resolve("POST", "/auth/login").access().isGranted(null));
+    }
+
+    @Test
+    @DisplayName("Deve apontar regras inalcançáveis pela ordem")
+    void deveApontarRegrasInalcancaveis() {
+        RouteAuthorizationTable table = RouteAuthorizationTable.builder()
+                .route("/api/orders/**").authenticated()
+                .route(HttpMethod.GET, "/api/orders/{id}").hasRole("ADMIN")
+                .route("/api/products/*").authenticated()
+                .route(HttpMethod.GET, "/api/products/**").hasRole("ADMIN")
+                .build();
+
+        assertEquals(1, table.shadowedRules().size());
+        assertEquals("GET /api/orders/{id}", table.shadowedRules().get(0).toString());
+        assertTrue(routes.shadowedRules().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve normalizar o caminho como o Spring MVC antes de resolver a regra")
+    void deveNormalizarCaminhoComoOSpringMvc() {
+        assertEquals("GET /api/products/inactive", routes.resolve("GET", "/api/products/%69nactive").toString());
+        assertEquals("GET /api/products/inactive", routes.resolve("GET", "/api/products/inactive;jsessionid=abc").toString());
+        assertEquals("GET /api/products/inactive", routes.resolve("GET", "/api//products///inactive").toString());
+        assertEquals("GET /api/products/inactive", routes.resolve("GET", "/api/products;x=1/inactive").toString());
+    }
+
+    @Test
+    @DisplayName("Deve negar ao USER a rota de ADMIN mesmo com o caminho codificado ou com parâmetros")
+    void deveNegarRotaDeAdminComCaminhoDisfarcado() {
+        UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken("cliente", null,
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+        UsernamePasswordAuthenticationToken admin = new UsernamePasswordAuthenticationToken("admin", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+        for (String uri : List.of("/api/products/inactive", "/api/products/%69nactive", "/api/products/%69%6E%61ctive",
+                "/api/products/inactive;jsessionid=abc", "/api//products/inactive", "/api/products/x/../inactive",
+                "/api/products/./inactive", "/api/products/%2e%2e/products/inactive", "/api/products/%zz")) {
+            assertFalse(check(uri, user), uri);
+        }
+        assertTrue(check("/api/products/%69nactive", admin));
+        assertTrue(check("/api/products/8f0e", user));
+    }
+
+    private boolean check(String uri, UsernamePasswordAuthenticationToken authentication) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        return routes.authorize(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+}
+
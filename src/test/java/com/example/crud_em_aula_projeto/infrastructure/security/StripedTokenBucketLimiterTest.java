@@ -0,0 +1,103 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - StripedTokenBucketLimiter")
+class StripedTokenBucketLimiterTest {
+
+    @Test
+    @DisplayName("Deve permitir até a capacidade e depois informar a espera")
+    void devePermitirAteCapacidade() {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(3, 60, 100, 4, clock::get);
+
+        // Act & Assert
+        assertEquals(0, limiter.tryAcquire("a@test.com"));
+        assertEquals(0, limiter.tryAcquire("a@test.com"));
+        assertEquals(0, limiter.tryAcquire("a@test.com"));
+        long wait = limiter.tryAcquire("a@test.com");
+        assertEquals(TimeUnit.SECONDS.toNanos(1), wait); // 60/min = 1 token por segundo
+
+        clock.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("a@test.com"));
+        assertEquals(0, limiter.tryAcquire("b@test.com"));
+    }
+
+    @Test
+    @DisplayName("Não deve perder atualizações sob contenção")
+    void naoDevePerderAtualizacoesSobContencao() throws Exception {
+        // Arrange: relógio parado, então nenhum token é reposto durante o teste
+        int capacity = 1_000;
+        int threads = 16;
+        int attemptsPerThread = 500;
+        List<String> keys = List.of("k1", "k2", "k3");
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(capacity, 1, 100, 2, () -> 0L);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(pool.submit(() -> {
+                long[] granted = new long[keys.size()];
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    for (int k = 0; k < keys.size(); k++) {
+                        if (limiter.tryAcquire(keys.get(k)) == 0) {
+                            granted[k]++;
+                        }
+                    }
+                }
+                return granted;
+            }));
+        }
+        start.countDown();
+        long[] total = new long[keys.size()];
+        for (Future<long[]> result : results) {
+            long[] granted = result.get(30, TimeUnit.SECONDS);
+            for (int k = 0; k < keys.size(); k++) {
+                total[k] += granted[k];
+            }
+        }
+        pool.shutdown();
+
+        // Assert: 8000 tentativas por chave, exatamente 'capacity' concedidas
+        for (long granted : total) {
+            assertEquals(capacity, granted);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar baldes ociosos e respeitar o limite de chaves")
+    void deveDescartarBaldesOciosos() {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(2, 60, 8, 1, clock::get);
+
+        // Act: muitas chaves distintas num limitador de 8 posições
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("ip-" + i);
+        }
+
+        // Assert
+        assertTrue(limiter.size() <= 8);
+
+        // Depois de tempo suficiente para reencher, os baldes antigos saem no próximo acesso
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryAcquire("novo");
+        assertEquals(1, limiter.size());
+    }
+}
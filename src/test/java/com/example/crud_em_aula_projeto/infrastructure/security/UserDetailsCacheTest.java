@@ -0,0 +1,75 @@
+package com.example.crud_em_aula_projeto.infrastructure.security;
+
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.model.projection.UsuarioCredentials;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - UserDetailsCache")
+class UserDetailsCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsCache cache;
+    private AtomicInteger loads;
+    private UsuarioCredentials credentials;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserDetailsCache(100, 60, meterRegistry);
+        loads = new AtomicInteger();
+        credentials = new UsuarioCredentials(UUID.randomUUID(), "joao@test.com", "hash", Role.COLLABORATOR, true);
+    }
+
+    @Test
+    @DisplayName("Deve carregar uma vez e servir as próximas leituras da memória")
+    void deveServirLeiturasDaMemoria() {
+        // Act
+        cache.get("joao@test.com", this::load);
+        Optional<UsuarioCredentials> result = cache.get("joao@test.com", this::load);
+
+        // Assert
+        assertEquals(Optional.of(credentials), result);
+        assertEquals(1, loads.get());
+        assertEquals(0.5, cache.hitRate());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "usuario.details").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar e-mail inexistente")
+    void naoDeveGuardarEmailInexistente() {
+        // Act
+        cache.get("ninguem@test.com", this::load);
+        Optional<UsuarioCredentials> result = cache.get("ninguem@test.com", this::load);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar após invalidação")
+    void deveRecarregarAposInvalidacao() {
+        // Act
+        cache.get("joao@test.com", this::load);
+        cache.invalidate("joao@test.com");
+        cache.get("joao@test.com", this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    private Optional<UsuarioCredentials> load(String email) {
+        loads.incrementAndGet();
+        return email.equals(credentials.email()) ? Optional.of(credentials) : Optional.empty();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.crud_em_aula_projeto.infrastructure.web;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductPublicDTO;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - JsonArrayStreamWriter")
+class JsonArrayStreamWriterTest {
+
+    // Buffer de saída do JsonGenerator (BufferRecycler do Jackson)
+    private static final int GENERATOR_BUFFER = 8000;
+
+    private ObjectMapper objectMapper;
+    private JsonArrayStreamWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        writer = new JsonArrayStreamWriter(objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve escrever um array JSON válido")
+    void deveEscreverArrayJsonValido() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.write(products(3), out);
+
+        // Assert
+        ProductPublicDTO[] result = objectMapper.readValue(out.toByteArray(), ProductPublicDTO[].class);
+        assertEquals(3, result.length);
+        assertEquals("Produto 2", result[2].title());
+    }
+
+    @Test
+    @DisplayName("Deve escrever um array vazio")
+    void deveEscreverArrayVazio() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.write(Stream.empty(), out);
+
+        // Assert
+        assertEquals("[]", out.toString());
+    }
+
+    @Test
+    @DisplayName("Deve reter no máximo o buffer do gerador, em bytes, para 10 mil ou 200 mil produtos")
+    void deveManterMemoriaIndependenteDoTamanho() throws IOException {
+        // Act
+        long small = maxBytesBuffered(products(10_000));
+        long large = maxBytesBuffered(products(200_000));
+
+        // Assert: o que já saiu do stream e não chegou ao OutputStream cabe no buffer do gerador
+        assertTrue(large <= GENERATOR_BUFFER, "bytes retidos: " + large);
+        assertTrue(small <= GENERATOR_BUFFER, "bytes retidos: " + small);
+    }
+
+    @Test
+    @DisplayName("Deve entregar cada produto maior que o buffer antes de pedir o próximo ao stream")
+    void deveEntregarProdutoGrandeAntesDoProximo() throws IOException {
+        // Arrange: cada produto sozinho passa do buffer do gerador
+        String descricao = "x".repeat(2 * GENERATOR_BUFFER);
+        Stream<ProductPublicDTO> grandes = products(50).map(product -> new ProductPublicDTO(product.id(), product.title(),
+                descricao, product.price(), product.imageUrl(), product.productCategory(), product.collaboratorId(),
+                product.collaboratorName()));
+
+        // Act
+        long retidos = maxBytesBuffered(grandes);
+
+        // Assert
+        assertTrue(retidos <= GENERATOR_BUFFER, "bytes retidos: " + retidos);
+    }
+
+    /**
+     * Maior diferença entre os bytes dos produtos que o escritor já tirou do stream (cada um
+     * serializado à parte, mais a vírgula) e os bytes que chegaram ao OutputStream, medida a
+     * cada novo produto pedido.
+     */
+    private long maxBytesBuffered(Stream<ProductPublicDTO> products) throws IOException {
+        long[] serialized = {1}; // '['
+        long[] maxLag = {0};
+        CountingOutputStream out = new CountingOutputStream();
+        Stream<ProductPublicDTO> rows = products.peek(product -> {
+            maxLag[0] = Math.max(maxLag[0], serialized[0] - out.bytes);
+            try {
+                serialized[0] += objectMapper.writeValueAsBytes(product).length + 1;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        writer.write(rows, out);
+
+        assertEquals(serialized[0], out.bytes, "array completo e sem bytes extras");
+        return maxLag[0];
+    }
+
+    private static Stream<ProductPublicDTO> products(int size) {
+        UUID collaboratorId = UUID.randomUUID();
+        return IntStream.range(0, size).mapToObj(i -> new ProductPublicDTO(UUID.randomUUID(), "Produto " + i,
+                "Descrição do produto " + i, 10.0 + i, "http://example.com/" + i + ".png",
+                List.of(ProductCategory.values()).get(i % ProductCategory.values().length), collaboratorId, "João Silva"));
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            this.bytes += length;
+        }
+    }
+}
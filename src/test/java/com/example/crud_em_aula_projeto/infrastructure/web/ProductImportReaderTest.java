@@ -0,0 +1,160 @@
+package com.example.crud_em_aula_projeto.infrastructure.web;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductImportRow;
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ProductImportReader")
+class ProductImportReaderTest {
+
+    private ProductImportReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new ProductImportReader(new ObjectMapper(), 64 * 1024);
+    }
+
+    @Test
+    @DisplayName("Deve ler NDJSON linha a linha, pulando linhas em branco e apontando JSON inválido")
+    void deveLerNdjson() throws IOException {
+        // Arrange
+        String body = """
+                {"title":"Caneca","description":"Cerâmica","price":39.9,"quantity":100,"imageUrl":"http://example.com/c.png","productStatus":"AVAILABLE","productCategory":"HOME_APPLIANCES"}
+
+                {"title":"Quebrado",
+                {"title":"Camiseta","description":"Algodão","price":59.9,"quantity":40,"imageUrl":"http://example.com/t.png","productStatus":"OUT_OF_STOCK","productCategory":"FOOD"}
+                """;
+
+        // Act
+        List<ProductImportRow> rows = read(body, "application/x-ndjson");
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertEquals(1, rows.get(0).line());
+        assertEquals(new ProductRequestDTO("Caneca", "Cerâmica", 39.9, 100, "http://example.com/c.png",
+                ProductStatus.AVAILABLE, ProductCategory.HOME_APPLIANCES), rows.get(0).product());
+        assertEquals(3, rows.get(1).line());
+        assertTrue(rows.get(1).error().startsWith("JSON inválido"));
+        assertEquals(4, rows.get(2).line());
+        assertNotNull(rows.get(2).error(), "categoria inexistente");
+    }
+
+    @Test
+    @DisplayName("Deve ler CSV com colunas em qualquer ordem, aspas, vírgulas e quebras de linha nos campos")
+    void deveLerCsv() throws IOException {
+        // Arrange
+        String body = "productCategory,Title,price,quantity,imageUrl,productStatus,description\r\n"
+                + "books,Livro,49.9,3,http://example.com/l.png,available,\"Capa dura, 2ª edição\"\r\n"
+                + "toys,\"Boneca \"\"Ana\"\"\",abc,1,http://example.com/b.png,AVAILABLE,x\n"
+                + "sports,Bola,30,,http://example.com/o.png,AVAILABLE,\"Linha 1\nLinha 2\"\n"
+                + "\n"
+                + "books,Caderno,12.5,10,http://example.com/c.png,DISCONTINUED,Pautado";
+
+        // Act
+        List<ProductImportRow> rows = read(body, "text/csv; charset=UTF-8");
+
+        // Assert
+        assertEquals(4, rows.size());
+        assertEquals(new ProductRequestDTO("Livro", "Capa dura, 2ª edição", 49.9, 3, "http://example.com/l.png",
+                ProductStatus.AVAILABLE, ProductCategory.BOOKS), rows.get(0).product());
+        assertEquals(2, rows.get(0).line());
+        assertEquals("Valor inválido na coluna 'price': abc", rows.get(1).error());
+        assertEquals("Linha 1\nLinha 2", rows.get(2).product().description());
+        assertNull(rows.get(2).product().quantity(), "célula vazia fica para a validação do DTO");
+        assertEquals(7, rows.get(3).line());
+        assertEquals("Caderno", rows.get(3).product().title());
+    }
+
+    @Test
+    @DisplayName("Deve recusar cabeçalho incompleto e formato não suportado")
+    void deveRecusarCabecalhoEFormatoInvalidos() {
+        assertThrows(BusinessRuleException.class, () -> read("title,price\nLivro,10", "text/csv"));
+        assertThrows(BusinessRuleException.class, () -> read("{}", "application/json"));
+        assertThrows(BusinessRuleException.class, () -> read("{}", null));
+    }
+
+    @Test
+    @DisplayName("Deve recusar como erro de linha a linha NDJSON longa demais e o campo acima de 255 caracteres")
+    void deveRecusarLinhaECampoLongosNoNdjson() throws IOException {
+        // Arrange
+        String valida = "{\"title\":\"Caneca\",\"description\":\"Cerâmica\",\"price\":39.9,\"quantity\":1,"
+                + "\"imageUrl\":\"http://example.com/c.png\",\"productStatus\":\"AVAILABLE\",\"productCategory\":\"BOOKS\"}";
+        String body = "{\"title\":\"" + "x".repeat(ProductImportReader.MAX_LINE_CHARS) + "\"}\n"
+                + "{\"title\":\"" + "x".repeat(ProductImportReader.MAX_FIELD_CHARS + 1) + "\"}\n"
+                + valida + "\n";
+
+        // Act
+        List<ProductImportRow> rows = read(body, "application/x-ndjson");
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertEquals("Linha com mais de 16384 caracteres", rows.get(0).error());
+        assertEquals("Campo com mais de 255 caracteres", rows.get(1).error());
+        assertEquals(3, rows.get(2).line());
+        assertEquals("Caneca", rows.get(2).product().title());
+    }
+
+    @Test
+    @DisplayName("Deve recusar como erro de linha o registro CSV longo demais e o campo acima de 255 caracteres")
+    void deveRecusarRegistroECampoLongosNoCsv() throws IOException {
+        // Arrange
+        String body = "title,description,price,quantity,imageUrl,productStatus,productCategory\n"
+                + "Livro,\"" + "x".repeat(ProductImportReader.MAX_LINE_CHARS) + "\",10,1,http://example.com/l.png,AVAILABLE,BOOKS\n"
+                + "Livro," + "x".repeat(ProductImportReader.MAX_FIELD_CHARS + 1) + ",10,1,http://example.com/l.png,AVAILABLE,BOOKS\n"
+                + "Caderno,Pautado,12.5,10,http://example.com/c.png,AVAILABLE,BOOKS\n";
+
+        // Act
+        List<ProductImportRow> rows = read(body, "text/csv");
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertEquals("Registro com mais de 16384 caracteres", rows.get(0).error());
+        assertEquals("Campo com mais de 255 caracteres", rows.get(1).error());
+        assertEquals(4, rows.get(2).line());
+        assertEquals("Caderno", rows.get(2).product().title());
+    }
+
+    @Test
+    @DisplayName("Deve recusar Content-Length acima do limite e interromper a leitura quando o corpo passa dele")
+    void deveLimitarTamanhoDoCorpo() throws IOException {
+        // Arrange
+        ProductImportReader pequeno = new ProductImportReader(new ObjectMapper(), 200);
+        String linha = "{\"title\":\"Caneca\",\"description\":\"Cerâmica\",\"price\":39.9,\"quantity\":1,"
+                + "\"imageUrl\":\"http://example.com/c.png\",\"productStatus\":\"AVAILABLE\",\"productCategory\":\"BOOKS\"}\n";
+        byte[] body = linha.repeat(50).getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        BusinessRuleException declarado = assertThrows(BusinessRuleException.class, () ->
+                pequeno.read(new ByteArrayInputStream(body), "application/x-ndjson", body.length));
+        assertEquals("Arquivo maior que o limite de 200 bytes", declarado.getMessage());
+
+        Iterator<ProductImportRow> rows = pequeno.read(new ByteArrayInputStream(body), "application/x-ndjson", -1);
+        UncheckedIOException interrompido = assertThrows(UncheckedIOException.class, () -> rows.forEachRemaining(row -> { }));
+        assertTrue(interrompido.getMessage().contains("limite de 200 bytes"), interrompido.getMessage());
+        assertFalse(rows.hasNext());
+    }
+
+    private List<ProductImportRow> read(String body, String contentType) throws IOException {
+        Iterator<ProductImportRow> iterator = reader.read(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), contentType, -1);
+        List<ProductImportRow> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -140,5 +141,66 @@ class AuthControllerIntegrationTest {
                         .content(jsonRequest))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    @Test
+    @DisplayName("Deve renovar a sessão com refresh token rotativo")
+    void deveRenovarSessaoComRefreshToken() throws Exception {
+        // Arrange
+        AuthDTO.TokenResponse login = login();
+
+        // Act & Assert
+        String body = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthDTO.RefreshRequest(login.refreshToken()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isString())
+                .andExpect(jsonPath("$.refreshToken").isString())
+                .andReturn().getResponse().getContentAsString();
+
+        AuthDTO.TokenResponse renewed = objectMapper.readValue(body, AuthDTO.TokenResponse.class);
+        assertNotEquals(login.refreshToken(), renewed.refreshToken());
+    }
+
+    @Test
+    @DisplayName("Deve revogar a família inteira ao reutilizar um refresh token")
+    void deveRevogarFamiliaAoReutilizarRefreshToken() throws Exception {
+        // Arrange
+        AuthDTO.TokenResponse login = login();
+        String body = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthDTO.RefreshRequest(login.refreshToken()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        AuthDTO.TokenResponse renewed = objectMapper.readValue(body, AuthDTO.TokenResponse.class);
+
+        // Act & Assert: reuso do token antigo é recusado...
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthDTO.RefreshRequest(login.refreshToken()))))
+                .andExpect(status().isUnauthorized());
+
+        // ...e derruba também o token legítimo mais novo da mesma família
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthDTO.RefreshRequest(renewed.refreshToken()))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 401 para refresh token desconhecido")
+    void deveRetornar401ParaRefreshTokenDesconhecido() throws Exception {
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthDTO.RefreshRequest("token-inexistente"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private AuthDTO.TokenResponse login() throws Exception {
+        String body = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthDTO.LoginRequest("test@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, AuthDTO.TokenResponse.class);
+    }
+}
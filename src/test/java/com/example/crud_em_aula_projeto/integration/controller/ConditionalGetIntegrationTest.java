@@ -0,0 +1,334 @@
+package com.example.crud_em_aula_projeto.integration.controller;
+
+import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.application.dto.shoppingDTOs.ShoppingItemRequestDTO;
+import com.example.crud_em_aula_projeto.application.service.PublishedCatalog;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.entity.Shopping;
+import com.example.crud_em_aula_projeto.domain.model.entity.ShoppingItem;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.domain.repository.CustomerRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ShoppingItemRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ShoppingRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Sem @Transactional: o snapshot da vitrine e a revisão do carrinho só mudam após o commit,
+ * então as escritas aqui são reais e os dados são apagados ao final de cada teste.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - ETags da vitrine e do carrinho")
+class ConditionalGetIntegrationTest {
+
+    private static final long REFRESH_TIMEOUT_MS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CollaboratorRepository collaboratorRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ShoppingRepository shoppingRepository;
+
+    @Autowired
+    private ShoppingItemRepository shoppingItemRepository;
+
+    @Autowired
+    private PublishedCatalog publishedCatalog;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    private Collaborator collaborator;
+    private Customer customer;
+    private Product product;
+    private String collaboratorToken;
+    private String customerToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transaction = new TransactionTemplate(transactionManager);
+        // E-mails únicos: as credenciais ficam no cache do filtro JWT entre os testes
+        collaborator = collaboratorRepository.save(Collaborator.builder()
+                .name("Colaborador ETag")
+                .email("etag-colaborador-" + UUID.randomUUID() + "@test.com")
+                .passwordHash("hash")
+                .role(Role.COLLABORATOR)
+                .active(true)
+                .build());
+        collaboratorToken = jwtService.generateToken(collaborator.getEmail(), collaborator.getRole().name());
+
+        customer = customerRepository.save(Customer.builder()
+                .name("Cliente ETag")
+                .email("etag-cliente-" + UUID.randomUUID() + "@test.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .active(true)
+                .build());
+        customerToken = jwtService.generateToken(customer.getEmail(), customer.getRole().name());
+
+        product = productRepository.save(Product.builder()
+                .title("Smartphone")
+                .description("Smartphone moderno")
+                .price(2500.0)
+                .quantity(10)
+                .imageUrl("http://example.com/image.jpg")
+                .productStatus(ProductStatus.AVAILABLE)
+                .productCategory(ProductCategory.ELECTRONICS)
+                .collaborator(collaborator)
+                .build());
+
+        // Gravado direto no repositório (sem evento): força a recarga da vitrine
+        long version = catalogVersion();
+        publishedCatalog.requestFullRebuild();
+        awaitCatalogVersionAfter(version);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        shoppingItemRepository.deleteAll();
+        shoppingRepository.deleteAll();
+        productRepository.deleteAll();
+        customerRepository.deleteAll();
+        collaboratorRepository.deleteAll();
+        long version = catalogVersion();
+        publishedCatalog.requestFullRebuild();
+        awaitCatalogVersionAfter(version);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 para a vitrine quando o ETag não mudou")
+    void deveResponder304ParaVitrineInalterada() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/products")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0].title").value("Smartphone"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/products/category/ELECTRONICS")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Deve responder 400, e não 304, para parâmetros inválidos com o ETag atual")
+    void deveValidarParametrosAntesDoETag() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/products")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String queryEtag = mockMvc.perform(get("/api/products").param("sort", "price")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products").param("sort", "preco")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, queryEtag))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("sort", "price").param("after", "cursor-invalido")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, queryEtag))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("after", "cursor-invalido")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("limit", "0")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve trocar o ETag da vitrine após atualizar um produto")
+    void deveTrocarETagDaVitrineAposEscrita() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/products")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        long version = catalogVersion();
+
+        ProductRequestDTO update = new ProductRequestDTO(
+                "Smartphone Atualizado",
+                "Smartphone moderno",
+                2300.0,
+                10,
+                "http://example.com/image.jpg",
+                ProductStatus.AVAILABLE,
+                ProductCategory.ELECTRONICS
+        );
+
+        // Act
+        mockMvc.perform(put("/api/products/" + product.getId())
+                        .header("Authorization", "Bearer " + collaboratorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        awaitCatalogVersionAfter(version);
+
+        // Assert
+        String newEtag = mockMvc.perform(get("/api/products")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Smartphone Atualizado"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 para o carrinho e trocar o ETag após adicionar item")
+    void deveUsarETagNoCarrinho() throws Exception {
+        // Arrange
+        addItem(1);
+        String etag = mockMvc.perform(get("/api/shopping/my-cart")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].quantity").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/shopping/my-cart")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Act
+        addItem(2);
+
+        // Assert
+        mockMvc.perform(get("/api/shopping/my-cart")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].quantity").value(3))
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("Deve trocar o ETag do carrinho com alteração gravada por outro nó")
+    void deveTrocarETagDoCarrinhoComAlteracaoDeOutroNo() throws Exception {
+        // Arrange
+        addItem(1);
+        String etag = mockMvc.perform(get("/api/shopping/my-cart")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act: o outro nó grava direto no banco; este não guarda nada em memória sobre o carrinho
+        transaction.executeWithoutResult(status -> {
+            Shopping shopping = shoppingRepository.findByCustomerId(customer.getId()).orElseThrow();
+            ShoppingItem item = shoppingItemRepository.findByShoppingId(shopping.getId()).get(0);
+            item.setQuantity(5);
+            shoppingItemRepository.save(item);
+            shoppingRepository.incrementRevision(shopping.getId());
+        });
+
+        // Assert
+        String newEtag = mockMvc.perform(get("/api/shopping/my-cart")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].quantity").value(5))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+        assertEquals(1, shoppingRepository.findRevisionByCustomerId(customer.getId()).orElseThrow().revision()
+                - revisionOf(etag));
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 sem ETag quando o cliente não tem carrinho")
+    void deveResponder404SemETagSemCarrinho() throws Exception {
+        mockMvc.perform(get("/api/shopping/my-cart")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    // "cart-<id>.<revisão>-<vitrine>"
+    private static long revisionOf(String etag) {
+        String cart = etag.substring(etag.indexOf('.') + 1);
+        return Long.parseLong(cart.substring(0, cart.indexOf('-')));
+    }
+
+    private void addItem(int quantity) throws Exception {
+        mockMvc.perform(post("/api/shopping-items")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ShoppingItemRequestDTO(product.getId(), quantity))))
+                .andExpect(status().isCreated());
+    }
+
+    private long catalogVersion() {
+        return publishedCatalog.current().map(PublishedCatalog.Snapshot::version).orElse(0L);
+    }
+
+    // A vitrine é atualizada num thread próprio, logo após o commit
+    private void awaitCatalogVersionAfter(long version) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + REFRESH_TIMEOUT_MS;
+        while (catalogVersion() <= version) {
+            assertTrue(System.currentTimeMillis() < deadline, "vitrine não foi atualizada a tempo");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.crud_em_aula_projeto.integration.controller;
 
 import com.example.crud_em_aula_projeto.application.dto.productDTOs.ProductRequestDTO;
+import com.example.crud_em_aula_projeto.application.service.PageCursor;
 import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
 import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
 import com.example.crud_em_aula_projeto.domain.model.entity.Product;
@@ -11,6 +12,7 @@ import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository
 import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
 import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
 import com.example.crud_em_aula_projeto.infrastructure.security.JwtService;
+import com.example.crud_em_aula_projeto.infrastructure.security.UserDetailsCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,8 +24,16 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -55,6 +65,9 @@ class ProductControllerIntegrationTest {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
     private Collaborator collaborator;
     private Collaborator admin;
     private Customer customer;
@@ -338,5 +351,277 @@ class ProductControllerIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isForbidden());
     }
-}
 
+    @Test
+    @DisplayName("Deve paginar meus produtos por cursor até a última página")
+    void devePaginarMeusProdutosPorCursor() throws Exception {
+        // Arrange - 3 produtos do colaborador no total
+        for (String title : List.of("Notebook", "Monitor")) {
+            productRepository.save(Product.builder()
+                    .title(title)
+                    .description("Descrição")
+                    .price(1000.0)
+                    .quantity(3)
+                    .imageUrl("http://example.com/item.jpg")
+                    .productStatus(ProductStatus.AVAILABLE)
+                    .productCategory(ProductCategory.ELECTRONICS)
+                    .collaborator(collaborator)
+                    .build());
+        }
+
+        // Act & Assert
+        String cursor = mockMvc.perform(get("/api/products/my-products").param("limit", "2")
+                        .header("Authorization", "Bearer " + collaboratorToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/products/my-products").param("limit", "2").param("after", cursor)
+                        .header("Authorization", "Bearer " + collaboratorToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("Deve paginar a vitrine quando 'limit' é informado")
+    void devePaginarVitrine() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/products").param("limit", "1")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value(product.getTitle()))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar a vitrine à página padrão sem 'limit' e enviar tudo só com all=true")
+    void deveLimitarVitrineSemLimit() throws Exception {
+        // Arrange: além do produto do setUp, uma página padrão inteira e mais alguns (direto no
+        // repositório, sem passar pelo limite de produtos ativos)
+        List<Product> extras = new ArrayList<>();
+        for (int i = 0; i < PageCursor.DEFAULT_LIMIT + 4; i++) {
+            extras.add(Product.builder().title("Livro " + i).description("Livro de teste").price(10.0 + i).quantity(1)
+                    .imageUrl("http://example.com/l.png").productStatus(ProductStatus.AVAILABLE)
+                    .productCategory(ProductCategory.BOOKS).collaborator(collaborator).build());
+        }
+        productRepository.saveAll(extras);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(PageCursor.DEFAULT_LIMIT))
+                .andExpect(header().exists("X-Next-Cursor"));
+        mockMvc.perform(get("/api/products").param("all", "true")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(PageCursor.DEFAULT_LIMIT + 5))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+        mockMvc.perform(get("/api/products").param("all", "true").param("limit", "10")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("all", "true").param("sort", "price")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cursor inválido ou limite fora do intervalo")
+    void deveRetornar400ParaPaginacaoInvalida() throws Exception {
+        mockMvc.perform(get("/api/products/my-products").param("after", "xyz")
+                        .header("Authorization", "Bearer " + collaboratorToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/my-products").param("limit", "0")
+                        .header("Authorization", "Bearer " + collaboratorToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para ordenação ou filtro inválido na vitrine filtrada")
+    void deveRetornar400ParaFiltroInvalido() throws Exception {
+        mockMvc.perform(get("/api/products").param("sort", "preco")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("category", "FOOD")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("minPrice", "50").param("maxPrice", "10")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve detalhar um produto da vitrine e responder 404 para indisponível")
+    void deveDetalharProduto() throws Exception {
+        // Arrange
+        Product discontinued = productRepository.save(Product.builder()
+                .title("Descontinuado")
+                .description("Fora de linha")
+                .price(10.0)
+                .quantity(0)
+                .imageUrl("http://example.com/old.jpg")
+                .productStatus(ProductStatus.DISCONTINUED)
+                .productCategory(ProductCategory.BOOKS)
+                .collaborator(collaborator)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/" + product.getId())
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(product.getTitle()))
+                .andExpect(jsonPath("$.collaboratorName").value(collaborator.getName()));
+        mockMvc.perform(get("/api/products/" + discontinued.getId())
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve buscar vários produtos por 'ids' na ordem pedida")
+    void deveBuscarProdutosPorIds() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/products").param("ids", UUID.randomUUID() + "," + product.getId())
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(product.getId().toString()));
+        mockMvc.perform(get("/api/products").param("ids", product.getId().toString()).param("limit", "10")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve importar produtos em lote via NDJSON relatando as linhas recusadas")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void deveImportarProdutosEmLoteNdjson() throws Exception {
+        // Arrange: a importação grava em transações próprias (REQUIRES_NEW), então o colaborador
+        // precisa estar confirmado no banco; o teste roda fora da transação e limpa no fim
+        String body = """
+                {"title":"Caneca","description":"Cerâmica","price":39.9,"quantity":100,"imageUrl":"http://example.com/c.png","productStatus":"AVAILABLE","productCategory":"HOME_APPLIANCES"}
+                {"title":"","description":"Sem título","price":10.0,"quantity":1,"imageUrl":"http://example.com/x.png","productStatus":"AVAILABLE","productCategory":"HOME_APPLIANCES"}
+                {"title":"Chaleira","description":"Inox","price":-5,"quantity":3,"imageUrl":"http://example.com/k.png","productStatus":"OUT_OF_STOCK","productCategory":"HOME_APPLIANCES"}
+                {"title":"Panela","description":"Ferro","price":199.0,"quantity":3,"imageUrl":"http://example.com/p.png","productStatus":"OUT_OF_STOCK","productCategory":"HOME_APPLIANCES"}
+                """;
+
+        try {
+            // Act & Assert
+            mockMvc.perform(post("/api/products/bulk")
+                            .header("Authorization", "Bearer " + collaboratorToken)
+                            .contentType("application/x-ndjson")
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(2))
+                    .andExpect(jsonPath("$.failed").value(2))
+                    .andExpect(jsonPath("$.errors[0].line").value(2))
+                    .andExpect(jsonPath("$.errors[0].message").value(startsWith("title: ")))
+                    .andExpect(jsonPath("$.errors[1].line").value(3))
+                    .andExpect(jsonPath("$.interruption").doesNotExist());
+            assertEquals(3,
+                    productRepository.countByCollaboratorIdAndProductStatus(collaborator.getId(), ProductStatus.AVAILABLE)
+                            + productRepository.countByCollaboratorIdAndProductStatus(collaborator.getId(), ProductStatus.OUT_OF_STOCK));
+        } finally {
+            limparBase();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV respeitando o limite de produtos ativos e recusar formato não suportado")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void deveImportarProdutosEmLoteCsv() throws Exception {
+        // Arrange: o colaborador já tem 1 produto AVAILABLE, restam 9 vagas
+        StringBuilder csv = new StringBuilder("title,description,price,quantity,imageUrl,productStatus,productCategory\n");
+        for (int i = 1; i <= 11; i++) {
+            csv.append("Livro ").append(i).append(",\"Capa dura, volume ").append(i)
+                    .append("\",49.9,3,http://example.com/l.png,AVAILABLE,BOOKS\n");
+        }
+
+        try {
+            // Act & Assert
+            mockMvc.perform(post("/api/products/bulk")
+                            .header("Authorization", "Bearer " + collaboratorToken)
+                            .contentType("text/csv")
+                            .content(csv.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(9))
+                    .andExpect(jsonPath("$.failed").value(2))
+                    .andExpect(jsonPath("$.errors[0].line").value(11))
+                    .andExpect(jsonPath("$.errors[0].message").value("Collaborator has reached the limit of 10 active products."));
+            mockMvc.perform(post("/api/products/bulk")
+                            .header("Authorization", "Bearer " + collaboratorToken)
+                            .contentType(MediaType.TEXT_PLAIN)
+                            .content("Livro"))
+                    .andExpect(status().isBadRequest());
+        } finally {
+            limparBase();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar 403 ao USER em /inactive mesmo com o caminho codificado")
+    void deveRetornar403AoListarInativosComCaminhoCodificado() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(URI.create("/api/products/%69nactive"))
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(URI.create("/api/products/%69nactive"))
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar preço e estoque em lote e recusar produto de outro colaborador")
+    void deveAtualizarProdutosEmLote() throws Exception {
+        // Arrange
+        Product outro = productRepository.save(Product.builder()
+                .title("Fone")
+                .description("Fone sem fio")
+                .price(300.0)
+                .quantity(0)
+                .imageUrl("http://example.com/fone.jpg")
+                .productStatus(ProductStatus.OUT_OF_STOCK)
+                .productCategory(ProductCategory.ELECTRONICS)
+                .collaborator(collaborator)
+                .build());
+        String body = """
+                {"items":[
+                  {"productId":"%s","price":2199.9,"quantity":0},
+                  {"productId":"%s","quantity":12}
+                ]}
+                """.formatted(product.getId(), outro.getId());
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/products/bulk")
+                        .header("Authorization", "Bearer " + collaboratorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].price").value(2199.9))
+                .andExpect(jsonPath("$[0].productStatus").value("OUT_OF_STOCK"))
+                .andExpect(jsonPath("$[1].quantity").value(12))
+                .andExpect(jsonPath("$[1].productStatus").value("AVAILABLE"));
+        assertEquals(ProductStatus.AVAILABLE, productRepository.findById(outro.getId()).orElseThrow().getProductStatus());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getQuantity());
+
+        mockMvc.perform(patch("/api/products/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(patch("/api/products/bulk")
+                        .header("Authorization", "Bearer " + collaboratorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"productId\":\"" + product.getId() + "\",\"price\":-1}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Apaga o que os testes fora de transação confirmaram; o cache de credenciais guardou os ids apagados
+    private void limparBase() {
+        productRepository.deleteAll();
+        collaboratorRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        List.of(collaborator.getEmail(), admin.getEmail(), customer.getEmail()).forEach(userDetailsCache::invalidate);
+    }
+}
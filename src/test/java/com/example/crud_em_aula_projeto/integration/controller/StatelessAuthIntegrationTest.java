@@ -0,0 +1,96 @@
+package com.example.crud_em_aula_projeto.integration.controller;
+
+import com.example.crud_em_aula_projeto.application.dto.AuthDTO;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
+import com.example.crud_em_aula_projeto.infrastructure.security.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Modo stateless: o filtro monta o principal só pelos claims, sem ler o banco. A desativação
+ * precisa valer mesmo assim, pela versão dos tokens e pela recusa do login.
+ */
+@SpringBootTest(properties = "security.jwt.stateless=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração - Autenticação stateless")
+class StatelessAuthIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CollaboratorRepository collaboratorRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private Collaborator collaborator;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        // E-mail único: as credenciais ficam no cache do filtro JWT entre os testes
+        collaborator = collaboratorRepository.save(Collaborator.builder()
+                .name("Colaborador Stateless")
+                .email("stateless-" + UUID.randomUUID() + "@test.com")
+                .passwordHash(passwordEncoder.encode("password123"))
+                .role(Role.COLLABORATOR)
+                .active(true)
+                .build());
+        adminToken = jwtService.generateToken(UUID.randomUUID(), "admin-stateless@test.com", Role.ADMIN.name(), 0L);
+    }
+
+    @Test
+    @DisplayName("Deve barrar o colaborador desativado no login e nas requisições com o token antigo")
+    void deveBarrarColaboradorDesativado() throws Exception {
+        // Arrange
+        String body = login().andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readValue(body, AuthDTO.TokenResponse.class).token();
+        mockMvc.perform(get("/api/products/my-products").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Act
+        mockMvc.perform(patch("/api/collaborators/" + collaborator.getId() + "/deactivate")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        login().andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/products/my-products").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions login() throws Exception {
+        return mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AuthDTO.LoginRequest(collaborator.getEmail(), "password123"))));
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.crud_em_aula_projeto.integration.repository;
+
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
+import com.example.crud_em_aula_projeto.domain.model.entity.Order;
+import com.example.crud_em_aula_projeto.domain.model.entity.OrderItem;
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.enuns.OrderStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductSales;
+import com.example.crud_em_aula_projeto.domain.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - OrderRepository")
+class OrderRepositoryIntegrationTest {
+
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID MAX_ID = new UUID(-1, -1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Customer customer;
+    private Collaborator collaborator;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        customer = entityManager.persistAndFlush(Customer.builder()
+                .name("Maria Souza")
+                .email("maria@test.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .role(Role.USER)
+                .active(true)
+                .build());
+        collaborator = entityManager.persistAndFlush(Collaborator.builder()
+                .name("João Silva")
+                .email("joao@test.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .role(Role.COLLABORATOR)
+                .active(true)
+                .build());
+        product = entityManager.persistAndFlush(Product.builder()
+                .title("Smartphone")
+                .description("Smartphone moderno")
+                .price(2500.0)
+                .quantity(10)
+                .imageUrl("http://example.com/phone.jpg")
+                .productStatus(ProductStatus.AVAILABLE)
+                .productCategory(ProductCategory.ELECTRONICS)
+                .collaborator(collaborator)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer os pedidos do cliente por keyset, mais recentes primeiro, desempatando por id")
+    void devePercorrerPedidosPorKeyset() {
+        // Arrange - dois pedidos no mesmo instante exercitam o desempate por id
+        LocalDateTime base = LocalDateTime.of(2026, 5, 1, 10, 0);
+        List<Order> orders = List.of(order(base), order(base.plusMinutes(1)), order(base.plusMinutes(1)), order(base.plusMinutes(2)));
+        entityManager.clear();
+        List<UUID> expected = orders.stream()
+                .sorted(Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId, this::compareAsDatabase).reversed())
+                .map(Order::getId)
+                .toList();
+
+        // Act
+        List<UUID> visited = new ArrayList<>();
+        LocalDateTime at = MAX_TIME;
+        UUID id = MAX_ID;
+        List<Order> page;
+        do {
+            page = orderRepository.findPageByCustomerIdBefore(customer.getId(), at, id, Limit.of(3));
+            for (Order order : page.subList(0, Math.min(2, page.size()))) {
+                visited.add(order.getId());
+                at = order.getCreatedAt();
+                id = order.getId();
+            }
+        } while (page.size() > 2);
+
+        // Assert
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    @DisplayName("Deve paginar as vendas do colaborador sem repetir pedidos com vários itens")
+    void devePaginarVendasSemRepetir() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2026, 5, 1, 10, 0);
+        Order older = order(base);
+        Order newer = order(base.plusHours(1));
+        entityManager.clear();
+
+        // Act
+        List<Order> first = orderRepository.findPageByCollaboratorIdBefore(collaborator.getId(), MAX_TIME, MAX_ID, Limit.of(1));
+        List<Order> second = orderRepository.findPageByCollaboratorIdBefore(collaborator.getId(),
+                first.get(0).getCreatedAt(), first.get(0).getId(), Limit.of(2));
+
+        // Assert
+        assertEquals(List.of(newer.getId()), first.stream().map(Order::getId).toList());
+        assertEquals(List.of(older.getId()), second.stream().map(Order::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve somar as unidades vendidas por produto ignorando pedidos cancelados")
+    void deveSomarUnidadesVendidas() {
+        // Arrange - cada pedido tem dois itens de 1 unidade
+        LocalDateTime base = LocalDateTime.of(2026, 5, 1, 10, 0);
+        order(base);
+        order(base.plusMinutes(1));
+        Order cancelled = order(base.plusMinutes(2));
+        cancelled.setStatus(OrderStatus.CANCELLED);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<ProductSales> all = orderRepository.sumUnitsSold(OrderStatus.CANCELLED);
+        List<ProductSales> some = orderRepository.sumUnitsSoldByProductIdIn(OrderStatus.CANCELLED, List.of(product.getId()));
+        List<ProductSales> none = orderRepository.sumUnitsSoldByProductIdIn(OrderStatus.CANCELLED, List.of(UUID.randomUUID()));
+
+        // Assert
+        assertEquals(List.of(new ProductSales(product.getId(), 4L)), all);
+        assertEquals(all, some);
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices compostos usados pela paginação")
+    void deveCriarIndicesDaPaginacao() {
+        // Act
+        List<?> indexes = entityManager.getEntityManager().createNativeQuery(
+                        "SELECT DISTINCT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE LOWER(INDEX_NAME) LIKE 'idx_%'")
+                .getResultList();
+
+        // Assert
+        assertTrue(indexes.containsAll(List.of("idx_orders_created_id", "idx_orders_customer_created_id",
+                "idx_products_status_id", "idx_products_collaborator_id", "idx_usuarios_active_id")), indexes.toString());
+    }
+
+    private Order order(LocalDateTime createdAt) {
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setStatus(OrderStatus.PENDING);
+        // Dois itens do mesmo colaborador: o JOIN das vendas devolve o pedido duas vezes sem o DISTINCT
+        for (int i = 0; i < 2; i++) {
+            order.getItems().add(OrderItem.builder().order(order).product(product).quantity(1).unitPrice(2500.0).build());
+        }
+        entityManager.persistAndFlush(order);
+        order.setCreatedAt(createdAt); // @PrePersist usa o relógio; aqui o instante é fixado
+        entityManager.flush();
+        return order;
+    }
+
+    // Mesma ordem do banco: bytes sem sinal
+    private int compareAsDatabase(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
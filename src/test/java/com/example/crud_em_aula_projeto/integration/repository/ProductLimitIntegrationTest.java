@@ -0,0 +1,107 @@
+package com.example.crud_em_aula_projeto.integration.repository;
+
+import com.example.crud_em_aula_projeto.domain.exception.BusinessRuleException;
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Product;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
+import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.service.ProductDomainService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ProductDomainService.class)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Limite de produtos ativos")
+class ProductLimitIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    private Statistics statistics;
+    private Collaborator collaborator;
+    private int created;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        collaborator = entityManager.persistAndFlush(Collaborator.builder()
+                .name("João Silva")
+                .email("joao@test.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .role(Role.COLLABORATOR)
+                .active(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Deve validar o limite com um único SELECT, qualquer que seja o histórico do colaborador")
+    void deveValidarLimiteComConsultaConstante() {
+        // Arrange: 9 ativos; o histórico cresce só com esgotados e descontinuados
+        persistProdutos(9, ProductStatus.AVAILABLE);
+
+        for (int historico : new int[]{0, 100, 1_000}) {
+            persistProdutos(historico / 2, ProductStatus.OUT_OF_STOCK);
+            persistProdutos(historico - historico / 2, ProductStatus.DISCONTINUED);
+            statistics.clear();
+
+            // Act
+            assertDoesNotThrow(() -> productDomainService.validateProductLimit(collaborator));
+
+            // Assert
+            assertEquals(1, statistics.getPrepareStatementCount(), "statements com histórico de " + historico);
+            assertEquals(0, statistics.getEntityLoadCount(), "entidades carregadas com histórico de " + historico);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve barrar o décimo primeiro ativo sem contar os esgotados")
+    void deveBarrarAoAtingirLimiteSemContarEsgotados() {
+        // Arrange
+        persistProdutos(9, ProductStatus.AVAILABLE);
+        persistProdutos(5, ProductStatus.OUT_OF_STOCK);
+        assertDoesNotThrow(() -> productDomainService.validateProductLimit(collaborator));
+        assertEquals(1, productDomainService.remainingActiveSlots(collaborator));
+
+        // Act
+        persistProdutos(1, ProductStatus.AVAILABLE);
+
+        // Assert
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class, () ->
+                productDomainService.validateProductLimit(collaborator));
+        assertEquals("Collaborator has reached the limit of 10 active products.", exception.getMessage());
+        assertEquals(0, productDomainService.remainingActiveSlots(collaborator));
+    }
+
+    private void persistProdutos(int quantidade, ProductStatus status) {
+        for (int i = 0; i < quantidade; i++, created++) {
+            entityManager.persist(Product.builder()
+                    .title("Produto " + created)
+                    .description("Descrição do produto " + created)
+                    .price(100.0)
+                    .quantity(status == ProductStatus.OUT_OF_STOCK ? 0 : 10)
+                    .imageUrl("http://example.com/image" + created + ".jpg")
+                    .productStatus(status)
+                    .productCategory(ProductCategory.ELECTRONICS)
+                    .collaborator(collaborator)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
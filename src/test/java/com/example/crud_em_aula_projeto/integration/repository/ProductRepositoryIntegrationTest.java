@@ -5,8 +5,13 @@ import com.example.crud_em_aula_projeto.domain.model.entity.Product;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductCategory;
 import com.example.crud_em_aula_projeto.domain.model.enuns.ProductStatus;
 import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.model.projection.CatalogProduct;
+import com.example.crud_em_aula_projeto.domain.model.projection.CollaboratorProduct;
+import com.example.crud_em_aula_projeto.domain.model.projection.ProductStock;
 import com.example.crud_em_aula_projeto.domain.repository.CollaboratorRepository;
 import com.example.crud_em_aula_projeto.domain.repository.ProductRepository;
+import com.example.crud_em_aula_projeto.domain.repository.ProductStockRepository.StockChange;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -88,19 +94,19 @@ class ProductRepositoryIntegrationTest {
     @DisplayName("Deve encontrar todos os produtos por status")
     void deveEncontrarProdutosPorStatus() {
         // Act
-        List<Product> produtos = productRepository.findAllByProductStatus(ProductStatus.AVAILABLE);
+        List<CatalogProduct> produtos = productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE);
 
         // Assert
         assertNotNull(produtos);
         assertEquals(2, produtos.size());
-        assertTrue(produtos.stream().allMatch(p -> p.getProductStatus() == ProductStatus.AVAILABLE));
+        assertFalse(produtos.stream().anyMatch(p -> p.id().equals(product3.getId())));
     }
 
     @Test
     @DisplayName("Deve encontrar produtos por categoria e status")
     void deveEncontrarProdutosPorCategoriaEStatus() {
         // Act
-        List<Product> produtos = productRepository.findAllByProductCategoryAndProductStatus(
+        List<CatalogProduct> produtos = productRepository.findPublicByProductCategoryAndProductStatus(
                 ProductCategory.ELECTRONICS,
                 ProductStatus.AVAILABLE
         );
@@ -108,9 +114,7 @@ class ProductRepositoryIntegrationTest {
         // Assert
         assertNotNull(produtos);
         assertEquals(2, produtos.size());
-        assertTrue(produtos.stream().allMatch(p -> 
-                p.getProductCategory() == ProductCategory.ELECTRONICS &&
-                p.getProductStatus() == ProductStatus.AVAILABLE));
+        assertTrue(produtos.stream().allMatch(p -> p.productCategory() == ProductCategory.ELECTRONICS));
     }
 
     @Test
@@ -130,7 +134,7 @@ class ProductRepositoryIntegrationTest {
     @DisplayName("Deve encontrar produtos por colaborador e status")
     void deveEncontrarProdutosPorColaboradorEStatus() {
         // Act
-        List<Product> produtos = productRepository.findAllByCollaboratorIdAndProductStatusIn(
+        List<CollaboratorProduct> produtos = productRepository.findMyProductsByCollaboratorIdAndProductStatusIn(
                 collaborator.getId(),
                 List.of(ProductStatus.AVAILABLE, ProductStatus.OUT_OF_STOCK)
         );
@@ -138,39 +142,45 @@ class ProductRepositoryIntegrationTest {
         // Assert
         assertNotNull(produtos);
         assertEquals(2, produtos.size());
-        assertTrue(produtos.stream().allMatch(p -> 
-                p.getCollaborator().getId().equals(collaborator.getId()) &&
-                (p.getProductStatus() == ProductStatus.AVAILABLE || 
-                 p.getProductStatus() == ProductStatus.OUT_OF_STOCK)));
+        assertTrue(produtos.stream().allMatch(p ->
+                p.productStatus() == ProductStatus.AVAILABLE ||
+                p.productStatus() == ProductStatus.OUT_OF_STOCK));
+    }
+
+    @Test
+    @DisplayName("Deve contar só os produtos ativos do colaborador")
+    void deveContarProdutosAtivosDoColaborador() {
+        // Act & Assert: o descontinuado (product3) fica de fora
+        assertEquals(2, productRepository.countByCollaboratorIdAndProductStatus(collaborator.getId(), ProductStatus.AVAILABLE));
+        assertEquals(0, productRepository.countByCollaboratorIdAndProductStatus(UUID.randomUUID(), ProductStatus.AVAILABLE));
     }
 
     @Test
     @DisplayName("Deve encontrar produtos por múltiplos status")
     void deveEncontrarProdutosPorMultiplosStatus() {
         // Act
-        List<Product> produtos = productRepository.findAllByProductStatusIn(
+        List<CollaboratorProduct> produtos = productRepository.findMyProductsByProductStatusIn(
                 List.of(ProductStatus.DISCONTINUED)
         );
 
         // Assert
         assertNotNull(produtos);
         assertEquals(1, produtos.size());
-        assertEquals(ProductStatus.DISCONTINUED, produtos.get(0).getProductStatus());
+        assertEquals(ProductStatus.DISCONTINUED, produtos.get(0).productStatus());
     }
 
     @Test
-    @DisplayName("Deve carregar colaborador junto com produto (JOIN FETCH)")
+    @DisplayName("Deve trazer o colaborador junto com produto na mesma consulta")
     void deveCarregarColaboradorComProduto() {
         // Act
-        List<Product> produtos = productRepository.findAllByProductStatus(ProductStatus.AVAILABLE);
+        List<CatalogProduct> produtos = productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE);
 
         // Assert
         assertNotNull(produtos);
         assertFalse(produtos.isEmpty());
-        Product produto = produtos.get(0);
-        assertNotNull(produto.getCollaborator());
-        assertNotNull(produto.getCollaborator().getName());
-        assertEquals("João Silva", produto.getCollaborator().getName());
+        CatalogProduct produto = produtos.get(0);
+        assertEquals(collaborator.getId(), produto.collaboratorId());
+        assertEquals("João Silva", produto.collaboratorName());
     }
 
     @Test
@@ -229,5 +239,96 @@ class ProductRepositoryIntegrationTest {
         // Assert
         assertFalse(productRepository.findById(product1.getId()).isPresent());
     }
-}
 
+    @Test
+    @DisplayName("Deve projetar produtos públicos sem entidades gerenciadas")
+    void deveProjetarProdutosPublicosNoDTO() {
+        // Arrange
+        entityManager.clear();
+
+        // Act
+        List<CatalogProduct> produtos = productRepository.findPublicByProductStatus(ProductStatus.AVAILABLE);
+
+        // Assert
+        assertEquals(2, produtos.size());
+        assertTrue(produtos.stream().allMatch(p ->
+                p.collaboratorId().equals(collaborator.getId()) && p.collaboratorName().equals("João Silva")));
+        assertEquals(0, entityManager.getEntityManager().unwrap(SessionImplementor.class)
+                .getPersistenceContext().getNumberOfManagedEntities());
+    }
+
+    @Test
+    @DisplayName("Deve projetar os produtos do colaborador com estoque e status")
+    void deveProjetarProdutosDoColaborador() {
+        // Act
+        List<CollaboratorProduct> produtos = productRepository.findMyProductsByCollaboratorIdAndProductStatusIn(
+                collaborator.getId(),
+                List.of(ProductStatus.AVAILABLE, ProductStatus.OUT_OF_STOCK)
+        );
+
+        // Assert
+        assertEquals(2, produtos.size());
+        assertTrue(produtos.stream().allMatch(p -> p.productStatus() == ProductStatus.AVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Deve projetar só os produtos pedidos que continuam disponíveis")
+    void deveProjetarProdutosPorIdEStatus() {
+        // Act
+        List<CatalogProduct> produtos = productRepository.findPublicByIdInAndProductStatus(
+                List.of(product1.getId(), product3.getId()), ProductStatus.AVAILABLE);
+
+        // Assert
+        assertEquals(1, produtos.size());
+        assertEquals(product1.getId(), produtos.get(0).id());
+    }
+
+    @Test
+    @DisplayName("Deve gravar preço, estoque e status de vários produtos num único UPDATE")
+    void deveAtualizarEstoqueEmMassa() {
+        // Arrange
+        List<ProductStock> atual = productRepository.findStockByIdIn(List.of(product1.getId(), product2.getId()));
+        assertEquals(2, atual.size());
+        assertTrue(atual.stream().allMatch(stock -> stock.collaboratorId().equals(collaborator.getId())));
+
+        // Act
+        int atualizados = productRepository.updateStock(List.of(
+                new StockChange(product1.getId(), 1999.0, 0, ProductStatus.OUT_OF_STOCK),
+                new StockChange(product2.getId(), 4500.0, 7, null)));
+
+        // Assert
+        assertEquals(2, atualizados);
+        Product smartphone = productRepository.findById(product1.getId()).orElseThrow();
+        assertEquals(1999.0, smartphone.getPrice());
+        assertEquals(0, smartphone.getQuantity());
+        assertEquals(ProductStatus.OUT_OF_STOCK, smartphone.getProductStatus());
+        Product notebook = productRepository.findById(product2.getId()).orElseThrow();
+        assertEquals(4500.0, notebook.getPrice());
+        assertEquals(7, notebook.getQuantity());
+        assertEquals(ProductStatus.AVAILABLE, notebook.getProductStatus());
+        Product livro = productRepository.findById(product3.getId()).orElseThrow();
+        assertEquals(50.0, livro.getPrice());
+    }
+
+    @Test
+    @DisplayName("Deve preservar a quantidade alterada entre a leitura e um reajuste só de preço")
+    void devePreservarQuantidadeAlteradaNoMeioDoReajuste() {
+        // Arrange: o lote lê o estado atual...
+        ProductStock lido = productRepository.findStockByIdIn(List.of(product1.getId())).get(0);
+        assertEquals(10, lido.quantity());
+        // ...e um checkout baixa o estoque antes do UPDATE do lote
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE products SET quantity = quantity - 4 WHERE id = :id")
+                .setParameter("id", product1.getId())
+                .executeUpdate();
+
+        // Act
+        productRepository.updateStock(List.of(new StockChange(product1.getId(), 1999.0, null, null)));
+
+        // Assert
+        Product smartphone = productRepository.findById(product1.getId()).orElseThrow();
+        assertEquals(1999.0, smartphone.getPrice());
+        assertEquals(6, smartphone.getQuantity());
+        assertEquals(ProductStatus.AVAILABLE, smartphone.getProductStatus());
+    }
+}
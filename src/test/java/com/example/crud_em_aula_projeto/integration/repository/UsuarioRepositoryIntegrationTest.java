@@ -0,0 +1,92 @@
+package com.example.crud_em_aula_projeto.integration.repository;
+
+import com.example.crud_em_aula_projeto.domain.model.entity.Collaborator;
+import com.example.crud_em_aula_projeto.domain.model.entity.Customer;
+import com.example.crud_em_aula_projeto.domain.model.enuns.Role;
+import com.example.crud_em_aula_projeto.domain.model.projection.UsuarioCredentials;
+import com.example.crud_em_aula_projeto.domain.repository.UsuarioRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.crud_em_aula_projeto.integration.repository.UsuarioRepositoryIntegrationTest$SqlRecorder")
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - UsuarioRepository")
+class UsuarioRepositoryIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(Collaborator.builder()
+                .name("João Silva")
+                .email("joao@test.com")
+                .passwordHash("$2a$10$hashedPassword1")
+                .role(Role.COLLABORATOR)
+                .active(true)
+                .build());
+        entityManager.persist(Customer.builder()
+                .name("Maria Santos")
+                .email("maria@test.com")
+                .passwordHash("$2a$10$hashedPassword2")
+                .role(Role.USER)
+                .active(false)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        SqlRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Deve buscar credenciais lendo só a tabela usuarios, sem joins")
+    void deveBuscarCredenciaisSemJoins() {
+        // Act
+        Optional<UsuarioCredentials> credentials = usuarioRepository.findCredentialsByEmail("joao@test.com");
+
+        // Assert
+        assertTrue(credentials.isPresent());
+        assertEquals("$2a$10$hashedPassword1", credentials.get().passwordHash());
+        assertEquals(Role.COLLABORATOR, credentials.get().role());
+        assertTrue(credentials.get().isActive());
+
+        assertEquals(1, SqlRecorder.STATEMENTS.size());
+        String sql = SqlRecorder.STATEMENTS.get(0).toLowerCase(Locale.ROOT);
+        assertFalse(sql.contains(" join "), sql);
+        assertFalse(sql.contains("customers"), sql);
+        assertFalse(sql.contains("collaborators"), sql);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para email não cadastrado")
+    void deveRetornarVazioParaEmailNaoCadastrado() {
+        assertTrue(usuarioRepository.findCredentialsByEmail("ninguem@test.com").isEmpty());
+        assertFalse(usuarioRepository.findCredentialsByEmail("maria@test.com").orElseThrow().isActive());
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}